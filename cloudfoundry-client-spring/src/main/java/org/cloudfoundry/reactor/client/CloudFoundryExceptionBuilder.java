@@ -18,6 +18,7 @@ package org.cloudfoundry.reactor.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.client.v2.CloudFoundryException;
+import org.cloudfoundry.reactor.util.Compression;
 import org.springframework.web.client.HttpStatusCodeException;
 import reactor.core.publisher.Mono;
 import reactor.core.util.Exceptions;
@@ -63,6 +64,7 @@ public final class CloudFoundryExceptionBuilder {
     @SuppressWarnings("unchecked")
     public static <T> Mono<T> build(HttpException cause) {
         return cause.getChannel().receive().aggregate().toInputStream()
+            .map(in -> Compression.decompress(cause.getChannel(), in))
             .then(in -> {
                 try {
                     Map<String, ?> response = OBJECT_MAPPER.readValue(in, Map.class);
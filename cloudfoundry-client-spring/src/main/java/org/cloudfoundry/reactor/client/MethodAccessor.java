@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * A compiled accessor for the value of a no-argument method.  The {@link Method} is resolved to a {@link MethodHandle} once, so that reading the value does no reflective lookups.
+ */
+public final class MethodAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final MethodHandle methodHandle;
+
+    private MethodAccessor(MethodHandle methodHandle) {
+        this.methodHandle = methodHandle;
+    }
+
+    /**
+     * Creates a new accessor for a method
+     *
+     * @param method the method to access
+     * @return the accessor for the method
+     */
+    public static MethodAccessor of(Method method) {
+        ReflectionUtils.makeAccessible(method);
+
+        try {
+            return new MethodAccessor(MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("Unable to access method %s", method), e);
+        }
+    }
+
+    /**
+     * Returns the value of the method for an instance
+     *
+     * @param instance the instance to invoke the method on
+     * @return the value returned by the method
+     */
+    public Object get(Object instance) {
+        try {
+            return this.methodHandle.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+}
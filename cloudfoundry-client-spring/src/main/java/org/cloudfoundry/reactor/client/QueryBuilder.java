@@ -17,13 +17,14 @@
 package org.cloudfoundry.reactor.client;
 
 import org.cloudfoundry.QueryParameter;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.ReflectionUtils;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -31,39 +32,62 @@ import java.util.stream.Collectors;
  */
 public final class QueryBuilder {
 
+    private static final ClassValue<BiConsumer<UriBuilder, Object>> AUGMENTERS = new ClassValue<BiConsumer<UriBuilder, Object>>() {
+
+        @Override
+        protected BiConsumer<UriBuilder, Object> computeValue(Class<?> type) {
+            return compile(type);
+        }
+
+    };
+
     private QueryBuilder() {
     }
 
     /**
-     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link QueryParameter}
+     * Augments a {@link UriBuilder} with queries based on the methods annotated with {@link QueryParameter}
      *
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
      */
-    public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+    public static void augment(UriBuilder builder, Object instance) {
+        AUGMENTERS.get(instance.getClass()).accept(builder, instance);
+    }
+
+    private static BiConsumer<UriBuilder, Object> compile(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
         Arrays.sort(methods, MethodNameComparator.INSTANCE);
 
+        BiConsumer<UriBuilder, Object> augmenter = (builder, instance) -> {
+        };
+
         for (Method method : methods) {
             QueryParameter queryParameter = AnnotationUtils.getAnnotation(method, QueryParameter.class);
             if (queryParameter == null) {
                 continue;
             }
 
-            ReflectionUtils.makeAccessible(method);
-            Object value = ReflectionUtils.invokeMethod(method, instance);
+            augmenter = augmenter.andThen(compile(queryParameter.value(), MethodAccessor.of(method)));
+        }
+
+        return augmenter;
+    }
+
+    private static BiConsumer<UriBuilder, Object> compile(String name, MethodAccessor accessor) {
+        return (builder, instance) -> {
+            Object value = accessor.get(instance);
 
             if (value != null) {
 
                 if (value instanceof Collection) {
-                    builder.queryParam(queryParameter.value(), ((Collection<?>) value).stream()
+                    builder.queryParam(name, ((Collection<?>) value).stream()
                         .map(Object::toString)
                         .collect(Collectors.joining(",")));
                 } else {
-                    builder.queryParam(queryParameter.value(), value);
+                    builder.queryParam(name, value);
                 }
             }
-        }
+        };
     }
 
 }
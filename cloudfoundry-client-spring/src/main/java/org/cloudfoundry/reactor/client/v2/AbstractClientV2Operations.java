@@ -21,45 +21,57 @@ import org.cloudfoundry.reactor.client.CloudFoundryExceptionBuilder;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.reactor.util.MultipartHttpOutbound;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.cloudfoundry.reactor.util.PaginationPolicy;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpException;
 import reactor.io.netty.http.HttpInbound;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 public abstract class AbstractClientV2Operations extends AbstractReactorOperations {
 
     private final ObjectMapper objectMapper;
 
+    private final Optional<PaginationPolicy> paginationPolicy;
+
     protected AbstractClientV2Operations(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
         super(authorizationProvider, httpClient, objectMapper, root);
         this.objectMapper = objectMapper;
+        this.paginationPolicy = Optional.empty();
+    }
+
+    protected AbstractClientV2Operations(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+        this.objectMapper = connectionContext.getObjectMapper();
+        this.paginationPolicy = connectionContext.getPaginationPolicy();
     }
 
-    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doDelete(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> get(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return doGet(responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
+    protected final <T> Mono<T> get(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
+        return doSharedGet(responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final Mono<HttpInbound> get(Object request, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final Mono<HttpInbound> get(Object request, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doGet(getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPost(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                      Function<MultipartHttpOutbound, Mono<Void>> requestTransformer) {
 
         return doPost(responseType, getUriAugmenter(request, uriTransformer),
@@ -67,12 +79,12 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPut(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                     Function<MultipartHttpOutbound, Mono<Void>> requestTransformer) {
 
         return doPut(responseType, getUriAugmenter(request, uriTransformer),
@@ -80,10 +92,11 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    private static Function<UriComponentsBuilder, UriComponentsBuilder> getUriAugmenter(Object request, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    private Function<UriBuilder, UriBuilder> getUriAugmenter(Object request, Function<UriBuilder, UriBuilder> uriTransformer) {
         return builder -> {
             FilterBuilder.augment(builder, request);
             QueryBuilder.augment(builder, request);
+            this.paginationPolicy.ifPresent(paginationPolicy -> paginationPolicy.augment(builder, request));
             return uriTransformer.apply(builder);
         };
     }
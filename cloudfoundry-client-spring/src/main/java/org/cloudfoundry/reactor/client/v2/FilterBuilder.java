@@ -17,18 +17,20 @@
 package org.cloudfoundry.reactor.client.v2;
 
 import org.cloudfoundry.client.v2.FilterParameter;
+import org.cloudfoundry.reactor.client.MethodAccessor;
 import org.cloudfoundry.reactor.client.MethodNameComparator;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -36,43 +38,65 @@ import java.util.stream.Collectors;
  */
 public final class FilterBuilder {  // TODO: reduce visibility once Spring is gone
 
+    private static final ClassValue<BiConsumer<UriBuilder, Object>> AUGMENTERS = new ClassValue<BiConsumer<UriBuilder, Object>>() {
+
+        @Override
+        protected BiConsumer<UriBuilder, Object> computeValue(Class<?> type) {
+            return compile(type);
+        }
+
+    };
+
     private FilterBuilder() {
     }
 
     /**
-     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link FilterParameter}
+     * Augments a {@link UriBuilder} with queries based on the methods annotated with {@link FilterParameter}
      *
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
      */
-    public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+    public static void augment(UriBuilder builder, Object instance) {
+        AUGMENTERS.get(instance.getClass()).accept(builder, instance);
+    }
+
+    private static BiConsumer<UriBuilder, Object> compile(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
         Arrays.sort(methods, MethodNameComparator.INSTANCE);
 
+        BiConsumer<UriBuilder, Object> augmenter = (builder, instance) -> {
+        };
+
         for (Method method : methods) {
             for (Annotation annotation : AnnotationUtils.getAnnotations(method)) {
-                if (AnnotationUtils.isAnnotationMetaPresent(annotation.getClass(), FilterParameter.class)) {
-                    Object value = getValue(method, instance);
+                if (AnnotationUtils.isAnnotationMetaPresent(annotation.annotationType(), FilterParameter.class)) {
+                    FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
 
-                    if (value != null) {
-                        FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
-
-                        Object name = AnnotationUtils.getValue(annotation);
-                        String operation = filterParameter.operator();
-
-                        builder.queryParam("q", String.format("%s%s%s", name, operation, value));
-                    }
+                    Object name = AnnotationUtils.getValue(annotation);
+                    String operation = filterParameter.operator();
 
+                    augmenter = augmenter.andThen(compile(String.format("%s%s", name, operation), MethodAccessor.of(method)));
                     break;
                 }
             }
         }
+
+        return augmenter;
+    }
+
+    private static BiConsumer<UriBuilder, Object> compile(String prefix, MethodAccessor accessor) {
+        return (builder, instance) -> {
+            Object value = getValue(accessor, instance);
+
+            if (value != null) {
+                builder.queryParam("q", prefix + value);
+            }
+        };
     }
 
     @SuppressWarnings("unchecked")
-    private static Object getValue(Method method, Object instance) {
-        ReflectionUtils.makeAccessible(method);
-        Object value = ReflectionUtils.invokeMethod(method, instance);
+    private static Object getValue(MethodAccessor accessor, Object instance) {
+        Object value = accessor.get(instance);
 
         if (!(value instanceof Collection)) {
             return value;
@@ -17,6 +17,7 @@
 package org.cloudfoundry.reactor.client.v2.applications;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.client.DownloadProgress;
 import org.cloudfoundry.client.v2.applications.ApplicationEnvironmentRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationEnvironmentResponse;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesRequest;
@@ -54,11 +55,15 @@ import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UploadApplicationResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.FileDownload;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpInbound;
 
+import java.nio.file.Path;
+
 /**
  * The Reactor-based implementation of {@link ApplicationsV2}
  */
@@ -76,14 +81,27 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorApplicationsV2(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<AssociateApplicationRouteResponse> associateRoute(AssociateApplicationRouteRequest request) {
-        return put(request, AssociateApplicationRouteResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "routes", request.getRouteId()));
+        return put(request, AssociateApplicationRouteResponse.class, builder -> builder
+            .pathSegment("v2", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("routes").pathVariable("id", request.getRouteId()));
     }
 
     @Override
     public Mono<CopyApplicationResponse> copy(CopyApplicationRequest request) {
-        return post(request, CopyApplicationResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "copy_bits"));
+        return post(request, CopyApplicationResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("copy_bits"));
     }
 
     @Override
@@ -93,34 +111,44 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
 
     @Override
     public Mono<Void> delete(DeleteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
     public Flux<byte[]> download(DownloadApplicationRequest request) {
-        return get(request, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "download"))
+        return get(request, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("download"))
             .flatMap(HttpInbound::receiveByteArray);
     }
 
+    @Override
+    public Flux<DownloadProgress> download(DownloadApplicationRequest request, Path path) {
+        return FileDownload.write(get(request, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("download")), path);
+    }
+
     @Override
     public Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request) {
-        return get(request, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "droplet", "download"))
+        return get(request, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("droplet", "download"))
             .flatMap(HttpInbound::receiveByteArray);
     }
 
+    @Override
+    public Flux<DownloadProgress> downloadDroplet(DownloadApplicationDropletRequest request, Path path) {
+        return FileDownload.write(get(request, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("droplet", "download")), path);
+    }
+
     @Override
     public Mono<ApplicationEnvironmentResponse> environment(ApplicationEnvironmentRequest request) {
-        return get(request, ApplicationEnvironmentResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "env"));
+        return get(request, ApplicationEnvironmentResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("env"));
     }
 
     @Override
     public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId()));
+        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
     public Mono<ApplicationInstancesResponse> instances(ApplicationInstancesRequest request) {
-        return get(request, ApplicationInstancesResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "instances"));
+        return get(request, ApplicationInstancesResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("instances"));
     }
 
     @Override
@@ -130,52 +158,56 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
 
     @Override
     public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "routes"));
+        return get(request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("routes"));
     }
 
     @Override
     public Mono<ListApplicationServiceBindingsResponse> listServiceBindings(ListApplicationServiceBindingsRequest request) {
-        return get(request, ListApplicationServiceBindingsResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "service_bindings"));
+        return get(request, ListApplicationServiceBindingsResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("service_bindings"));
     }
 
     @Override
     public Mono<Void> removeRoute(RemoveApplicationRouteRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "routes", request.getRouteId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("routes").pathVariable("id", request.getRouteId()));
     }
 
     @Override
     public Mono<Void> removeServiceBinding(RemoveApplicationServiceBindingRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "service_bindings", request.getServiceBindingId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("service_bindings").pathVariable("id", request.getServiceBindingId()));
     }
 
     @Override
     public Mono<RestageApplicationResponse> restage(RestageApplicationRequest request) {
-        return post(request, RestageApplicationResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "restage"));
+        return post(request, RestageApplicationResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("restage"));
     }
 
     @Override
     public Mono<ApplicationStatisticsResponse> statistics(ApplicationStatisticsRequest request) {
-        return get(request, ApplicationStatisticsResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "stats"));
+        return get(request, ApplicationStatisticsResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("stats"));
     }
 
     @Override
     public Mono<SummaryApplicationResponse> summary(SummaryApplicationRequest request) {
-        return get(request, SummaryApplicationResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "summary"));
+        return get(request, SummaryApplicationResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("summary"));
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "instances", request.getIndex()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("instances").pathVariable("index", request.getIndex()));
     }
 
     @Override
     public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
-        return put(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId()));
+        return put(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
     public Mono<UploadApplicationResponse> upload(UploadApplicationRequest request) {
-        return put(request, UploadApplicationResponse.class, builder -> builder.pathSegment("v2", "apps", request.getApplicationId(), "bits"),
+        return put(request, UploadApplicationResponse.class, builder -> builder.pathSegment("v2", "apps").pathVariable("id", request.getApplicationId()).pathSegment("bits"),
             outbound -> outbound
                 .addPart(part -> part.setContentDispositionFormData("resources")
                     .addHeader(CONTENT_TYPE, APPLICATION_JSON)
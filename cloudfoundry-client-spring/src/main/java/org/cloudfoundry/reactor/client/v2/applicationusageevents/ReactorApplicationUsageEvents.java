@@ -25,6 +25,7 @@ import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEve
 import org.cloudfoundry.client.v2.applicationusageevents.PurgeAndReseedApplicationUsageEventsRequest;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -45,9 +46,20 @@ public final class ReactorApplicationUsageEvents extends AbstractClientV2Operati
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorApplicationUsageEvents(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<GetApplicationUsageEventResponse> get(GetApplicationUsageEventRequest request) {
-        return get(request, GetApplicationUsageEventResponse.class, builder -> builder.pathSegment("v2", "app_usage_events", request.getApplicationUsageEventId()));
+        return get(request, GetApplicationUsageEventResponse.class, builder -> builder.pathSegment("v2", "app_usage_events").pathVariable("id", request.getApplicationUsageEventId()));
     }
 
     @Override
@@ -32,6 +32,7 @@ import org.cloudfoundry.client.v2.buildpacks.UploadBuildpackRequest;
 import org.cloudfoundry.client.v2.buildpacks.UploadBuildpackResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -52,6 +53,17 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorBuildpacks(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateBuildpackResponse> create(CreateBuildpackRequest request) {
         return post(request, CreateBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks"));
@@ -59,12 +71,12 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
 
     @Override
     public Mono<DeleteBuildpackResponse> delete(DeleteBuildpackRequest request) {
-        return delete(request, DeleteBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks", request.getBuildpackId()));
+        return delete(request, DeleteBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks").pathVariable("id", request.getBuildpackId()));
     }
 
     @Override
     public Mono<GetBuildpackResponse> get(GetBuildpackRequest request) {
-        return get(request, GetBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks", request.getBuildpackId()));
+        return get(request, GetBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks").pathVariable("id", request.getBuildpackId()));
     }
 
     @Override
@@ -74,13 +86,13 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
 
     @Override
     public Mono<UpdateBuildpackResponse> update(UpdateBuildpackRequest request) {
-        return put(request, UpdateBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks", request.getBuildpackId()));
+        return put(request, UpdateBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks").pathVariable("id", request.getBuildpackId()));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public Mono<UploadBuildpackResponse> upload(UploadBuildpackRequest request) {
-        return put(request, UploadBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks", request.getBuildpackId(), "bits"),
+        return put(request, UploadBuildpackResponse.class, builder -> builder.pathSegment("v2", "buildpacks").pathVariable("id", request.getBuildpackId()).pathSegment("bits"),
             outbound -> outbound
                 .addPart(part -> part.setContentDispositionFormData("buildpack", request.getFilename())
                     .addHeader(CONTENT_TYPE, APPLICATION_ZIP)
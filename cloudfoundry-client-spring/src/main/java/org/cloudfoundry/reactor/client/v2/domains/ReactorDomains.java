@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.domains.ListDomainsRequest;
 import org.cloudfoundry.client.v2.domains.ListDomainsResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -50,6 +51,17 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorDomains(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateDomainResponse> create(CreateDomainRequest request) {
         return post(request, CreateDomainResponse.class, builder -> builder.pathSegment("v2", "domains"));
@@ -57,12 +69,12 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
 
     @Override
     public Mono<DeleteDomainResponse> delete(DeleteDomainRequest request) {
-        return delete(request, DeleteDomainResponse.class, builder -> builder.pathSegment("v2", "domains", request.getDomainId()));
+        return delete(request, DeleteDomainResponse.class, builder -> builder.pathSegment("v2", "domains").pathVariable("id", request.getDomainId()));
     }
 
     @Override
     public Mono<GetDomainResponse> get(GetDomainRequest request) {
-        return get(request, GetDomainResponse.class, builder -> builder.pathSegment("v2", "domains", request.getDomainId()));
+        return get(request, GetDomainResponse.class, builder -> builder.pathSegment("v2", "domains").pathVariable("id", request.getDomainId()));
     }
 
     @Override
@@ -72,7 +84,7 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
 
     @Override
     public Mono<ListDomainSpacesResponse> listSpaces(ListDomainSpacesRequest request) {
-        return get(request, ListDomainSpacesResponse.class, builder -> builder.pathSegment("v2", "domains", request.getDomainId(), "spaces"));
+        return get(request, ListDomainSpacesResponse.class, builder -> builder.pathSegment("v2", "domains").pathVariable("id", request.getDomainId()).pathSegment("spaces"));
     }
 
 }
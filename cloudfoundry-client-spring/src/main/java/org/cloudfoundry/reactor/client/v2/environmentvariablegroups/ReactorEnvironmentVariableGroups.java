@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.environmentvariablegroups.UpdateStagingEnviron
 import org.cloudfoundry.client.v2.environmentvariablegroups.UpdateStagingEnvironmentVariablesResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -48,6 +49,17 @@ public final class ReactorEnvironmentVariableGroups extends AbstractClientV2Oper
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorEnvironmentVariableGroups(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<GetRunningEnvironmentVariablesResponse> getRunningEnvironmentVariables(GetRunningEnvironmentVariablesRequest request) {
         return get(request, GetRunningEnvironmentVariablesResponse.class, builder -> builder.pathSegment("v2", "config", "environment_variable_groups", "running"));
@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.jobs.GetJobResponse;
 import org.cloudfoundry.client.v2.jobs.Jobs;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -42,9 +43,20 @@ public final class ReactorJobs extends AbstractClientV2Operations implements Job
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorJobs(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<GetJobResponse> get(GetJobRequest request) {
-        return get(request, GetJobResponse.class, builder -> builder.pathSegment("v2", "jobs", request.getJobId()));
+        return get(request, GetJobResponse.class, builder -> builder.pathSegment("v2", "jobs").pathVariable("id", request.getJobId()));
     }
 
 }
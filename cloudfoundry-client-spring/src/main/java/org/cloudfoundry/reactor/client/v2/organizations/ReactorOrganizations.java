@@ -83,6 +83,7 @@ import org.cloudfoundry.client.v2.organizations.UpdateOrganizationRequest;
 import org.cloudfoundry.client.v2.organizations.UpdateOrganizationResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -103,51 +104,76 @@ public final class ReactorOrganizations extends AbstractClientV2Operations imple
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorOrganizations(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<AssociateOrganizationAuditorResponse> associateAuditor(AssociateOrganizationAuditorRequest request) {
-        return put(request, AssociateOrganizationAuditorResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "auditors", request.getAuditorId()));
+        return put(request, AssociateOrganizationAuditorResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("auditors").pathVariable("id", request.getAuditorId()));
     }
 
     @Override
     public Mono<AssociateOrganizationAuditorByUsernameResponse> associateAuditorByUsername(AssociateOrganizationAuditorByUsernameRequest request) {
-        return put(request, AssociateOrganizationAuditorByUsernameResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "auditors"));
+        return put(request, AssociateOrganizationAuditorByUsernameResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("auditors"));
     }
 
     @Override
     public Mono<AssociateOrganizationBillingManagerResponse> associateBillingManager(AssociateOrganizationBillingManagerRequest request) {
         return put(request, AssociateOrganizationBillingManagerResponse.class,
-            builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()));
+            builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("billing_managers").pathVariable("id", request.getBillingManagerId()));
     }
 
     @Override
     public Mono<AssociateOrganizationBillingManagerByUsernameResponse> associateBillingManagerByUsername(AssociateOrganizationBillingManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "billing_managers"));
+        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("billing_managers"));
     }
 
     @Override
     public Mono<AssociateOrganizationManagerResponse> associateManager(AssociateOrganizationManagerRequest request) {
-        return put(request, AssociateOrganizationManagerResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "managers", request.getManagerId()));
+        return put(request, AssociateOrganizationManagerResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("managers").pathVariable("id", request.getManagerId()));
     }
 
     @Override
     public Mono<AssociateOrganizationManagerByUsernameResponse> associateManagerByUsername(AssociateOrganizationManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationManagerByUsernameResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "managers"));
+        return put(request, AssociateOrganizationManagerByUsernameResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("managers"));
     }
 
     @Override
     public Mono<AssociateOrganizationPrivateDomainResponse> associatePrivateDomain(AssociateOrganizationPrivateDomainRequest request) {
         return put(request, AssociateOrganizationPrivateDomainResponse.class,
-            builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()));
+            builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("private_domains").pathVariable("id", request.getPrivateDomainId()));
     }
 
     @Override
     public Mono<AssociateOrganizationUserResponse> associateUser(AssociateOrganizationUserRequest request) {
-        return put(request, AssociateOrganizationUserResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "users", request.getUserId()));
+        return put(request, AssociateOrganizationUserResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("users").pathVariable("id", request.getUserId()));
     }
 
     @Override
     public Mono<AssociateOrganizationUserByUsernameResponse> associateUserByUsername(AssociateOrganizationUserByUsernameRequest request) {
-        return put(request, AssociateOrganizationUserByUsernameResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "users"));
+        return put(request, AssociateOrganizationUserByUsernameResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("users"));
     }
 
     @Override
@@ -157,27 +183,31 @@ public final class ReactorOrganizations extends AbstractClientV2Operations imple
 
     @Override
     public Mono<DeleteOrganizationResponse> delete(DeleteOrganizationRequest request) {
-        return delete(request, DeleteOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId()));
+        return delete(request, DeleteOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()));
     }
 
     @Override
     public Mono<GetOrganizationResponse> get(GetOrganizationRequest request) {
-        return get(request, GetOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId()));
+        return get(request, GetOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()));
     }
 
     @Override
     public Mono<GetOrganizationInstanceUsageResponse> getInstanceUsage(GetOrganizationInstanceUsageRequest request) {
-        return get(request, GetOrganizationInstanceUsageResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "instance_usage"));
+        return get(request, GetOrganizationInstanceUsageResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("instance_usage"));
     }
 
     @Override
     public Mono<GetOrganizationMemoryUsageResponse> getMemoryUsage(GetOrganizationMemoryUsageRequest request) {
-        return get(request, GetOrganizationMemoryUsageResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "memory_usage"));
+        return get(request, GetOrganizationMemoryUsageResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("memory_usage"));
     }
 
     @Override
     public Mono<GetOrganizationUserRolesResponse> getUserRoles(GetOrganizationUserRolesRequest request) {
-        return get(request, GetOrganizationUserRolesResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "user_roles"));
+        return get(request, GetOrganizationUserRolesResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("user_roles"));
     }
 
     @Override
@@ -187,102 +217,118 @@ public final class ReactorOrganizations extends AbstractClientV2Operations imple
 
     @Override
     public Mono<ListOrganizationAuditorsResponse> listAuditors(ListOrganizationAuditorsRequest request) {
-        return get(request, ListOrganizationAuditorsResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "auditors"));
+        return get(request, ListOrganizationAuditorsResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("auditors"));
     }
 
     @Override
     public Mono<ListOrganizationBillingManagersResponse> listBillingManagers(ListOrganizationBillingManagersRequest request) {
-        return get(request, ListOrganizationBillingManagersResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "billing_managers"));
+        return get(request, ListOrganizationBillingManagersResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("billing_managers"));
     }
 
     @Override
     public Mono<ListOrganizationDomainsResponse> listDomains(ListOrganizationDomainsRequest request) {
-        return get(request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "domains"));
+        return get(request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("domains"));
     }
 
     @Override
     public Mono<ListOrganizationManagersResponse> listManagers(ListOrganizationManagersRequest request) {
-        return get(request, ListOrganizationManagersResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "managers"));
+        return get(request, ListOrganizationManagersResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("managers"));
     }
 
     @Override
     public Mono<ListOrganizationPrivateDomainsResponse> listPrivateDomains(ListOrganizationPrivateDomainsRequest request) {
-        return get(request, ListOrganizationPrivateDomainsResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "private_domains"));
+        return get(request, ListOrganizationPrivateDomainsResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("private_domains"));
     }
 
     @Override
     public Mono<ListOrganizationServicesResponse> listServices(ListOrganizationServicesRequest request) {
-        return get(request, ListOrganizationServicesResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "services"));
+        return get(request, ListOrganizationServicesResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("services"));
     }
 
     @Override
     public Mono<ListOrganizationSpaceQuotaDefinitionsResponse> listSpaceQuotaDefinitions(ListOrganizationSpaceQuotaDefinitionsRequest request) {
-        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "space_quota_definitions"));
+        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("space_quota_definitions"));
     }
 
     @Override
     public Mono<ListOrganizationSpacesResponse> listSpaces(ListOrganizationSpacesRequest request) {
-        return get(request, ListOrganizationSpacesResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "spaces"));
+        return get(request, ListOrganizationSpacesResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("spaces"));
     }
 
     @Override
     public Mono<ListOrganizationUsersResponse> listUsers(ListOrganizationUsersRequest request) {
-        return get(request, ListOrganizationUsersResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "users"));
+        return get(request, ListOrganizationUsersResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("users"));
     }
 
     @Override
     public Mono<Void> removeAuditor(RemoveOrganizationAuditorRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "auditors", request.getAuditorId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("auditors").pathVariable("id", request.getAuditorId()));
     }
 
     @Override
     public Mono<Void> removeAuditorByUsername(RemoveOrganizationAuditorByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "auditors"));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("auditors"));
     }
 
     @Override
     public Mono<Void> removeBillingManager(RemoveOrganizationBillingManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("billing_managers").pathVariable("id", request.getBillingManagerId()));
     }
 
     @Override
     public Mono<Void> removeBillingManagerByUsername(RemoveOrganizationBillingManagerByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "billing_managers"));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("billing_managers"));
     }
 
     @Override
     public Mono<Void> removeManager(RemoveOrganizationManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "managers", request.getManagerId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("managers").pathVariable("id", request.getManagerId()));
     }
 
     @Override
     public Mono<Void> removeManagerByUsername(RemoveOrganizationManagerByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "managers"));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("managers"));
     }
 
     @Override
     public Mono<Void> removePrivateDomain(RemoveOrganizationPrivateDomainRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("private_domains").pathVariable("id", request.getPrivateDomainId()));
     }
 
     @Override
     public Mono<Void> removeUser(RemoveOrganizationUserRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "users", request.getUserId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId())
+            .pathSegment("users").pathVariable("id", request.getUserId()));
     }
 
     @Override
     public Mono<Void> removeUserByUsername(RemoveOrganizationUserByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "users"));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("users"));
     }
 
     @Override
     public Mono<SummaryOrganizationResponse> summary(SummaryOrganizationRequest request) {
-        return get(request, SummaryOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId(), "summary"));
+        return get(request, SummaryOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()).pathSegment("summary"));
     }
 
     @Override
     public Mono<UpdateOrganizationResponse> update(UpdateOrganizationRequest request) {
-        return put(request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations", request.getOrganizationId()));
+        return put(request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("v2", "organizations").pathVariable("id", request.getOrganizationId()));
     }
 
 }
@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsResponse;
 import org.cloudfoundry.client.v2.routemappings.RouteMappings;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -48,6 +49,17 @@ public final class ReactorRouteMappings extends AbstractClientV2Operations imple
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorRouteMappings(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateRouteMappingResponse> create(CreateRouteMappingRequest request) {
         return post(request, CreateRouteMappingResponse.class, builder -> builder.pathSegment("v2", "route_mappings"));
@@ -55,12 +67,12 @@ public final class ReactorRouteMappings extends AbstractClientV2Operations imple
 
     @Override
     public Mono<DeleteRouteMappingResponse> delete(DeleteRouteMappingRequest request) {
-        return delete(request, DeleteRouteMappingResponse.class, builder -> builder.pathSegment("v2", "route_mappings", request.getRouteMappingId()));
+        return delete(request, DeleteRouteMappingResponse.class, builder -> builder.pathSegment("v2", "route_mappings").pathVariable("id", request.getRouteMappingId()));
     }
 
     @Override
     public Mono<GetRouteMappingResponse> get(GetRouteMappingRequest request) {
-        return get(request, GetRouteMappingResponse.class, builder -> builder.pathSegment("v2", "route_mappings", request.getRouteMappingId()));
+        return get(request, GetRouteMappingResponse.class, builder -> builder.pathSegment("v2", "route_mappings").pathVariable("id", request.getRouteMappingId()));
     }
 
     @Override
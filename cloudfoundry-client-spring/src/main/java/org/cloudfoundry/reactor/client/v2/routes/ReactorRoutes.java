@@ -36,6 +36,7 @@ import org.cloudfoundry.client.v2.routes.UpdateRouteRequest;
 import org.cloudfoundry.client.v2.routes.UpdateRouteResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.util.ExceptionUtils;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
@@ -59,9 +60,22 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorRoutes(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<AssociateRouteApplicationResponse> associateApplication(AssociateRouteApplicationRequest request) {
-        return put(request, AssociateRouteApplicationResponse.class, builder -> builder.pathSegment("v2", "routes", request.getRouteId(), "apps", request.getApplicationId()));
+        return put(request, AssociateRouteApplicationResponse.class, builder -> builder
+            .pathSegment("v2", "routes").pathVariable("id", request.getRouteId())
+            .pathSegment("apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
@@ -71,19 +85,21 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     @Override
     public Mono<DeleteRouteResponse> delete(DeleteRouteRequest request) {
-        return delete(request, DeleteRouteResponse.class, builder -> builder.pathSegment("v2", "routes", request.getRouteId()));
+        return delete(request, DeleteRouteResponse.class, builder -> builder.pathSegment("v2", "routes").pathVariable("id", request.getRouteId()));
     }
 
     @Override
     public Mono<Boolean> exists(RouteExistsRequest request) {
-        return get(request, Boolean.class, builder -> builder.pathSegment("v2", "routes", "reserved", "domain", request.getDomainId(), "host", request.getHost()))
+        return get(request, Boolean.class, builder -> builder
+            .pathSegment("v2", "routes", "reserved", "domain").pathVariable("id", request.getDomainId())
+            .pathSegment("host").pathVariable("host", request.getHost()))
             .defaultIfEmpty(true)
             .otherwise(ExceptionUtils.statusCode(CF_NOT_FOUND), t -> Mono.just(false));
     }
 
     @Override
     public Mono<GetRouteResponse> get(GetRouteRequest request) {
-        return get(request, GetRouteResponse.class, builder -> builder.pathSegment("v2", "routes", request.getRouteId()));
+        return get(request, GetRouteResponse.class, builder -> builder.pathSegment("v2", "routes").pathVariable("id", request.getRouteId()));
     }
 
     @Override
@@ -93,17 +109,17 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     @Override
     public Mono<ListRouteApplicationsResponse> listApplications(ListRouteApplicationsRequest request) {
-        return get(request, ListRouteApplicationsResponse.class, builder -> builder.pathSegment("v2", "routes", request.getRouteId(), "apps"));
+        return get(request, ListRouteApplicationsResponse.class, builder -> builder.pathSegment("v2", "routes").pathVariable("id", request.getRouteId()).pathSegment("apps"));
     }
 
     @Override
     public Mono<Void> removeApplication(RemoveRouteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "routes", request.getRouteId(), "apps", request.getApplicationId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "routes").pathVariable("id", request.getRouteId()).pathSegment("apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
     public Mono<UpdateRouteResponse> update(UpdateRouteRequest request) {
-        return put(request, UpdateRouteResponse.class, builder -> builder.pathSegment("v2", "routes", request.getRouteId()));
+        return put(request, UpdateRouteResponse.class, builder -> builder.pathSegment("v2", "routes").pathVariable("id", request.getRouteId()));
     }
 
 }
@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.securitygroups.SetSecurityGroupStagingDefaultR
 import org.cloudfoundry.client.v2.securitygroups.SetSecurityGroupStagingDefaultResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -50,14 +51,25 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorSecurityGroups(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<Void> deleteRunningDefault(DeleteSecurityGroupRunningDefaultRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "config", "running_security_groups", request.getSecurityGroupRunningDefaultId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "config", "running_security_groups").pathVariable("id", request.getSecurityGroupRunningDefaultId()));
     }
 
     @Override
     public Mono<Void> deleteStagingDefault(DeleteSecurityGroupStagingDefaultRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "config", "staging_security_groups", request.getSecurityGroupStagingDefaultId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "config", "staging_security_groups").pathVariable("id", request.getSecurityGroupStagingDefaultId()));
     }
 
     @Override
@@ -72,12 +84,14 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
 
     @Override
     public Mono<SetSecurityGroupRunningDefaultResponse> setRunningDefault(SetSecurityGroupRunningDefaultRequest request) {
-        return put(request, SetSecurityGroupRunningDefaultResponse.class, builder -> builder.pathSegment("v2", "config", "running_security_groups", request.getSecurityGroupRunningDefaultId()));
+        return put(request, SetSecurityGroupRunningDefaultResponse.class, builder -> builder
+            .pathSegment("v2", "config", "running_security_groups").pathVariable("id", request.getSecurityGroupRunningDefaultId()));
     }
 
     @Override
     public Mono<SetSecurityGroupStagingDefaultResponse> setStagingDefault(SetSecurityGroupStagingDefaultRequest request) {
-        return put(request, SetSecurityGroupStagingDefaultResponse.class, builder -> builder.pathSegment("v2", "config", "staging_security_groups", request.getSecurityGroupStagingDefaultId()));
+        return put(request, SetSecurityGroupStagingDefaultResponse.class, builder -> builder
+            .pathSegment("v2", "config", "staging_security_groups").pathVariable("id", request.getSecurityGroupStagingDefaultId()));
     }
 
 }
@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.servicebindings.ListServiceBindingsResponse;
 import org.cloudfoundry.client.v2.servicebindings.ServiceBindingsV2;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -48,6 +49,17 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations i
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServiceBindingsV2(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateServiceBindingResponse> create(CreateServiceBindingRequest request) {
         return post(request, CreateServiceBindingResponse.class, builder -> builder.pathSegment("v2", "service_bindings"));
@@ -55,12 +67,12 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations i
 
     @Override
     public Mono<DeleteServiceBindingResponse> delete(DeleteServiceBindingRequest request) {
-        return delete(request, DeleteServiceBindingResponse.class, builder -> builder.pathSegment("v2", "service_bindings", request.getServiceBindingId()));
+        return delete(request, DeleteServiceBindingResponse.class, builder -> builder.pathSegment("v2", "service_bindings").pathVariable("id", request.getServiceBindingId()));
     }
 
     @Override
     public Mono<GetServiceBindingResponse> get(GetServiceBindingRequest request) {
-        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("v2", "service_bindings", request.getServiceBindingId()));
+        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("v2", "service_bindings").pathVariable("id", request.getServiceBindingId()));
     }
 
     @Override
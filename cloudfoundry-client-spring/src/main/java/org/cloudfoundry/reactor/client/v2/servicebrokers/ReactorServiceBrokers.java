@@ -29,6 +29,7 @@ import org.cloudfoundry.client.v2.servicebrokers.UpdateServiceBrokerRequest;
 import org.cloudfoundry.client.v2.servicebrokers.UpdateServiceBrokerResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -49,6 +50,17 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations impl
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServiceBrokers(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateServiceBrokerResponse> create(CreateServiceBrokerRequest request) {
         return post(request, CreateServiceBrokerResponse.class, builder -> builder.pathSegment("v2", "service_brokers"));
@@ -56,12 +68,12 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations impl
 
     @Override
     public Mono<Void> delete(DeleteServiceBrokerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "service_brokers", request.getServiceBrokerId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "service_brokers").pathVariable("id", request.getServiceBrokerId()));
     }
 
     @Override
     public Mono<GetServiceBrokerResponse> get(GetServiceBrokerRequest request) {
-        return get(request, GetServiceBrokerResponse.class, builder -> builder.pathSegment("v2", "service_brokers", request.getServiceBrokerId()));
+        return get(request, GetServiceBrokerResponse.class, builder -> builder.pathSegment("v2", "service_brokers").pathVariable("id", request.getServiceBrokerId()));
     }
 
     @Override
@@ -71,7 +83,7 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations impl
 
     @Override
     public Mono<UpdateServiceBrokerResponse> update(UpdateServiceBrokerRequest request) {
-        return put(request, UpdateServiceBrokerResponse.class, builder -> builder.pathSegment("v2", "service_brokers", request.getServiceBrokerId()));
+        return put(request, UpdateServiceBrokerResponse.class, builder -> builder.pathSegment("v2", "service_brokers").pathVariable("id", request.getServiceBrokerId()));
     }
 
 }
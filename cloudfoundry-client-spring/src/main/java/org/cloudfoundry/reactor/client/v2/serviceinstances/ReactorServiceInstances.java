@@ -38,6 +38,7 @@ import org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest;
 import org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -58,9 +59,22 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations im
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServiceInstances(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<BindServiceInstanceToRouteResponse> bindToRoute(BindServiceInstanceToRouteRequest request) {
-        return put(request, BindServiceInstanceToRouteResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId(), "routes", request.getRouteId()));
+        return put(request, BindServiceInstanceToRouteResponse.class, builder -> builder
+            .pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId())
+            .pathSegment("routes").pathVariable("id", request.getRouteId()));
     }
 
     @Override
@@ -70,17 +84,19 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations im
 
     @Override
     public Mono<DeleteServiceInstanceResponse> delete(DeleteServiceInstanceRequest request) {
-        return delete(request, DeleteServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId()));
+        return delete(request, DeleteServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId()));
     }
 
     @Override
     public Mono<GetServiceInstanceResponse> get(GetServiceInstanceRequest request) {
-        return get(request, GetServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId()));
+        return get(request, GetServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId()));
     }
 
     @Override
     public Mono<GetServiceInstancePermissionsResponse> getPermissions(GetServiceInstancePermissionsRequest request) {
-        return get(request, GetServiceInstancePermissionsResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId(), "permissions"));
+        return get(request, GetServiceInstancePermissionsResponse.class, builder -> builder
+            .pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId())
+            .pathSegment("permissions"));
     }
 
     @Override
@@ -90,17 +106,21 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations im
 
     @Override
     public Mono<ListServiceInstanceServiceBindingsResponse> listServiceBindings(ListServiceInstanceServiceBindingsRequest request) {
-        return get(request, ListServiceInstanceServiceBindingsResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId(), "service_bindings"));
+        return get(request, ListServiceInstanceServiceBindingsResponse.class, builder -> builder
+            .pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId())
+            .pathSegment("service_bindings"));
     }
 
     @Override
     public Mono<ListServiceInstanceServiceKeysResponse> listServiceKeys(ListServiceInstanceServiceKeysRequest request) {
-        return get(request, ListServiceInstanceServiceKeysResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId(), "service_keys"));
+        return get(request, ListServiceInstanceServiceKeysResponse.class, builder -> builder
+            .pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId())
+            .pathSegment("service_keys"));
     }
 
     @Override
     public Mono<UpdateServiceInstanceResponse> update(UpdateServiceInstanceRequest request) {
-        return put(request, UpdateServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "service_instances", request.getServiceInstanceId()));
+        return put(request, UpdateServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "service_instances").pathVariable("id", request.getServiceInstanceId()));
     }
 
 }
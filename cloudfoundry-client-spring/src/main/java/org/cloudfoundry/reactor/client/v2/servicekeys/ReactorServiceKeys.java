@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.servicekeys.ListServiceKeysResponse;
 import org.cloudfoundry.client.v2.servicekeys.ServiceKeys;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -48,6 +49,17 @@ public final class ReactorServiceKeys extends AbstractClientV2Operations impleme
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServiceKeys(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateServiceKeyResponse> create(CreateServiceKeyRequest request) {
         return post(request, CreateServiceKeyResponse.class, builder -> builder.pathSegment("v2", "service_keys"));
@@ -55,12 +67,12 @@ public final class ReactorServiceKeys extends AbstractClientV2Operations impleme
 
     @Override
     public Mono<Void> delete(DeleteServiceKeyRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "service_keys", request.getServiceKeyId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "service_keys").pathVariable("id", request.getServiceKeyId()));
     }
 
     @Override
     public Mono<GetServiceKeyResponse> get(GetServiceKeyRequest request) {
-        return get(request, GetServiceKeyResponse.class, builder -> builder.pathSegment("v2", "service_keys", request.getServiceKeyId()));
+        return get(request, GetServiceKeyResponse.class, builder -> builder.pathSegment("v2", "service_keys").pathVariable("id", request.getServiceKeyId()));
     }
 
     @Override
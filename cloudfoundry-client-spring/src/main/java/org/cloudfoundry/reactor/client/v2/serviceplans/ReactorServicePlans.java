@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v2.serviceplans.UpdateServicePlanRequest;
 import org.cloudfoundry.client.v2.serviceplans.UpdateServicePlanResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -51,14 +52,25 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServicePlans(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<DeleteServicePlanResponse> delete(DeleteServicePlanRequest request) {
-        return delete(request, DeleteServicePlanResponse.class, builder -> builder.pathSegment("v2", "service_plans", request.getServicePlanId()));
+        return delete(request, DeleteServicePlanResponse.class, builder -> builder.pathSegment("v2", "service_plans").pathVariable("id", request.getServicePlanId()));
     }
 
     @Override
     public Mono<GetServicePlanResponse> get(GetServicePlanRequest request) {
-        return get(request, GetServicePlanResponse.class, builder -> builder.pathSegment("v2", "service_plans", request.getServicePlanId()));
+        return get(request, GetServicePlanResponse.class, builder -> builder.pathSegment("v2", "service_plans").pathVariable("id", request.getServicePlanId()));
     }
 
     @Override
@@ -69,12 +81,12 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
     @Override
     public Mono<ListServicePlanServiceInstancesResponse> listServiceInstances(ListServicePlanServiceInstancesRequest request) {
         return get(request, ListServicePlanServiceInstancesResponse.class,
-            builder -> builder.pathSegment("v2", "service_plans", request.getServicePlanId(), "service_instances"));
+            builder -> builder.pathSegment("v2", "service_plans").pathVariable("id", request.getServicePlanId()).pathSegment("service_instances"));
     }
 
     @Override
     public Mono<UpdateServicePlanResponse> update(UpdateServicePlanRequest request) {
-        return put(request, UpdateServicePlanResponse.class, builder -> builder.pathSegment("v2", "service_plans", request.getServicePlanId()));
+        return put(request, UpdateServicePlanResponse.class, builder -> builder.pathSegment("v2", "service_plans").pathVariable("id", request.getServicePlanId()));
     }
 
 }
@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v2.serviceplanvisibilities.UpdateServicePlanVisib
 import org.cloudfoundry.client.v2.serviceplanvisibilities.UpdateServicePlanVisibilityResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -51,6 +52,17 @@ public final class ReactorServicePlanVisibilities extends AbstractClientV2Operat
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServicePlanVisibilities(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateServicePlanVisibilityResponse> create(CreateServicePlanVisibilityRequest request) {
         return post(request, CreateServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities"));
@@ -58,12 +70,12 @@ public final class ReactorServicePlanVisibilities extends AbstractClientV2Operat
 
     @Override
     public Mono<DeleteServicePlanVisibilityResponse> delete(DeleteServicePlanVisibilityRequest request) {
-        return delete(request, DeleteServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities", request.getServicePlanVisibilityId()));
+        return delete(request, DeleteServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities").pathVariable("id", request.getServicePlanVisibilityId()));
     }
 
     @Override
     public Mono<GetServicePlanVisibilityResponse> get(GetServicePlanVisibilityRequest request) {
-        return get(request, GetServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities", request.getServicePlanVisibilityId()));
+        return get(request, GetServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities").pathVariable("id", request.getServicePlanVisibilityId()));
     }
 
     @Override
@@ -73,7 +85,7 @@ public final class ReactorServicePlanVisibilities extends AbstractClientV2Operat
 
     @Override
     public Mono<UpdateServicePlanVisibilityResponse> update(UpdateServicePlanVisibilityRequest request) {
-        return put(request, UpdateServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities", request.getServicePlanVisibilityId()));
+        return put(request, UpdateServicePlanVisibilityResponse.class, builder -> builder.pathSegment("v2", "service_plan_visibilities").pathVariable("id", request.getServicePlanVisibilityId()));
     }
 
 }
@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.services.ListServicesResponse;
 import org.cloudfoundry.client.v2.services.Services;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -49,14 +50,25 @@ public final class ReactorServices extends AbstractClientV2Operations implements
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServices(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<DeleteServiceResponse> delete(DeleteServiceRequest request) {
-        return delete(request, DeleteServiceResponse.class, builder -> builder.pathSegment("v2", "services", request.getServiceId()));
+        return delete(request, DeleteServiceResponse.class, builder -> builder.pathSegment("v2", "services").pathVariable("id", request.getServiceId()));
     }
 
     @Override
     public Mono<GetServiceResponse> get(GetServiceRequest request) {
-        return get(request, GetServiceResponse.class, builder -> builder.pathSegment("v2", "services", request.getServiceId()));
+        return get(request, GetServiceResponse.class, builder -> builder.pathSegment("v2", "services").pathVariable("id", request.getServiceId()));
     }
 
     @Override
@@ -66,7 +78,7 @@ public final class ReactorServices extends AbstractClientV2Operations implements
 
     @Override
     public Mono<ListServiceServicePlansResponse> listServicePlans(ListServiceServicePlansRequest request) {
-        return get(request, ListServiceServicePlansResponse.class, builder -> builder.pathSegment("v2", "services", request.getServiceId(), "service_plans"));
+        return get(request, ListServiceServicePlansResponse.class, builder -> builder.pathSegment("v2", "services").pathVariable("id", request.getServiceId()).pathSegment("service_plans"));
     }
 
 }
@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v2.spacequotadefinitions.RemoveSpaceQuotaDefiniti
 import org.cloudfoundry.client.v2.spacequotadefinitions.SpaceQuotaDefinitions;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -47,15 +48,26 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorSpaceQuotaDefinitions(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<AssociateSpaceQuotaDefinitionResponse> associateSpace(AssociateSpaceQuotaDefinitionRequest request) {
         return put(request, AssociateSpaceQuotaDefinitionResponse.class,
-            builder -> builder.pathSegment("v2", "space_quota_definitions", request.getSpaceQuotaDefinitionId(), "spaces", request.getSpaceId()));
+            builder -> builder.pathSegment("v2", "space_quota_definitions").pathVariable("id", request.getSpaceQuotaDefinitionId()).pathSegment("spaces").pathVariable("id", request.getSpaceId()));
     }
 
     @Override
     public Mono<GetSpaceQuotaDefinitionResponse> get(GetSpaceQuotaDefinitionRequest request) {
-        return get(request, GetSpaceQuotaDefinitionResponse.class, builder -> builder.pathSegment("v2", "space_quota_definitions", request.getSpaceQuotaDefinitionId()));
+        return get(request, GetSpaceQuotaDefinitionResponse.class, builder -> builder.pathSegment("v2", "space_quota_definitions").pathVariable("id", request.getSpaceQuotaDefinitionId()));
     }
 
     @Override
@@ -65,7 +77,9 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
 
     @Override
     public Mono<Void> removeSpace(RemoveSpaceQuotaDefinitionRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "space_quota_definitions", request.getSpaceQuotaDefinitionId(), "spaces", request.getSpaceId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "space_quota_definitions").pathVariable("id", request.getSpaceQuotaDefinitionId())
+            .pathSegment("spaces").pathVariable("id", request.getSpaceId()));
     }
 
 }
@@ -78,6 +78,7 @@ import org.cloudfoundry.client.v2.spaces.UpdateSpaceRequest;
 import org.cloudfoundry.client.v2.spaces.UpdateSpaceResponse;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -98,39 +99,58 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorSpaces(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<AssociateSpaceAuditorResponse> associateAuditor(AssociateSpaceAuditorRequest request) {
-        return put(request, AssociateSpaceAuditorResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "auditors", request.getAuditorId()));
+        return put(request, AssociateSpaceAuditorResponse.class, builder -> builder
+            .pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId())
+            .pathSegment("auditors").pathVariable("id", request.getAuditorId()));
     }
 
     @Override
     public Mono<AssociateSpaceAuditorByUsernameResponse> associateAuditorByUsername(AssociateSpaceAuditorByUsernameRequest request) {
-        return put(request, AssociateSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "auditors"));
+        return put(request, AssociateSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("auditors"));
     }
 
     @Override
     public Mono<AssociateSpaceDeveloperResponse> associateDeveloper(AssociateSpaceDeveloperRequest request) {
-        return put(request, AssociateSpaceDeveloperResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "developers", request.getDeveloperId()));
+        return put(request, AssociateSpaceDeveloperResponse.class, builder -> builder
+            .pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId())
+            .pathSegment("developers").pathVariable("id", request.getDeveloperId()));
     }
 
     @Override
     public Mono<AssociateSpaceDeveloperByUsernameResponse> associateDeveloperByUsername(AssociateSpaceDeveloperByUsernameRequest request) {
-        return put(request, AssociateSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "developers"));
+        return put(request, AssociateSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("developers"));
     }
 
     @Override
     public Mono<AssociateSpaceManagerResponse> associateManager(AssociateSpaceManagerRequest request) {
-        return put(request, AssociateSpaceManagerResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "managers", request.getManagerId()));
+        return put(request, AssociateSpaceManagerResponse.class, builder -> builder
+            .pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId())
+            .pathSegment("managers").pathVariable("id", request.getManagerId()));
     }
 
     @Override
     public Mono<AssociateSpaceManagerByUsernameResponse> associateManagerByUsername(AssociateSpaceManagerByUsernameRequest request) {
-        return put(request, AssociateSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "managers"));
+        return put(request, AssociateSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("managers"));
     }
 
     @Override
     public Mono<AssociateSpaceSecurityGroupResponse> associateSecurityGroup(AssociateSpaceSecurityGroupRequest request) {
-        return put(request, AssociateSpaceSecurityGroupResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()));
+        return put(request, AssociateSpaceSecurityGroupResponse.class, builder -> builder
+            .pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId())
+            .pathSegment("security_groups").pathVariable("id", request.getSecurityGroupId()));
     }
 
     @Override
@@ -140,17 +160,17 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
 
     @Override
     public Mono<DeleteSpaceResponse> delete(DeleteSpaceRequest request) {
-        return delete(request, DeleteSpaceResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId()));
+        return delete(request, DeleteSpaceResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()));
     }
 
     @Override
     public Mono<GetSpaceResponse> get(GetSpaceRequest request) {
-        return get(request, GetSpaceResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId()));
+        return get(request, GetSpaceResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()));
     }
 
     @Override
     public Mono<GetSpaceSummaryResponse> getSummary(GetSpaceSummaryRequest request) {
-        return get(request, GetSpaceSummaryResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "summary"));
+        return get(request, GetSpaceSummaryResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("summary"));
     }
 
     @Override
@@ -160,97 +180,101 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
 
     @Override
     public Mono<ListSpaceApplicationsResponse> listApplications(ListSpaceApplicationsRequest request) {
-        return get(request, ListSpaceApplicationsResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "apps"));
+        return get(request, ListSpaceApplicationsResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("apps"));
     }
 
     @Override
     public Mono<ListSpaceAuditorsResponse> listAuditors(ListSpaceAuditorsRequest request) {
-        return get(request, ListSpaceAuditorsResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "auditors"));
+        return get(request, ListSpaceAuditorsResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("auditors"));
     }
 
     @Override
     public Mono<ListSpaceDevelopersResponse> listDevelopers(ListSpaceDevelopersRequest request) {
-        return get(request, ListSpaceDevelopersResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "developers"));
+        return get(request, ListSpaceDevelopersResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("developers"));
     }
 
     @Override
     public Mono<ListSpaceDomainsResponse> listDomains(ListSpaceDomainsRequest request) {
-        return get(request, ListSpaceDomainsResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "domains"));
+        return get(request, ListSpaceDomainsResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("domains"));
     }
 
     @Override
     public Mono<ListSpaceEventsResponse> listEvents(ListSpaceEventsRequest request) {
-        return get(request, ListSpaceEventsResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "events"));
+        return get(request, ListSpaceEventsResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("events"));
     }
 
     @Override
     public Mono<ListSpaceManagersResponse> listManagers(ListSpaceManagersRequest request) {
-        return get(request, ListSpaceManagersResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "managers"));
+        return get(request, ListSpaceManagersResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("managers"));
     }
 
     @Override
     public Mono<ListSpaceRoutesResponse> listRoutes(ListSpaceRoutesRequest request) {
-        return get(request, ListSpaceRoutesResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "routes"));
+        return get(request, ListSpaceRoutesResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("routes"));
     }
 
     @Override
     public Mono<ListSpaceSecurityGroupsResponse> listSecurityGroups(ListSpaceSecurityGroupsRequest request) {
-        return get(request, ListSpaceSecurityGroupsResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "security_groups"));
+        return get(request, ListSpaceSecurityGroupsResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("security_groups"));
     }
 
     @Override
     public Mono<ListSpaceServiceInstancesResponse> listServiceInstances(ListSpaceServiceInstancesRequest request) {
-        return get(request, ListSpaceServiceInstancesResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "service_instances"));
+        return get(request, ListSpaceServiceInstancesResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("service_instances"));
     }
 
     @Override
     public Mono<ListSpaceServicesResponse> listServices(ListSpaceServicesRequest request) {
-        return get(request, ListSpaceServicesResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "services"));
+        return get(request, ListSpaceServicesResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("services"));
     }
 
     @Override
     public Mono<ListSpaceUserRolesResponse> listUserRoles(ListSpaceUserRolesRequest request) {
-        return get(request, ListSpaceUserRolesResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "user_roles"));
+        return get(request, ListSpaceUserRolesResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("user_roles"));
     }
 
     @Override
     public Mono<Void> removeAuditor(RemoveSpaceAuditorRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "auditors", request.getAuditorId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("auditors").pathVariable("id", request.getAuditorId()));
     }
 
     @Override
     public Mono<RemoveSpaceAuditorByUsernameResponse> removeAuditorByUsername(RemoveSpaceAuditorByUsernameRequest request) {
-        return delete(request, RemoveSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "auditors"));
+        return delete(request, RemoveSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("auditors"));
     }
 
     @Override
     public Mono<Void> removeDeveloper(RemoveSpaceDeveloperRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "developers", request.getDeveloperId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId())
+            .pathSegment("developers").pathVariable("id", request.getDeveloperId()));
     }
 
     @Override
     public Mono<RemoveSpaceDeveloperByUsernameResponse> removeDeveloperByUsername(RemoveSpaceDeveloperByUsernameRequest request) {
-        return delete(request, RemoveSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "developers"));
+        return delete(request, RemoveSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("developers"));
     }
 
     @Override
     public Mono<Void> removeManager(RemoveSpaceManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "managers", request.getManagerId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("managers").pathVariable("id", request.getManagerId()));
     }
 
     @Override
     public Mono<RemoveSpaceManagerByUsernameResponse> removeManagerByUsername(RemoveSpaceManagerByUsernameRequest request) {
-        return delete(request, RemoveSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "managers"));
+        return delete(request, RemoveSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()).pathSegment("managers"));
     }
 
     @Override
     public Mono<Void> removeSecurityGroup(RemoveSpaceSecurityGroupRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId())
+            .pathSegment("security_groups").pathVariable("id", request.getSecurityGroupId()));
     }
 
     @Override
     public Mono<UpdateSpaceResponse> update(UpdateSpaceRequest request) {
-        return put(request, UpdateSpaceResponse.class, builder -> builder.pathSegment("v2", "spaces", request.getSpaceId()));
+        return put(request, UpdateSpaceResponse.class, builder -> builder.pathSegment("v2", "spaces").pathVariable("id", request.getSpaceId()));
     }
 
 }
@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v2.userprovidedserviceinstances.UpdateUserProvide
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.UserProvidedServiceInstances;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -51,6 +52,17 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorUserProvidedServiceInstances(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateUserProvidedServiceInstanceResponse> create(CreateUserProvidedServiceInstanceRequest request) {
         return post(request, CreateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "user_provided_service_instances"));
@@ -58,12 +70,13 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
 
     @Override
     public Mono<Void> delete(DeleteUserProvidedServiceInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v2", "user_provided_service_instances", request.getUserProvidedServiceInstanceId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v2", "user_provided_service_instances").pathVariable("id", request.getUserProvidedServiceInstanceId()));
     }
 
     @Override
     public Mono<GetUserProvidedServiceInstanceResponse> get(GetUserProvidedServiceInstanceRequest request) {
-        return get(request, GetUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "user_provided_service_instances", request.getUserProvidedServiceInstanceId()));
+        return get(request, GetUserProvidedServiceInstanceResponse.class, builder -> builder
+            .pathSegment("v2", "user_provided_service_instances").pathVariable("id", request.getUserProvidedServiceInstanceId()));
     }
 
     @Override
@@ -74,12 +87,13 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
     @Override
     public Mono<ListUserProvidedServiceInstanceServiceBindingsResponse> listServiceBindings(ListUserProvidedServiceInstanceServiceBindingsRequest request) {
         return get(request, ListUserProvidedServiceInstanceServiceBindingsResponse.class,
-            builder -> builder.pathSegment("v2", "user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "service_bindings"));
+            builder -> builder.pathSegment("v2", "user_provided_service_instances").pathVariable("id", request.getUserProvidedServiceInstanceId()).pathSegment("service_bindings"));
     }
 
     @Override
     public Mono<UpdateUserProvidedServiceInstanceResponse> update(UpdateUserProvidedServiceInstanceRequest request) {
-        return put(request, UpdateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("v2", "user_provided_service_instances", request.getUserProvidedServiceInstanceId()));
+        return put(request, UpdateUserProvidedServiceInstanceResponse.class, builder -> builder
+            .pathSegment("v2", "user_provided_service_instances").pathVariable("id", request.getUserProvidedServiceInstanceId()));
     }
 
 }
@@ -21,8 +21,9 @@ import org.cloudfoundry.reactor.client.CloudFoundryExceptionBuilder;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.reactor.util.MultipartHttpOutbound;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpException;
@@ -39,32 +40,37 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
         this.objectMapper = objectMapper;
     }
 
-    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected AbstractClientV3Operations(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+        this.objectMapper = connectionContext.getObjectMapper();
+    }
+
+    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doDelete(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> get(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return doGet(responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
+    protected final <T> Mono<T> get(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
+        return doSharedGet(responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final Mono<HttpInbound> get(Object request, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final Mono<HttpInbound> get(Object request, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doGet(getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> patch(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> patch(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPatch(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPost(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                      Function<MultipartHttpOutbound, Mono<Void>> requestTransformer) {
 
         return doPost(responseType, getUriAugmenter(request, uriTransformer),
@@ -72,12 +78,12 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPut(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> outbound)
             .otherwise(HttpException.class, CloudFoundryExceptionBuilder::build);
     }
 
-    private static Function<UriComponentsBuilder, UriComponentsBuilder> getUriAugmenter(Object request, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    private static Function<UriBuilder, UriBuilder> getUriAugmenter(Object request, Function<UriBuilder, UriBuilder> uriTransformer) {
         return builder -> {
             FilterBuilder.augment(builder, request);
             QueryBuilder.augment(builder, request);
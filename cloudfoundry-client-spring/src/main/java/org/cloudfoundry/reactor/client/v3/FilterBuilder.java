@@ -17,52 +17,77 @@
 package org.cloudfoundry.reactor.client.v3;
 
 import org.cloudfoundry.client.v3.FilterParameter;
+import org.cloudfoundry.reactor.client.MethodAccessor;
 import org.cloudfoundry.reactor.client.MethodNameComparator;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 public final class FilterBuilder {
 
+    private static final ClassValue<BiConsumer<UriBuilder, Object>> AUGMENTERS = new ClassValue<BiConsumer<UriBuilder, Object>>() {
+
+        @Override
+        protected BiConsumer<UriBuilder, Object> computeValue(Class<?> type) {
+            return compile(type);
+        }
+
+    };
+
     private FilterBuilder() {
     }
 
     /**
-     * Augments a {@link UriComponentsBuilder} with queries based on the methods annotated with {@link FilterParameter}
+     * Augments a {@link UriBuilder} with queries based on the methods annotated with {@link FilterParameter}
      *
      * @param builder  the builder to augment
      * @param instance the instance to inspect and invoke
      */
-    @SuppressWarnings("unchecked")
-    public static void augment(UriComponentsBuilder builder, Object instance) {
-        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+    public static void augment(UriBuilder builder, Object instance) {
+        AUGMENTERS.get(instance.getClass()).accept(builder, instance);
+    }
+
+    private static BiConsumer<UriBuilder, Object> compile(Class<?> type) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(type);
         Arrays.sort(methods, MethodNameComparator.INSTANCE);
 
+        BiConsumer<UriBuilder, Object> augmenter = (builder, instance) -> {
+        };
+
         for (Method method : methods) {
             FilterParameter filterParameter = AnnotationUtils.getAnnotation(method, FilterParameter.class);
             if (filterParameter == null) {
                 continue;
             }
 
-            String value = getValue(method, instance);
+            augmenter = augmenter.andThen(compile(filterParameter.value(), MethodAccessor.of(method)));
+        }
+
+        return augmenter;
+    }
+
+    private static BiConsumer<UriBuilder, Object> compile(String name, MethodAccessor accessor) {
+        return (builder, instance) -> {
+            String value = getValue(accessor, instance);
+
             if (StringUtils.hasText(value)) {
-                builder.queryParam(filterParameter.value(), value);
+                builder.queryParam(name, value);
             }
-        }
+        };
     }
 
     @SuppressWarnings("unchecked")
-    private static String getValue(Method method, Object instance) {
-        ReflectionUtils.makeAccessible(method);
-        Object value = ReflectionUtils.invokeMethod(method, instance);
+    private static String getValue(MethodAccessor accessor, Object instance) {
+        Object value = accessor.get(instance);
 
         if (value == null) {
             return "";
@@ -56,6 +56,7 @@ import org.cloudfoundry.client.v3.applications.UpdateApplicationRequest;
 import org.cloudfoundry.client.v3.applications.UpdateApplicationResponse;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -76,14 +77,28 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations impl
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorApplicationsV3(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<AssignApplicationDropletResponse> assignDroplet(AssignApplicationDropletRequest request) {
-        return put(request, AssignApplicationDropletResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "current_droplet"));
+        return put(request, AssignApplicationDropletResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("current_droplet"));
     }
 
     @Override
     public Mono<CancelApplicationTaskResponse> cancelTask(CancelApplicationTaskRequest request) {
-        return put(request, CancelApplicationTaskResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "tasks", request.getTaskId(), "cancel"));
+        return put(request, CancelApplicationTaskResponse.class, builder -> builder
+            .pathSegment("v3", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("tasks").pathVariable("id", request.getTaskId())
+            .pathSegment("cancel"));
     }
 
     @Override
@@ -93,32 +108,39 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations impl
 
     @Override
     public Mono<Void> delete(DeleteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
     public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId()));
+        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()));
     }
 
     @Override
     public Mono<GetApplicationEnvironmentResponse> getEnvironment(GetApplicationEnvironmentRequest request) {
-        return get(request, GetApplicationEnvironmentResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "env"));
+        return get(request, GetApplicationEnvironmentResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("env"));
     }
 
     @Override
     public Mono<GetApplicationProcessResponse> getProcess(GetApplicationProcessRequest request) {
-        return get(request, GetApplicationProcessResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "processes", request.getType()));
+        return get(request, GetApplicationProcessResponse.class, builder -> builder
+            .pathSegment("v3", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("processes").pathVariable("type", request.getType()));
     }
 
     @Override
     public Mono<GetApplicationProcessStatisticsResponse> getProcessStatistics(GetApplicationProcessStatisticsRequest request) {
-        return get(request, GetApplicationProcessStatisticsResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "processes", request.getType(), "stats"));
+        return get(request, GetApplicationProcessStatisticsResponse.class, builder -> builder
+            .pathSegment("v3", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("processes").pathVariable("type", request.getType())
+            .pathSegment("stats"));
     }
 
     @Override
     public Mono<GetApplicationTaskResponse> getTask(GetApplicationTaskRequest request) {
-        return get(request, GetApplicationTaskResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "tasks", request.getTaskId()));
+        return get(request, GetApplicationTaskResponse.class, builder -> builder
+            .pathSegment("v3", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("tasks").pathVariable("id", request.getTaskId()));
     }
 
     @Override
@@ -128,47 +150,53 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations impl
 
     @Override
     public Mono<ListApplicationDropletsResponse> listDroplets(ListApplicationDropletsRequest request) {
-        return get(request, ListApplicationDropletsResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "droplets"));
+        return get(request, ListApplicationDropletsResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("droplets"));
     }
 
     @Override
     public Mono<ListApplicationPackagesResponse> listPackages(ListApplicationPackagesRequest request) {
-        return get(request, ListApplicationPackagesResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "packages"));
+        return get(request, ListApplicationPackagesResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("packages"));
     }
 
     @Override
     public Mono<ListApplicationProcessesResponse> listProcesses(ListApplicationProcessesRequest request) {
-        return get(request, ListApplicationProcessesResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "processes"));
+        return get(request, ListApplicationProcessesResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("processes"));
     }
 
     @Override
     public Mono<ListApplicationTasksResponse> listTasks(ListApplicationTasksRequest request) {
-        return get(request, ListApplicationTasksResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "tasks"));
+        return get(request, ListApplicationTasksResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("tasks"));
     }
 
     @Override
     public Mono<ScaleApplicationResponse> scale(ScaleApplicationRequest request) {
-        return put(request, ScaleApplicationResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "processes", request.getType(), "scale"));
+        return put(request, ScaleApplicationResponse.class, builder -> builder
+            .pathSegment("v3", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("processes").pathVariable("type", request.getType())
+            .pathSegment("scale"));
     }
 
     @Override
     public Mono<StartApplicationResponse> start(StartApplicationRequest request) {
-        return put(request, StartApplicationResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "start"));
+        return put(request, StartApplicationResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("start"));
     }
 
     @Override
     public Mono<StopApplicationResponse> stop(StopApplicationRequest request) {
-        return put(request, StopApplicationResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "stop"));
+        return put(request, StopApplicationResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("stop"));
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "processes", request.getType(), "instances", request.getIndex()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v3", "apps").pathVariable("id", request.getApplicationId())
+            .pathSegment("processes").pathVariable("type", request.getType())
+            .pathSegment("instances").pathVariable("index", request.getIndex()));
     }
 
     @Override
     public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
-        return patch(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId()));
+        return patch(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()));
     }
 
 }
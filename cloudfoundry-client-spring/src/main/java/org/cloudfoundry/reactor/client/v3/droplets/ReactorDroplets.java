@@ -25,6 +25,7 @@ import org.cloudfoundry.client.v3.droplets.ListDropletsRequest;
 import org.cloudfoundry.client.v3.droplets.ListDropletsResponse;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -45,14 +46,25 @@ public final class ReactorDroplets extends AbstractClientV3Operations implements
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorDroplets(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<Void> delete(DeleteDropletRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v3", "droplets", request.getDropletId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v3", "droplets").pathVariable("id", request.getDropletId()));
     }
 
     @Override
     public Mono<GetDropletResponse> get(GetDropletRequest request) {
-        return get(request, GetDropletResponse.class, builder -> builder.pathSegment("v3", "droplets", request.getDropletId()));
+        return get(request, GetDropletResponse.class, builder -> builder.pathSegment("v3", "droplets").pathVariable("id", request.getDropletId()));
     }
 
     @Override
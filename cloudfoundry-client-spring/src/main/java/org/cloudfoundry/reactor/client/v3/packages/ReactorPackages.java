@@ -17,6 +17,7 @@
 package org.cloudfoundry.reactor.client.v3.packages;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.client.DownloadProgress;
 import org.cloudfoundry.client.v3.packages.CopyPackageRequest;
 import org.cloudfoundry.client.v3.packages.CopyPackageResponse;
 import org.cloudfoundry.client.v3.packages.CreatePackageRequest;
@@ -34,11 +35,15 @@ import org.cloudfoundry.client.v3.packages.UploadPackageRequest;
 import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.FileDownload;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpInbound;
 
+import java.nio.file.Path;
+
 /**
  * The Reactor-based implementation of {@link Packages}
  */
@@ -56,30 +61,46 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorPackages(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CopyPackageResponse> copy(CopyPackageRequest request) {
-        return post(request, CopyPackageResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "packages"));
+        return post(request, CopyPackageResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("packages"));
     }
 
     @Override
     public Mono<CreatePackageResponse> create(CreatePackageRequest request) {
-        return post(request, CreatePackageResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "packages"));
+        return post(request, CreatePackageResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("packages"));
     }
 
     @Override
     public Mono<Void> delete(DeletePackageRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v3", "packages", request.getPackageId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v3", "packages").pathVariable("id", request.getPackageId()));
     }
 
     @Override
     public Flux<byte[]> download(DownloadPackageRequest request) {
-        return get(request, builder -> builder.pathSegment("v3", "packages", request.getPackageId(), "download"))
+        return get(request, builder -> builder.pathSegment("v3", "packages").pathVariable("id", request.getPackageId()).pathSegment("download"))
             .flatMap(HttpInbound::receiveByteArray);
     }
 
+    @Override
+    public Flux<DownloadProgress> download(DownloadPackageRequest request, Path path) {
+        return FileDownload.write(get(request, builder -> builder.pathSegment("v3", "packages").pathVariable("id", request.getPackageId()).pathSegment("download")), path);
+    }
+
     @Override
     public Mono<GetPackageResponse> get(GetPackageRequest request) {
-        return get(request, GetPackageResponse.class, builder -> builder.pathSegment("v3", "packages", request.getPackageId()));
+        return get(request, GetPackageResponse.class, builder -> builder.pathSegment("v3", "packages").pathVariable("id", request.getPackageId()));
     }
 
     @Override
@@ -89,12 +110,12 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
 
     @Override
     public Mono<StagePackageResponse> stage(StagePackageRequest request) {
-        return post(request, StagePackageResponse.class, builder -> builder.pathSegment("v3", "packages", request.getPackageId(), "droplets"));
+        return post(request, StagePackageResponse.class, builder -> builder.pathSegment("v3", "packages").pathVariable("id", request.getPackageId()).pathSegment("droplets"));
     }
 
     @Override
     public Mono<UploadPackageResponse> upload(UploadPackageRequest request) {
-        return post(request, UploadPackageResponse.class, builder -> builder.pathSegment("v3", "packages", request.getPackageId(), "upload"),
+        return post(request, UploadPackageResponse.class, builder -> builder.pathSegment("v3", "packages").pathVariable("id", request.getPackageId()).pathSegment("upload"),
             outbound -> outbound
                 .addPart(part -> part.setContentDispositionFormData("bits", "application.zip")
                     .addHeader(CONTENT_TYPE, APPLICATION_ZIP)
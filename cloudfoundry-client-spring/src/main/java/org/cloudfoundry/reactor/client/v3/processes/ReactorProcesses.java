@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v3.processes.UpdateProcessRequest;
 import org.cloudfoundry.client.v3.processes.UpdateProcessResponse;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -51,14 +52,25 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorProcesses(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<GetProcessResponse> get(GetProcessRequest request) {
-        return get(request, GetProcessResponse.class, builder -> builder.pathSegment("v3", "processes", request.getProcessId()));
+        return get(request, GetProcessResponse.class, builder -> builder.pathSegment("v3", "processes").pathVariable("id", request.getProcessId()));
     }
 
     @Override
     public Mono<GetProcessStatisticsResponse> getStatistics(GetProcessStatisticsRequest request) {
-        return get(request, GetProcessStatisticsResponse.class, builder -> builder.pathSegment("v3", "processes", request.getProcessId(), "stats"));
+        return get(request, GetProcessStatisticsResponse.class, builder -> builder.pathSegment("v3", "processes").pathVariable("id", request.getProcessId()).pathSegment("stats"));
     }
 
     @Override
@@ -68,17 +80,19 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
 
     @Override
     public Mono<ScaleProcessResponse> scale(ScaleProcessRequest request) {
-        return put(request, ScaleProcessResponse.class, builder -> builder.pathSegment("v3", "processes", request.getProcessId(), "scale"));
+        return put(request, ScaleProcessResponse.class, builder -> builder.pathSegment("v3", "processes").pathVariable("id", request.getProcessId()).pathSegment("scale"));
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateProcessInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v3", "processes", request.getProcessId(), "instances", request.getIndex()));
+        return delete(request, Void.class, builder -> builder
+            .pathSegment("v3", "processes").pathVariable("id", request.getProcessId())
+            .pathSegment("instances").pathVariable("index", request.getIndex()));
     }
 
     @Override
     public Mono<UpdateProcessResponse> update(UpdateProcessRequest request) {
-        return patch(request, UpdateProcessResponse.class, builder -> builder.pathSegment("v3", "processes", request.getProcessId()));
+        return patch(request, UpdateProcessResponse.class, builder -> builder.pathSegment("v3", "processes").pathVariable("id", request.getProcessId()));
     }
 
 }
@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v3.servicebindings.ListServiceBindingsResponse;
 import org.cloudfoundry.client.v3.servicebindings.ServiceBindingsV3;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -47,6 +48,17 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations i
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorServiceBindingsV3(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateServiceBindingResponse> create(CreateServiceBindingRequest request) {
         return post(request, CreateServiceBindingResponse.class, builder -> builder.pathSegment("v3", "service_bindings"));
@@ -54,12 +66,12 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations i
 
     @Override
     public Mono<Void> delete(DeleteServiceBindingRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("v3", "service_bindings", request.getServiceBindingId()));
+        return delete(request, Void.class, builder -> builder.pathSegment("v3", "service_bindings").pathVariable("id", request.getServiceBindingId()));
     }
 
     @Override
     public Mono<GetServiceBindingResponse> get(GetServiceBindingRequest request) {
-        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("v3", "service_bindings", request.getServiceBindingId()));
+        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("v3", "service_bindings").pathVariable("id", request.getServiceBindingId()));
     }
 
     @Override
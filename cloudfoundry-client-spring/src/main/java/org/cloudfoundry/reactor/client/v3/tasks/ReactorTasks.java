@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v3.tasks.ListTasksResponse;
 import org.cloudfoundry.client.v3.tasks.Tasks;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 
@@ -48,19 +49,30 @@ public final class ReactorTasks extends AbstractClientV3Operations implements Ta
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorTasks(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CancelTaskResponse> cancel(CancelTaskRequest request) {
-        return put(request, CancelTaskResponse.class, builder -> builder.pathSegment("v3", "tasks", request.getTaskId(), "cancel"));
+        return put(request, CancelTaskResponse.class, builder -> builder.pathSegment("v3", "tasks").pathVariable("id", request.getTaskId()).pathSegment("cancel"));
     }
 
     @Override
     public Mono<CreateTaskResponse> create(CreateTaskRequest request) {
-        return post(request, CreateTaskResponse.class, builder -> builder.pathSegment("v3", "apps", request.getApplicationId(), "tasks"));
+        return post(request, CreateTaskResponse.class, builder -> builder.pathSegment("v3", "apps").pathVariable("id", request.getApplicationId()).pathSegment("tasks"));
     }
 
     @Override
     public Mono<GetTaskResponse> get(GetTaskRequest request) {
-        return get(request, GetTaskResponse.class, builder -> builder.pathSegment("v3", "tasks", request.getTaskId()));
+        return get(request, GetTaskResponse.class, builder -> builder.pathSegment("v3", "tasks").pathVariable("id", request.getTaskId()));
     }
 
     @Override
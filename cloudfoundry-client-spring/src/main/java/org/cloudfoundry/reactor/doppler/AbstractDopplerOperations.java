@@ -16,43 +16,42 @@
 
 package org.cloudfoundry.reactor.doppler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import reactor.core.publisher.Mono;
-import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpInbound;
 
 import java.util.function.Function;
 
 abstract class AbstractDopplerOperations extends AbstractReactorOperations {
 
-    AbstractDopplerOperations(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
-        super(authorizationProvider, httpClient, objectMapper, root);
+    AbstractDopplerOperations(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
     }
 
-    final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doDelete(request, responseType, uriTransformer, outbound -> outbound);
     }
 
-    final <T> Mono<T> get(Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final <T> Mono<T> get(Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doGet(responseType, uriTransformer, outbound -> outbound);
     }
 
-    final Mono<HttpInbound> get(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final Mono<HttpInbound> get(Function<UriBuilder, UriBuilder> uriTransformer) {
         return doGet(uriTransformer, outbound -> outbound);
     }
 
-    final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPost(request, responseType, uriTransformer, outbound -> outbound);
     }
 
-    final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPut(request, responseType, uriTransformer, outbound -> outbound);
     }
 
-    final Mono<HttpInbound> ws(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    final Mono<HttpInbound> ws(Function<UriBuilder, UriBuilder> uriTransformer) {
         return doWs(uriTransformer, outbound -> outbound);
     }
 
@@ -16,7 +16,6 @@
 
 package org.cloudfoundry.reactor.doppler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Builder;
 import org.cloudfoundry.doppler.ContainerMetric;
 import org.cloudfoundry.doppler.ContainerMetricsRequest;
@@ -34,11 +33,11 @@ import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.doppler.ValueMetric;
 import org.cloudfoundry.dropsonde.events.Envelope;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.reactor.util.ConnectionContextSupplier;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.util.Exceptions;
-import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpInbound;
 
 import java.io.IOException;
@@ -51,17 +50,17 @@ public final class ReactorDopplerClient extends AbstractDopplerOperations implem
 
     @Builder
     ReactorDopplerClient(ConnectionContextSupplier cloudFoundryClient) {
-        this(cloudFoundryClient.getConnectionContext().getAuthorizationProvider(), cloudFoundryClient.getConnectionContext().getHttpClient(),
-            cloudFoundryClient.getConnectionContext().getObjectMapper(), cloudFoundryClient.getConnectionContext().getRoot("doppler_logging_endpoint"));
+        this(cloudFoundryClient.getConnectionContext(), cloudFoundryClient.getConnectionContext().getRoot("doppler_logging_endpoint"),
+            cloudFoundryClient.getConnectionContext().getAuthorizationProvider());
     }
 
-    ReactorDopplerClient(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
-        super(authorizationProvider, httpClient, objectMapper, root);
+    ReactorDopplerClient(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
     }
 
     @Override
     public Flux<ContainerMetric> containerMetrics(ContainerMetricsRequest request) {
-        return get(builder -> builder.pathSegment("apps", request.getApplicationId(), "containermetrics"))
+        return get(builder -> builder.pathSegment("apps").pathVariable("id", request.getApplicationId()).pathSegment("containermetrics"))
             .flatMap(inbound -> inbound.receiveMultipart().receiveInputStream())
             .map(ReactorDopplerClient::toEnvelope)
             .map(ReactorDopplerClient::toEvent);
@@ -69,7 +68,7 @@ public final class ReactorDopplerClient extends AbstractDopplerOperations implem
 
     @Override
     public Flux<Event> firehose(FirehoseRequest request) {
-        return ws(builder -> builder.pathSegment("firehose", request.getSubscriptionId()))
+        return ws(builder -> builder.pathSegment("firehose").pathVariable("id", request.getSubscriptionId()))
             .flatMap(HttpInbound::receiveInputStream)
             .map(ReactorDopplerClient::toEnvelope)
             .map(ReactorDopplerClient::toEvent);
@@ -77,7 +76,7 @@ public final class ReactorDopplerClient extends AbstractDopplerOperations implem
 
     @Override
     public Flux<LogMessage> recentLogs(RecentLogsRequest request) {
-        return get(builder -> builder.pathSegment("apps", request.getApplicationId(), "recentlogs"))
+        return get(builder -> builder.pathSegment("apps").pathVariable("id", request.getApplicationId()).pathSegment("recentlogs"))
             .flatMap(inbound -> inbound.receiveMultipart().receiveInputStream())
             .map(ReactorDopplerClient::toEnvelope)
             .map(ReactorDopplerClient::toEvent);
@@ -85,7 +84,7 @@ public final class ReactorDopplerClient extends AbstractDopplerOperations implem
 
     @Override
     public Flux<Event> stream(StreamRequest request) {
-        return ws(builder -> builder.pathSegment("apps", request.getApplicationId(), "stream"))
+        return ws(builder -> builder.pathSegment("apps").pathVariable("id", request.getApplicationId()).pathSegment("stream"))
             .flatMap(HttpInbound::receiveInputStream)
             .map(ReactorDopplerClient::toEnvelope)
             .map(ReactorDopplerClient::toEvent);
@@ -21,7 +21,8 @@ import io.netty.util.AsciiString;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpInbound;
@@ -40,7 +41,11 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
-    protected static Function<UriComponentsBuilder, UriComponentsBuilder> getUriAugmenter(Object request, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected AbstractUaaOperations(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
+    protected static Function<UriBuilder, UriBuilder> getUriAugmenter(Object request, Function<UriBuilder, UriBuilder> uriTransformer) {
         return builder -> {
             QueryBuilder.augment(builder, request);
             return uriTransformer.apply(builder);
@@ -60,11 +65,11 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
         return outbound;
     }
 
-    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doDelete(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> IdentityZoneBuilder.augment(outbound, request));
     }
 
-    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> delete(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                        Function<HttpOutbound, HttpOutbound> requestTransformer) {
         return doDelete(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> {
             IdentityZoneBuilder.augment(outbound, request);
@@ -72,15 +77,15 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
         });
     }
 
-    protected final Mono<HttpInbound> get(Object request, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final Mono<HttpInbound> get(Object request, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doGet(getUriAugmenter(request, uriTransformer), outbound -> IdentityZoneBuilder.augment(outbound, request));
     }
 
-    protected final <T> Mono<T> get(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> get(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doGet(responseType, getUriAugmenter(request, uriTransformer), outbound -> IdentityZoneBuilder.augment(outbound, request));
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                      Function<HttpOutbound, HttpOutbound> requestTransformer) {
         return doPost(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> {
             IdentityZoneBuilder.augment(outbound, request);
@@ -88,11 +93,11 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
         });
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPost(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> IdentityZoneBuilder.augment(outbound, request));
     }
 
-    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> put(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return doPut(request, responseType, getUriAugmenter(request, uriTransformer), outbound -> IdentityZoneBuilder.augment(outbound, request));
     }
 
@@ -16,19 +16,18 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Builder;
 import org.cloudfoundry.reactor.uaa.identityzones.ReactorIdentityZones;
 import org.cloudfoundry.reactor.uaa.tokens.ReactorTokens;
 import org.cloudfoundry.reactor.uaa.users.ReactorUsers;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.reactor.util.ConnectionContextSupplier;
 import org.cloudfoundry.uaa.UaaClient;
 import org.cloudfoundry.uaa.identityzones.IdentityZones;
 import org.cloudfoundry.uaa.tokens.Tokens;
 import org.cloudfoundry.uaa.users.Users;
 import reactor.core.publisher.Mono;
-import reactor.io.netty.http.HttpClient;
 
 /**
  * The Reactor-based implementation of {@link UaaClient}
@@ -43,15 +42,13 @@ public final class ReactorUaaClient implements UaaClient {
 
     @Builder
     ReactorUaaClient(ConnectionContextSupplier cloudFoundryClient) {
-        this(cloudFoundryClient.getConnectionContext().getAuthorizationProvider(), cloudFoundryClient.getConnectionContext().getClientId(), cloudFoundryClient.getConnectionContext().getClientSecret(),
-            cloudFoundryClient.getConnectionContext().getHttpClient(), cloudFoundryClient.getConnectionContext().getObjectMapper(),
-            cloudFoundryClient.getConnectionContext().getRoot("token_endpoint"));
+        this(cloudFoundryClient.getConnectionContext(), cloudFoundryClient.getConnectionContext().getRoot("token_endpoint"), cloudFoundryClient.getConnectionContext().getAuthorizationProvider());
     }
 
-    ReactorUaaClient(AuthorizationProvider authorizationProvider, String clientId, String clientSecret, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
-        this.identityZones = new ReactorIdentityZones(authorizationProvider, httpClient, objectMapper, root);
-        this.tokens = new ReactorTokens(authorizationProvider, clientId, clientSecret, httpClient, objectMapper, root);
-        this.users = new ReactorUsers(authorizationProvider, httpClient, objectMapper, root);
+    ReactorUaaClient(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        this.identityZones = new ReactorIdentityZones(connectionContext, root, authorizationProvider);
+        this.tokens = new ReactorTokens(connectionContext, root, authorizationProvider);
+        this.users = new ReactorUsers(connectionContext, root, authorizationProvider);
     }
 
     @Override
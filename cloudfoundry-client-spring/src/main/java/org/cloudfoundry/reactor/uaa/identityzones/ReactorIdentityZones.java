@@ -19,6 +19,7 @@ package org.cloudfoundry.reactor.uaa.identityzones;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.reactor.uaa.AbstractUaaOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.uaa.identityzones.CreateIdentityZoneRequest;
 import org.cloudfoundry.uaa.identityzones.CreateIdentityZoneResponse;
 import org.cloudfoundry.uaa.identityzones.DeleteIdentityZoneRequest;
@@ -50,6 +51,17 @@ public final class ReactorIdentityZones extends AbstractUaaOperations implements
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorIdentityZones(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<CreateIdentityZoneResponse> create(CreateIdentityZoneRequest request) {
         return post(request, CreateIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones"));
@@ -57,12 +69,12 @@ public final class ReactorIdentityZones extends AbstractUaaOperations implements
 
     @Override
     public Mono<DeleteIdentityZoneResponse> delete(DeleteIdentityZoneRequest request) {
-        return delete(request, DeleteIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones", request.getIdentityZoneId()));
+        return delete(request, DeleteIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones").pathVariable("id", request.getIdentityZoneId()));
     }
 
     @Override
     public Mono<GetIdentityZoneResponse> get(GetIdentityZoneRequest request) {
-        return get(request, GetIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones", request.getIdentityZoneId()));
+        return get(request, GetIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones").pathVariable("id", request.getIdentityZoneId()));
     }
 
     @Override
@@ -72,7 +84,7 @@ public final class ReactorIdentityZones extends AbstractUaaOperations implements
 
     @Override
     public Mono<UpdateIdentityZoneResponse> update(UpdateIdentityZoneRequest request) {
-        return put(request, UpdateIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones", request.getIdentityZoneId()));
+        return put(request, UpdateIdentityZoneResponse.class, builder -> builder.pathSegment("identity-zones").pathVariable("id", request.getIdentityZoneId()));
     }
 
 }
@@ -19,6 +19,8 @@ package org.cloudfoundry.reactor.uaa.tokens;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.reactor.uaa.AbstractUaaOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.cloudfoundry.uaa.tokens.CheckTokenRequest;
 import org.cloudfoundry.uaa.tokens.CheckTokenResponse;
 import org.cloudfoundry.uaa.tokens.GetTokenByAuthorizationCodeRequest;
@@ -38,7 +40,6 @@ import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
 import org.cloudfoundry.uaa.tokens.RefreshTokenRequest;
 import org.cloudfoundry.uaa.tokens.RefreshTokenResponse;
 import org.cloudfoundry.uaa.tokens.Tokens;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpOutbound;
@@ -68,6 +69,19 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
         this.clientSecret = clientSecret;
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorTokens(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+        this.clientId = connectionContext.getClientId();
+        this.clientSecret = connectionContext.getClientSecret();
+    }
+
     @Override
     public Mono<CheckTokenResponse> check(CheckTokenRequest request) {
         return post(request, CheckTokenResponse.class, builder -> builder.pathSegment("check_token"),
@@ -119,11 +133,11 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
         return postForm(request, RefreshTokenResponse.class, builder -> builder.pathSegment("oauth", "token").queryParam("grant_type", "refresh_token"));
     }
 
-    private <T> Mono<T> postForm(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    private <T> Mono<T> postForm(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer) {
         return postForm(request, responseType, uriTransformer, outbound -> outbound);
     }
 
-    private <T> Mono<T> postForm(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
+    private <T> Mono<T> postForm(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
         return doPost(responseType, getUriAugmenter(request, uriTransformer), outbound -> {
             outbound.headers().remove(AUTHORIZATION);
 
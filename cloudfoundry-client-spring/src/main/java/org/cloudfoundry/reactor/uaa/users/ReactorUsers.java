@@ -19,6 +19,7 @@ package org.cloudfoundry.reactor.uaa.users;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.reactor.uaa.AbstractUaaOperations;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.uaa.users.ChangeUserPasswordRequest;
 import org.cloudfoundry.uaa.users.ChangeUserPasswordResponse;
 import org.cloudfoundry.uaa.users.CreateUserRequest;
@@ -50,9 +51,20 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
         super(authorizationProvider, httpClient, objectMapper, root);
     }
 
+    /**
+     * Creates an instance
+     *
+     * @param connectionContext     the {@link ConnectionContext} to use when communicating with the server
+     * @param root                  the root URI of the server.  Typically something like {@code https://uaa.run.pivotal.io}.
+     * @param authorizationProvider the {@link AuthorizationProvider} to use when communicating with the server
+     */
+    public ReactorUsers(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
+        super(connectionContext, root, authorizationProvider);
+    }
+
     @Override
     public Mono<ChangeUserPasswordResponse> changePassword(ChangeUserPasswordRequest request) {
-        return put(request, ChangeUserPasswordResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "password"));
+        return put(request, ChangeUserPasswordResponse.class, builder -> builder.pathSegment("Users").pathVariable("id", request.getUserId()).pathSegment("password"));
     }
 
     @Override
@@ -62,13 +74,16 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
 
     @Override
     public Mono<DeleteUserResponse> delete(DeleteUserRequest request) {
-        return delete(request, DeleteUserResponse.class, builder -> builder.pathSegment("Users", request.getUserId()),
+        return delete(request, DeleteUserResponse.class, builder -> builder.pathSegment("Users").pathVariable("id", request.getUserId()),
             outbound -> ifMatch(outbound, request.getVersion()));
     }
 
     @Override
     public Mono<GetUserVerificationLinkResponse> getVerificationLink(GetUserVerificationLinkRequest request) {
-        return get(request, GetUserVerificationLinkResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "verify-link").queryParam("redirect_uri", request.getRedirectUri()));
+        return get(request, GetUserVerificationLinkResponse.class, builder -> builder
+            .pathSegment("Users").pathVariable("id", request.getUserId())
+            .pathSegment("verify-link")
+            .queryParam("redirect_uri", request.getRedirectUri()));
     }
 
     @Override
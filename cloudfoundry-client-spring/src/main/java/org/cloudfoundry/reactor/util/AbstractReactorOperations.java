@@ -20,10 +20,10 @@ package org.cloudfoundry.reactor.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.buffer.ByteBuf;
 import io.netty.util.AsciiString;
+import org.cloudfoundry.util.DeadlineUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.io.netty.http.HttpClient;
 import reactor.io.netty.http.HttpException;
@@ -31,6 +31,9 @@ import reactor.io.netty.http.HttpInbound;
 import reactor.io.netty.http.HttpOutbound;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 public abstract class AbstractReactorOperations {
@@ -49,6 +52,8 @@ public abstract class AbstractReactorOperations {
 
     private final AuthorizationProvider authorizationProvider;
 
+    private final ConnectionContext connectionContext;
+
     private final HttpClient httpClient;
 
     private final ObjectMapper objectMapper;
@@ -57,113 +62,220 @@ public abstract class AbstractReactorOperations {
 
     private final Logger responseLogger = LoggerFactory.getLogger("cloudfoundry-client.response");
 
-    private final Mono<String> root;
+    private final Mono<UriBuilder.Template> root;
 
     protected AbstractReactorOperations(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
+        this(new SimpleConnectionContext(authorizationProvider, httpClient, objectMapper, root), root, authorizationProvider);
+    }
+
+    protected AbstractReactorOperations(ConnectionContext connectionContext, Mono<String> root, AuthorizationProvider authorizationProvider) {
         this.authorizationProvider = authorizationProvider;
-        this.httpClient = httpClient;
-        this.objectMapper = objectMapper;
-        this.root = root;
+        this.connectionContext = connectionContext;
+        this.httpClient = connectionContext.getHttpClient();
+        this.objectMapper = connectionContext.getObjectMapper();
+        this.root = root
+            .map(UriBuilder.Template::parse)
+            .cache();
     }
 
-    protected final <T> Mono<T> doDelete(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> doDelete(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                          Function<HttpOutbound, HttpOutbound> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.delete(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
-                .map(requestTransformer)
-                .then(o -> o.send(serializedRequest(o, request))))
-                .doOnSubscribe(s -> this.requestLogger.debug("DELETE {}", uri))
-                .compose(logResponse(uri)))
-            .compose(deserializedResponse(responseType));
+        return exchange("DELETE", this.httpClient::delete, uriTransformer, outbound -> Mono.just(outbound)
+            .map(this::acceptCompression)
+            .map(requestTransformer)
+            .then(o -> o.send(serializedRequest(o, request))), deserializedResponse(responseType), true);
     }
 
-    protected final <T> Mono<T> doGet(Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
-        return doGet(uriTransformer, requestTransformer)
-            .compose(deserializedResponse(responseType));
+    protected final <T> Mono<T> doGet(Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
+        return doGet(responseType, uriTransformer, requestTransformer, false);
     }
 
-    protected final Mono<HttpInbound> doGet(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.get(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
-                .map(requestTransformer)
-                .then(HttpOutbound::sendHeaders))
-                .doOnSubscribe(s -> this.requestLogger.debug("GET    {}", uri))
-                .compose(logResponse(uri)));
+    protected final Mono<HttpInbound> doGet(Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
+        return exchange("GET", this.httpClient::get, uriTransformer, outbound -> Mono.just(outbound)
+            .map(requestTransformer)
+            .then(HttpOutbound::sendHeaders));
     }
 
-    protected final <T> Mono<T> doPatch(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> doPatch(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                         Function<HttpOutbound, HttpOutbound> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.patch(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
-                .map(requestTransformer)
-                .then(o -> o.send(serializedRequest(o, request))))
-                .doOnSubscribe(s -> this.requestLogger.debug("PATCH  {}", uri))
-                .compose(logResponse(uri)))
-            .compose(deserializedResponse(responseType));
+        return exchange("PATCH", this.httpClient::patch, uriTransformer, outbound -> Mono.just(outbound)
+            .map(this::acceptCompression)
+            .map(requestTransformer)
+            .then(o -> o.send(serializedRequest(o, request))), deserializedResponse(responseType), true);
     }
 
-    protected final <T> Mono<T> doPost(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> doPost(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                        Function<HttpOutbound, HttpOutbound> requestTransformer) {
 
         return doPost(responseType, uriTransformer, outbound -> requestTransformer.apply(outbound)
             .send(serializedRequest(outbound, request)));
     }
 
-    protected final <T> Mono<T> doPost(Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpOutbound, Mono<Void>> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.post(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
-                .then(requestTransformer))
-                .doOnSubscribe(s -> this.requestLogger.debug("POST   {}", uri))
-                .compose(logResponse(uri)))
-            .compose(deserializedResponse(responseType));
+    protected final <T> Mono<T> doPost(Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, Mono<Void>> requestTransformer) {
+        return exchange("POST", this.httpClient::post, uriTransformer, outbound -> Mono.just(outbound)
+            .map(this::acceptCompression)
+            .then(requestTransformer), deserializedResponse(responseType), false);
     }
 
-    protected final <T> Mono<T> doPut(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> doPut(Object request, Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer,
                                       Function<HttpOutbound, HttpOutbound> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.put(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
-                .map(requestTransformer)
-                .then(o -> o.send(serializedRequest(o, request))))
-                .doOnSubscribe(s -> this.requestLogger.debug("PUT    {}", uri))
-                .compose(logResponse(uri)))
-            .compose(deserializedResponse(responseType));
+        return exchange("PUT", this.httpClient::put, uriTransformer, outbound -> Mono.just(outbound)
+            .map(this::acceptCompression)
+            .map(requestTransformer)
+            .then(o -> o.send(serializedRequest(o, request))), deserializedResponse(responseType), true);
     }
 
-    protected final <T> Mono<T> doPut(Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpOutbound, Mono<Void>> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.put(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
+    protected final <T> Mono<T> doPut(Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, Mono<Void>> requestTransformer) {
+        return exchange("PUT", this.httpClient::put, uriTransformer, outbound -> Mono.just(outbound)
+            .map(this::acceptCompression)
+            .then(requestTransformer), deserializedResponse(responseType), false);
+    }
+
+    protected final Mono<HttpInbound> doWs(Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
+        return exchange("WS", this.httpClient::get, uriTransformer, outbound -> Mono.just(outbound)
+            .map(requestTransformer)
+            .then(HttpOutbound::upgradeToTextWebsocket));
+    }
+
+    protected final <T> Mono<T> doSharedGet(Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
+        return doGet(responseType, uriTransformer, requestTransformer, true);
+    }
+
+    final AuthorizationProvider getAuthorizationProvider() {
+        return this.authorizationProvider;
+    }
+
+    private HttpOutbound acceptCompression(HttpOutbound outbound) {
+        return this.connectionContext.getCompression()
+            .map(compression -> compression.accept(outbound))
+            .orElse(outbound);
+    }
+
+    private <T> Mono<T> attempt(String method, BiFunction<String, Function<HttpOutbound, Mono<Void>>, Mono<HttpInbound>> verb, String uri, String template,
+                                Function<HttpOutbound, Mono<Void>> requestTransformer, Function<Mono<HttpInbound>, Mono<T>> deserializer, RequestRecorder recorder) {
+        return Mono.defer(() -> {
+            RequestRecorder.Attempt attempt = recorder.attempt();
+            logRequest(method, uri);
+
+            return verb.apply(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
+                .map(attempt::outbound)
                 .then(requestTransformer))
-                .doOnSubscribe(s -> this.requestLogger.debug("PUT    {}", uri))
-                .compose(logResponse(uri)))
-            .compose(deserializedResponse(responseType));
+                .compose(logResponse(uri))
+                .doOnSuccess(inbound -> invalidate(method, template))
+                .doOnSuccess(attempt::response)
+                .doOnError(attempt::error)
+                .compose(deserializer)
+                .doOnSuccess(response -> attempt.settle())
+                .doOnError(t -> attempt.settle());
+        });
     }
 
-    protected final Mono<HttpInbound> doWs(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer) {
-        return this.root
-            .map(root -> buildUri(root, uriTransformer))
-            .then(uri -> this.httpClient.get(uri, outbound -> this.authorizationProvider.addAuthorization(outbound)
-                .map(requestTransformer)
-                .then(HttpOutbound::upgradeToTextWebsocket))
-                .doOnSubscribe(s -> this.requestLogger.debug("WS     {}", uri))
-                .compose(logResponse(uri)));
+    private <T> Optional<ConditionalRequestCache.ConditionalRequest<T>> conditionalRequest(RequestKey key) {
+        return this.connectionContext.getConditionalRequestCache()
+            .map(cache -> cache.begin(key));
     }
 
-    private static String buildUri(String root, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return uriTransformer
-            .apply(UriComponentsBuilder.fromUriString(root))
-            .build().encode().toUriString();
+    private <T> Mono<T> decode(HttpInbound inbound, Class<T> responseType) {
+        return JsonCodec.decode(inbound, this.objectMapper, responseType, this.connectionContext.getDecodeScheduler(), this.connectionContext.getDecodeThreshold(),
+            this.connectionContext.getCompression());
     }
 
     private <T> Function<Mono<HttpInbound>, Mono<T>> deserializedResponse(Class<T> responseType) {
         return inbound -> inbound
-            .then(i -> i.receive().aggregate().toInputStream())
-            .map(JsonCodec.decode(this.objectMapper, responseType));
+            .then(i -> decode(i, responseType));
+    }
+
+    private <T> Function<Mono<HttpInbound>, Mono<T>> deserializedResponse(Class<T> responseType, Optional<ConditionalRequestCache.ConditionalRequest<T>> conditionalRequest) {
+        return conditionalRequest
+            .map(c -> (Function<Mono<HttpInbound>, Mono<T>>) inbound -> inbound
+                .then(i -> c.decode(i, j -> decode(j, responseType), JsonCodec.decode(i, this.objectMapper, responseType, this.connectionContext.getCompression()),
+                    this.connectionContext.getDecodeScheduler())))
+            .orElse(deserializedResponse(responseType));
+    }
+
+    private <T> Mono<T> doGet(Class<T> responseType, Function<UriBuilder, UriBuilder> uriTransformer, Function<HttpOutbound, HttpOutbound> requestTransformer, boolean shared) {
+        return uri(uriTransformer)
+            .then(builder -> {
+                String uri = builder.build();
+                String template = builder.getPathTemplate();
+                RequestKey key = new RequestKey(this.authorizationProvider, uri, responseType);
+
+                Mono<T> exchange = Mono.defer(() -> {
+                    Optional<ConditionalRequestCache.ConditionalRequest<T>> conditionalRequest = conditionalRequest(key);
+
+                    return exchange("GET", this.httpClient::get, uri, template, outbound -> Mono.just(outbound)
+                        .map(this::acceptCompression)
+                        .map(requestTransformer)
+                        .map(o -> conditionalRequest.map(c -> c.addValidators(o)).orElse(o))
+                        .then(HttpOutbound::sendHeaders), deserializedResponse(responseType, conditionalRequest), true);
+                });
+
+                return shared ? share(key, template, exchange) : exchange;
+            });
+    }
+
+    private Mono<HttpInbound> exchange(String method, BiFunction<String, Function<HttpOutbound, Mono<Void>>, Mono<HttpInbound>> verb, Function<UriBuilder, UriBuilder> uriTransformer,
+                                       Function<HttpOutbound, Mono<Void>> requestTransformer) {
+        return uri(uriTransformer)
+            .then(builder -> {
+                String uri = builder.build();
+                String template = builder.getPathTemplate();
+
+                return Mono.defer(() -> {
+                    RequestRecorder recorder = new RequestRecorder(method, this.connectionContext.getRequestMetrics(), template);
+
+                    return attempt(method, verb, uri, template, requestTransformer, Function.identity(), recorder)
+                        .compose(timeout(method))
+                        .compose(protect(template))
+                        .compose(retry(method, true, recorder))
+                        .doOnSuccess(inbound -> recorder.complete())
+                        .doOnError(t -> recorder.complete());
+                });
+            });
+    }
+
+    private <T> Mono<T> exchange(String method, BiFunction<String, Function<HttpOutbound, Mono<Void>>, Mono<HttpInbound>> verb, Function<UriBuilder, UriBuilder> uriTransformer,
+                                 Function<HttpOutbound, Mono<Void>> requestTransformer, Function<Mono<HttpInbound>, Mono<T>> deserializer, boolean replayable) {
+        return uri(uriTransformer)
+            .then(builder -> exchange(method, verb, builder.build(), builder.getPathTemplate(), requestTransformer, deserializer, replayable));
+    }
+
+    private <T> Mono<T> exchange(String method, BiFunction<String, Function<HttpOutbound, Mono<Void>>, Mono<HttpInbound>> verb, String uri, String template,
+                                 Function<HttpOutbound, Mono<Void>> requestTransformer, Function<Mono<HttpInbound>, Mono<T>> deserializer, boolean replayable) {
+        return Mono.defer(() -> {
+            RequestRecorder recorder = new RequestRecorder(method, this.connectionContext.getRequestMetrics(), template);
+
+            return attempt(method, verb, uri, template, requestTransformer, deserializer, recorder)
+                .compose(timeout(method))
+                .compose(protect(template))
+                .compose(hedge(method, replayable, template))
+                .compose(retry(method, replayable, recorder))
+                .doOnSuccess(response -> recorder.complete())
+                .doOnError(t -> recorder.complete());
+        });
+    }
+
+    private <T> Function<Mono<T>, Mono<T>> hedge(String method, boolean replayable, String template) {
+        return exchange -> this.connectionContext.getHedgingPolicy()
+            .filter(hedgingPolicy -> replayable && hedgingPolicy.isHedgeable(method))
+            .map(hedgingPolicy -> hedgingPolicy.hedge(template, exchange))
+            .orElse(exchange);
+    }
+
+    private void invalidate(String method, String template) {
+        if (!"GET".equals(method) && !"WS".equals(method)) {
+            this.connectionContext.getResponseCache().ifPresent(cache -> cache.invalidate(template));
+        }
+    }
+
+    private <T> Mono<T> admit(Mono<T> exchange) {
+        return this.connectionContext.getRequestGate().admit(exchange);
+    }
+
+    private void logRequest(String method, String uri) {
+        if (this.requestLogger.isDebugEnabled()) {
+            this.requestLogger.debug(String.format("%-6s %s", method, uri));
+        }
     }
 
     private Function<Mono<HttpInbound>, Mono<HttpInbound>> logResponse(String uri) {
@@ -184,10 +296,45 @@ public abstract class AbstractReactorOperations {
             });
     }
 
+    private <T> Function<Mono<T>, Mono<T>> protect(String template) {
+        return exchange -> this.connectionContext.getCircuitBreakers()
+            .map(circuitBreakers -> this.root
+                .then(root -> circuitBreakers.protect(String.format("%s %s", root.getHost(), template), exchange, this::admit)))
+            .orElseGet(() -> admit(exchange));
+    }
+
+    private <T> Function<Mono<T>, Mono<T>> retry(String method, boolean replayable, RequestRecorder recorder) {
+        return exchange -> this.connectionContext.getRetryPolicy()
+            .filter(retryPolicy -> replayable && retryPolicy.isRetryable(method))
+            .map(retryPolicy -> exchange.retryWhen(retryPolicy.retries(method, recorder)))
+            .orElse(exchange);
+    }
+
     private Mono<ByteBuf> serializedRequest(HttpOutbound outbound, Object request) {
         return Mono.just(request)
             .filter(req -> this.objectMapper.canSerialize(req.getClass()))
             .map(JsonCodec.encode(this.objectMapper, outbound));
     }
 
+    private <T> Mono<T> share(RequestKey key, String template, Mono<T> exchange) {
+        Mono<T> coalesced = this.connectionContext.getRequestCoalescer()
+            .map(coalescer -> coalescer.coalesce(key, exchange))
+            .orElse(exchange);
+
+        return this.connectionContext.getResponseCache()
+            .map(cache -> cache.get(template, key, coalesced))
+            .orElse(coalesced);
+    }
+
+    private <T> Function<Mono<T>, Mono<T>> timeout(String method) {
+        return exchange -> this.connectionContext.getResponseTimeout()
+            .map(timeout -> exchange.as(DeadlineUtils.timeout(timeout, () -> new TimeoutException(String.format("%s response not received within %d ms", method, timeout.toMillis())))))
+            .orElse(exchange);
+    }
+
+    private Mono<UriBuilder> uri(Function<UriBuilder, UriBuilder> uriTransformer) {
+        return this.root
+            .map(root -> uriTransformer.apply(root.newBuilder()));
+    }
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+/**
+ * A listener for the state of {@link CircuitBreakers}
+ */
+public interface CircuitBreakerMetrics {
+
+    /**
+     * Called once when {@link CircuitBreakers} are created.  Implementations typically register {@link CircuitBreakers#getStates()} as a gauge.
+     *
+     * @param circuitBreakers the circuit breakers
+     */
+    void register(CircuitBreakers circuitBreakers);
+
+    /**
+     * Called when the circuit breaker for an endpoint changes state
+     *
+     * @param endpoint the endpoint, identified by host and path template (e.g. {@code api.example.com /v2/apps/{id}})
+     * @param state    the new state
+     */
+    void stateChanged(String endpoint, CircuitBreakers.State state);
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.util.AsciiString;
+import reactor.core.util.Exceptions;
+import reactor.io.netty.http.HttpInbound;
+import reactor.io.netty.http.HttpOutbound;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Negotiates {@code gzip} and {@code deflate} compression of response bodies, and counts the bytes of compressed responses as they are received and after they are decompressed
+ */
+public final class Compression {
+
+    private static final AsciiString ACCEPT_ENCODING = new AsciiString("Accept-Encoding");
+
+    private static final AsciiString CONTENT_ENCODING = new AsciiString("Content-Encoding");
+
+    private static final String DEFLATE = "deflate";
+
+    private static final AsciiString GZIP_DEFLATE = new AsciiString("gzip, deflate");
+
+    private static final String GZIP = "gzip";
+
+    private final AtomicLong compressedBytes = new AtomicLong();
+
+    private final AtomicLong uncompressedBytes = new AtomicLong();
+
+    /**
+     * Wraps a response body so that it is decompressed according to the response's {@code Content-Encoding}
+     *
+     * @param inbound the response
+     * @param in      the response body
+     * @return the decompressed response body
+     */
+    public static InputStream decompress(HttpInbound inbound, InputStream in) {
+        String contentEncoding = inbound.responseHeaders().get(CONTENT_ENCODING);
+
+        try {
+            if (GZIP.equalsIgnoreCase(contentEncoding)) {
+                return new GZIPInputStream(in);
+            } else if (DEFLATE.equalsIgnoreCase(contentEncoding)) {
+                return new InflaterInputStream(in);
+            } else {
+                return in;
+            }
+        } catch (IOException e) {
+            try {
+                in.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes received in compressed response bodies
+     *
+     * @return the number of compressed bytes
+     */
+    public long getCompressedBytes() {
+        return this.compressedBytes.get();
+    }
+
+    /**
+     * Returns the number of bytes that compressed response bodies decompressed to
+     *
+     * @return the number of uncompressed bytes
+     */
+    public long getUncompressedBytes() {
+        return this.uncompressedBytes.get();
+    }
+
+    HttpOutbound accept(HttpOutbound outbound) {
+        outbound.headers().set(ACCEPT_ENCODING, GZIP_DEFLATE);
+        return outbound;
+    }
+
+    InputStream decompressAndCount(HttpInbound inbound, InputStream in) {
+        InputStream compressed = new CountingInputStream(in, this.compressedBytes);
+        InputStream decompressed = decompress(inbound, compressed);
+
+        return decompressed == compressed ? in : new CountingInputStream(decompressed, this.uncompressedBytes);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final AtomicLong count;
+
+        private CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                this.count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                this.count.addAndGet(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            this.count.addAndGet(skipped);
+            return skipped;
+        }
+
+    }
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.AsciiString;
+import org.cloudfoundry.client.DownloadProgress;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.io.netty.http.HttpInbound;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes a response body to a file as its chunks arrive, without copying them onto the heap.  At most {@code maxInFlight} chunks are written concurrently, so that a slow disk applies backpressure
+ * to the connection rather than buffering the whole body.  The SHA-1 and SHA-256 digests of the body are computed as it is written.  Progress is reported to subscribers when they have demand for it
+ * and dropped otherwise; the final item, which carries the digests, is always delivered.  The body is written to a temporary file next to the target, which replaces the target only once the
+ * whole body has been written.  Before the move, the temporary file is given the permissions of the file it replaces, or {@code rw-r--r--} if there is none, rather than
+ * keeping the owner-only permissions it was created with.  If the download fails or is cancelled, the temporary file is deleted and the target is left untouched.
+ */
+public final class FileDownload implements Subscriber<ByteBuf>, Subscription {
+
+    private static final AsciiString CONTENT_LENGTH = new AsciiString("Content-Length");
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private static final Set<PosixFilePermission> DEFAULT_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    private final AsynchronousFileChannel channel;
+
+    private final Long contentLength;
+
+    private final Subscriber<? super DownloadProgress> downstream;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final int maxInFlight;
+
+    private final Path path;
+
+    private final MessageDigest sha1;
+
+    private final MessageDigest sha256;
+
+    private final Path temporary;
+
+    private DownloadProgress completed;
+
+    private long position;
+
+    private long requested;
+
+    private boolean terminated;
+
+    private volatile boolean upstreamComplete;
+
+    private volatile Subscription upstream;
+
+    private FileDownload(AsynchronousFileChannel channel, Long contentLength, Subscriber<? super DownloadProgress> downstream, int maxInFlight, Path path, Path temporary) {
+        this.channel = channel;
+        this.contentLength = contentLength;
+        this.downstream = downstream;
+        this.maxInFlight = maxInFlight;
+        this.path = path;
+        this.sha1 = getMessageDigest("SHA-1");
+        this.sha256 = getMessageDigest("SHA-256");
+        this.temporary = temporary;
+    }
+
+    /**
+     * Writes the body of a response to a file, replacing any existing file once the body has been written completely
+     *
+     * @param inbound the response
+     * @param path    the file to write to
+     * @return the progress of the download, ending with an item that carries the digests of the body
+     */
+    public static Flux<DownloadProgress> write(Mono<HttpInbound> inbound, Path path) {
+        return Flux.defer(() -> {
+            Path temporary;
+            AsynchronousFileChannel channel;
+            try {
+                temporary = Files.createTempFile(path.toAbsolutePath().getParent(), String.format(".%s", path.getFileName()), ".download");
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+
+            try {
+                channel = AsynchronousFileChannel.open(temporary, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                delete(temporary);
+                return Flux.error(e);
+            }
+
+            return inbound
+                .flatMap(i -> Flux.<DownloadProgress>from(subscriber -> {
+                    FileDownload download = new FileDownload(channel, getContentLength(i), subscriber, DEFAULT_MAX_IN_FLIGHT, path, temporary);
+                    subscriber.onSubscribe(download);
+                    i.receive().subscribe(download);
+                }))
+                .doOnError(t -> discard(channel, temporary))
+                .doOnCancel(() -> discard(channel, temporary));
+        });
+    }
+
+    @Override
+    public void cancel() {
+        Subscription upstream;
+        synchronized (this) {
+            if (this.terminated) {
+                return;
+            }
+
+            this.terminated = true;
+            upstream = this.upstream;
+        }
+
+        if (upstream != null) {
+            upstream.cancel();
+        }
+        discard(this.channel, this.temporary);
+    }
+
+    @Override
+    public void onComplete() {
+        this.upstreamComplete = true;
+        tryComplete();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+    }
+
+    @Override
+    public void onNext(ByteBuf byteBuf) {
+        int length = byteBuf.readableBytes();
+        if (length == 0) {
+            this.upstream.request(1);
+            return;
+        }
+
+        for (ByteBuffer buffer : byteBuf.nioBuffers()) {
+            this.sha1.update(buffer.duplicate());
+            this.sha256.update(buffer.duplicate());
+        }
+
+        long position = this.position;
+        this.position += length;
+        this.inFlight.incrementAndGet();
+
+        write(byteBuf.retain(), byteBuf.nioBuffer(), position, length);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+
+        synchronized (this) {
+            if (this.terminated) {
+                subscription.cancel();
+                return;
+            }
+        }
+
+        subscription.request(this.maxInFlight);
+    }
+
+    @Override
+    public void request(long n) {
+        synchronized (this) {
+            this.requested = this.requested + n < 0 ? Long.MAX_VALUE : this.requested + n;
+        }
+        drain();
+    }
+
+    private static void delete(Path temporary) {
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            // nothing more can be done with a temporary file that fails to delete after a failure
+        }
+    }
+
+    private static void discard(AsynchronousFileChannel channel, Path temporary) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing more can be done with a file that fails to close after a failure
+        }
+
+        delete(temporary);
+    }
+
+    private static void copyPermissions(Path temporary, Path path) throws IOException {
+        if (Files.getFileAttributeView(temporary, PosixFileAttributeView.class) == null) {
+            return;
+        }
+
+        Set<PosixFilePermission> permissions = Files.exists(path) ? Files.getPosixFilePermissions(path) : DEFAULT_PERMISSIONS;
+        Files.setPosixFilePermissions(temporary, permissions);
+    }
+
+    private static Long getContentLength(HttpInbound inbound) {
+        String contentLength = inbound.responseHeaders().get(CONTENT_LENGTH);
+        return contentLength != null ? Long.valueOf(contentLength) : null;
+    }
+
+    private static MessageDigest getMessageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (this.completed == null || this.requested == 0 || this.terminated) {
+                return;
+            }
+
+            this.terminated = true;
+            this.downstream.onNext(this.completed);
+            this.downstream.onComplete();
+        }
+    }
+
+    private void fail(Throwable t) {
+        Subscription upstream;
+        synchronized (this) {
+            if (this.terminated) {
+                return;
+            }
+
+            this.terminated = true;
+            upstream = this.upstream;
+        }
+
+        if (upstream != null) {
+            upstream.cancel();
+        }
+        discard(this.channel, this.temporary);
+
+        this.downstream.onError(t);
+    }
+
+    private DownloadProgress progress(boolean complete) {
+        return DownloadProgress.builder()
+            .bytesWritten(this.bytesWritten.get())
+            .complete(complete)
+            .contentLength(this.contentLength)
+            .sha1(complete ? ByteBufUtil.hexDump(this.sha1.digest()) : null)
+            .sha256(complete ? ByteBufUtil.hexDump(this.sha256.digest()) : null)
+            .build();
+    }
+
+    private void reportProgress() {
+        synchronized (this) {
+            if (this.requested == 0 || this.terminated) {
+                return;
+            }
+
+            this.requested--;
+            this.downstream.onNext(progress(false));
+        }
+    }
+
+    private void tryComplete() {
+        if (!this.upstreamComplete || this.inFlight.get() != 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.completed != null || this.terminated) {
+                return;
+            }
+
+            try {
+                this.channel.force(false);
+                this.channel.close();
+                copyPermissions(this.temporary, this.path);
+                Files.move(this.temporary, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+
+            this.completed = progress(true);
+        }
+
+        drain();
+    }
+
+    private void write(ByteBuf byteBuf, ByteBuffer buffer, long position, int length) {
+        this.channel.write(buffer, position, null, new CompletionHandler<Integer, Void>() {
+
+            @Override
+            public void completed(Integer written, Void attachment) {
+                if (buffer.hasRemaining()) {
+                    write(byteBuf, buffer, position + written, length);
+                    return;
+                }
+
+                byteBuf.release();
+                FileDownload.this.bytesWritten.addAndGet(length);
+                FileDownload.this.inFlight.decrementAndGet();
+
+                reportProgress();
+                FileDownload.this.upstream.request(1);
+                tryComplete();
+            }
+
+            @Override
+            public void failed(Throwable t, Void attachment) {
+                byteBuf.release();
+                FileDownload.this.inFlight.decrementAndGet();
+                fail(t);
+            }
+
+        });
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link RequestMetrics} that keeps a {@link LatencyHistogram} of request durations for each method and path template, for example {@code GET /v2/apps/{id}/routes}
+ */
+public final class HistogramRequestMetrics implements RequestMetrics {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the endpoints that have been requested, keyed by method and path template
+     *
+     * @return the endpoints that have been requested
+     */
+    public Map<String, Endpoint> getEndpoints() {
+        return Collections.unmodifiableMap(this.endpoints);
+    }
+
+    @Override
+    public void record(RequestSample sample) {
+        this.endpoints
+            .computeIfAbsent(String.format("%s %s", sample.getMethod(), sample.getTemplate()), key -> new Endpoint())
+            .record(sample);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        this.endpoints.forEach((key, endpoint) -> sb.append(key).append(": ").append(endpoint).append('\n'));
+        return sb.toString();
+    }
+
+    /**
+     * The measurements of all requests to an endpoint
+     */
+    public static final class Endpoint {
+
+        private final AtomicLong bytesIn = new AtomicLong();
+
+        private final AtomicLong bytesOut = new AtomicLong();
+
+        private final LatencyHistogram decodeTime = new LatencyHistogram();
+
+        private final AtomicLong errors = new AtomicLong();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final AtomicLong retries = new AtomicLong();
+
+        private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+
+        private Endpoint() {
+        }
+
+        /**
+         * Returns the total number of response bytes with a known length
+         *
+         * @return the total number of response bytes
+         */
+        public long getBytesIn() {
+            return this.bytesIn.get();
+        }
+
+        /**
+         * Returns the total number of request bytes with a known length
+         *
+         * @return the total number of request bytes
+         */
+        public long getBytesOut() {
+            return this.bytesOut.get();
+        }
+
+        /**
+         * Returns the histogram of decode times
+         *
+         * @return the histogram of decode times
+         */
+        public LatencyHistogram getDecodeTime() {
+            return this.decodeTime;
+        }
+
+        /**
+         * Returns the number of requests that failed or received a status of {@code 400} or above
+         *
+         * @return the number of errors
+         */
+        public long getErrors() {
+            return this.errors.get();
+        }
+
+        /**
+         * Returns the histogram of request durations
+         *
+         * @return the histogram of request durations
+         */
+        public LatencyHistogram getLatency() {
+            return this.latency;
+        }
+
+        /**
+         * Returns the total number of retries
+         *
+         * @return the total number of retries
+         */
+        public long getRetries() {
+            return this.retries.get();
+        }
+
+        /**
+         * Returns the histogram of times to first byte
+         *
+         * @return the histogram of times to first byte
+         */
+        public LatencyHistogram getTimeToFirstByte() {
+            return this.timeToFirstByte;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, errors=%d, retries=%d, bytesIn=%d, bytesOut=%d", this.latency, getErrors(), getRetries(), getBytesIn(), getBytesOut());
+        }
+
+        private void record(RequestSample sample) {
+            this.latency.record(sample.getDuration());
+            this.timeToFirstByte.record(sample.getTimeToFirstByte());
+            this.decodeTime.record(sample.getDecodeTime());
+            this.bytesIn.addAndGet(Math.max(0, sample.getBytesIn()));
+            this.bytesOut.addAndGet(Math.max(0, sample.getBytesOut()));
+            this.retries.addAndGet(sample.getRetries());
+
+            if (sample.getStatus() < 0 || sample.getStatus() >= 400) {
+                this.errors.incrementAndGet();
+            }
+        }
+
+    }
+
+}
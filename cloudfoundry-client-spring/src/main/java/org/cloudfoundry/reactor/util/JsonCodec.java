@@ -16,24 +16,69 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.util.AsciiString;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.util.Exceptions;
+import reactor.io.netty.http.HttpInbound;
 import reactor.io.netty.http.HttpOutbound;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
 import java.util.function.Function;
 
 final class JsonCodec {
 
     private static final AsciiString APPLICATION_JSON = new AsciiString("application/json; charset=utf-8");
 
+    private static final AsciiString CONTENT_LENGTH = new AsciiString("Content-Length");
+
     private static final AsciiString CONTENT_TYPE = new AsciiString("Content-Type");
 
+    private static final int PREFETCH = 16;
+
+    /**
+     * Decodes the body of a response.  Bodies that are larger than {@code decodeThreshold}, or whose size is not known up front, are decoded on the {@code decodeScheduler} as their chunks
+     * arrive rather than being aggregated and decoded on the event loop.  If no {@code decodeScheduler} is configured, all bodies are aggregated and decoded in place.
+     *
+     * @param inbound         the response to decode the body of
+     * @param objectMapper    the {@link ObjectMapper} to decode with
+     * @param type            the type to decode to
+     * @param decodeScheduler the {@link Scheduler} to decode large bodies on
+     * @param decodeThreshold the size, in bytes, above which a body is considered large
+     * @param compression     the {@link Compression} to decompress compressed bodies with
+     * @param <T>             the type to decode to
+     * @return the decoded body
+     */
+    static <T> Mono<T> decode(HttpInbound inbound, ObjectMapper objectMapper, Class<T> type, Optional<Scheduler> decodeScheduler, int decodeThreshold, Optional<Compression> compression) {
+        Function<InputStream, InputStream> decompressor = decompressor(inbound, compression);
+
+        return decodeScheduler
+            .filter(scheduler -> isLarge(inbound, decodeThreshold))
+            .map(scheduler -> decodeStreaming(inbound, objectMapper, type, scheduler, decompressor))
+            .orElseGet(() -> decodeAggregated(inbound, objectMapper, type, decompressor));
+    }
+
+    /**
+     * Decodes an aggregated response body, decompressing it first if necessary
+     *
+     * @param inbound      the response the body belongs to
+     * @param objectMapper the {@link ObjectMapper} to decode with
+     * @param type         the type to decode to
+     * @param compression  the {@link Compression} to decompress compressed bodies with
+     * @param <T>          the type to decode to
+     * @return a function that decodes the body
+     */
+    static <T> Function<InputStream, T> decode(HttpInbound inbound, ObjectMapper objectMapper, Class<T> type, Optional<Compression> compression) {
+        return decompressor(inbound, compression).andThen(decode(objectMapper, type));
+    }
+
     static <T> Function<InputStream, T> decode(ObjectMapper objectMapper, Class<T> type) {
         return inputStream -> {
             try (InputStream in = inputStream) {
@@ -49,12 +94,87 @@ final class JsonCodec {
         return source -> encode(httpOutbound.delegate().alloc(), objectMapper, source);
     }
 
+    /**
+     * Encodes a source directly into a pooled {@link ByteBuf}.  The {@link com.fasterxml.jackson.core.JsonGenerator} writes straight into the buffer, so no intermediate {@code byte[]} is
+     * allocated, and its internal buffers are recycled per-thread by Jackson.
+     *
+     * @param allocator    the allocator to allocate the buffer with
+     * @param objectMapper the {@link ObjectMapper} to encode with
+     * @param source       the source to encode
+     * @param <T>          the type of the source
+     * @return a buffer containing the encoded source
+     */
     static <T> ByteBuf encode(ByteBufAllocator allocator, ObjectMapper objectMapper, T source) {
-        try {
-            return allocator.directBuffer().writeBytes(objectMapper.writeValueAsBytes(source));
-        } catch (JsonProcessingException e) {
+        ByteBuf byteBuf = allocator.buffer();
+
+        try (OutputStream out = new ByteBufOutputStream(byteBuf)) {
+            objectMapper.writeValue(out, source);
+            return byteBuf;
+        } catch (IOException e) {
+            byteBuf.release();
             throw Exceptions.propagate(e);
         }
     }
 
+    /**
+     * Returns the number of bytes a source encodes to, without keeping the encoded bytes
+     *
+     * @param objectMapper the {@link ObjectMapper} to encode with
+     * @param source       the source to encode
+     * @return the length of the encoded source
+     */
+    static long encodedLength(ObjectMapper objectMapper, Object source) {
+        try (CountingOutputStream out = new CountingOutputStream()) {
+            objectMapper.writeValue(out, source);
+            return out.count;
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static <T> Mono<T> decodeAggregated(HttpInbound inbound, ObjectMapper objectMapper, Class<T> type, Function<InputStream, InputStream> decompressor) {
+        return inbound.receive().aggregate().toInputStream()
+            .map(decompressor)
+            .map(decode(objectMapper, type));
+    }
+
+    private static <T> Mono<T> decodeStreaming(HttpInbound inbound, ObjectMapper objectMapper, Class<T> type, Scheduler scheduler, Function<InputStream, InputStream> decompressor) {
+        return Mono.defer(() -> {
+            PublisherInputStream inputStream = new PublisherInputStream(PREFETCH);
+            inbound.receive().subscribe(inputStream);
+
+            return Mono
+                .defer(() -> inputStream.isEmpty() ? Mono.<T>empty() : Mono.just(decompressor.andThen(decode(objectMapper, type)).apply(inputStream)))
+                .subscribeOn(scheduler)
+                .doOnCancel(inputStream::close);
+        });
+    }
+
+    private static Function<InputStream, InputStream> decompressor(HttpInbound inbound, Optional<Compression> compression) {
+        return in -> compression
+            .map(c -> c.decompressAndCount(inbound, in))
+            .orElse(in);
+    }
+
+    private static boolean isLarge(HttpInbound inbound, int decodeThreshold) {
+        String contentLength = inbound.responseHeaders().get(CONTENT_LENGTH);
+        return contentLength == null || Long.parseLong(contentLength) > decodeThreshold;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.count += len;
+        }
+
+    }
+
 }
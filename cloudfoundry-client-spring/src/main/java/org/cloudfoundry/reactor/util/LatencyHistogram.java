@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies with a fixed relative precision.  Values are recorded in nanoseconds into log-linear buckets, each power of two being divided into 64 linear sub-buckets, so
+ * that any reported value is within about 1.5% of the recorded value.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((BUCKETS + 1) * SUB_BUCKETS);
+
+    private final AtomicLong max = new AtomicLong();
+
+    private final AtomicLong totalCount = new AtomicLong();
+
+    private final AtomicLong totalValue = new AtomicLong();
+
+    /**
+     * Returns the number of recorded values
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return this.totalCount.get();
+    }
+
+    /**
+     * Returns the largest recorded value
+     *
+     * @return the largest recorded value
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(this.max.get());
+    }
+
+    /**
+     * Returns the mean of the recorded values
+     *
+     * @return the mean of the recorded values
+     */
+    public Duration getMean() {
+        long count = this.totalCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(this.totalValue.get() / count);
+    }
+
+    /**
+     * Returns the value below which a percentage of the recorded values fall
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the value at the percentile
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        long count = this.totalCount.get();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+
+        long cumulative = 0;
+        for (int index = 0; index < this.counts.length(); index++) {
+            cumulative += this.counts.get(index);
+
+            if (cumulative >= target) {
+                return Duration.ofNanos(Math.min(highestEquivalentValue(index), this.max.get()));
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Records a value
+     *
+     * @param value the value to record
+     */
+    public void record(Duration value) {
+        long nanos = Math.max(0, value.toNanos());
+
+        this.counts.incrementAndGet(index(nanos));
+        this.totalCount.incrementAndGet();
+        this.totalValue.addAndGet(nanos);
+
+        long current;
+        while (nanos > (current = this.max.get()) && !this.max.compareAndSet(current, nanos)) {
+            // retry until the maximum is at least this value
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%dms, p50=%dms, p99=%dms, max=%dms", getCount(), getMean().toMillis(), getValueAtPercentile(50).toMillis(),
+            getValueAtPercentile(99).toMillis(), getMax().toMillis());
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+
+        int bucket = index / SUB_BUCKETS - 1;
+        long subBucket = index - (long) bucket * SUB_BUCKETS;
+        return ((subBucket + 1) << bucket) - 1;
+    }
+
+    private static int index(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int bucket = 64 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS + 1);
+        return bucket * SUB_BUCKETS + (int) (value >>> bucket);
+    }
+
+}
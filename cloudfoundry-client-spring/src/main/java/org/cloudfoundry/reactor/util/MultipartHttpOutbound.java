@@ -19,22 +19,31 @@ package org.cloudfoundry.reactor.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.CompositeByteBuf;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.util.Exceptions;
 import reactor.io.netty.http.HttpOutbound;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.function.Consumer;
 
+/**
+ * A multipart {@code form-data} request body.  Parts are written as a stream of bounded chunks so that the memory used by an upload does not grow with the size of its parts.  When the length
+ * of every part is known up front (e.g. JSON parts and {@link FileInputStream}s) the body is sent with a {@code Content-Length}, otherwise it is sent using chunked transfer encoding.  The
+ * {@link InputStream}s of the parts are closed once the body has been sent, or when sending it fails or is cancelled, even if the body was never read.
+ */
 public final class MultipartHttpOutbound {
 
     private static final byte[] BOUNDARY_CHARS = new byte[]{'-', '_', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o',
@@ -42,6 +51,8 @@ public final class MultipartHttpOutbound {
 
     private static final AsciiString BOUNDARY_PREAMBLE = new AsciiString("; boundary=");
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     private static final AsciiString CONTENT_DISPOSITION = new AsciiString("Content-Disposition");
 
     private static final AsciiString CONTENT_LENGTH = new AsciiString("Content-Length");
@@ -58,6 +69,8 @@ public final class MultipartHttpOutbound {
 
     private static final Random RND = new Random();
 
+    private static final long UNKNOWN_LENGTH = -1;
+
     private final ObjectMapper objectMapper;
 
     private final HttpOutbound outbound;
@@ -78,15 +91,30 @@ public final class MultipartHttpOutbound {
         AsciiString boundary = generateMultipartBoundary();
         ByteBufAllocator allocator = this.outbound.delegate().alloc();
 
-        CompositeByteBuf bodyBuf = allocator.compositeBuffer();
-        this.partConsumers.forEach(partConsumer -> bodyBuf.addComponent(getPart(allocator, boundary, this.objectMapper, partConsumer)));
-        bodyBuf.addComponent(getCloseDelimiter(allocator, boundary));
+        List<PartHttpOutbound> parts = getParts(this.objectMapper, this.partConsumers);
+        long contentLength = getContentLength(boundary, parts);
+
+        Flux<ByteBuf> body = Flux.fromIterable(parts)
+            .concatMap(part -> part.getBody(allocator, boundary))
+            .concatWith(Mono.defer(() -> Mono.just(getCloseDelimiter(allocator, boundary))));
+
+        HttpOutbound outbound = this.outbound
+            .addHeader(CONTENT_TYPE, MULTIPART_FORM_DATA.concat(BOUNDARY_PREAMBLE).concat(boundary));
+
+        if (contentLength != UNKNOWN_LENGTH) {
+            outbound = outbound
+                .removeTransferEncodingChunked()
+                .addHeader(CONTENT_LENGTH, String.valueOf(contentLength));
+        }
+
+        return outbound.send(body)
+            .doOnSuccess(v -> close(parts))
+            .doOnError(t -> close(parts))
+            .doOnCancel(() -> close(parts));
+    }
 
-        return this.outbound
-            .removeTransferEncodingChunked()
-            .addHeader(CONTENT_TYPE, MULTIPART_FORM_DATA.concat(BOUNDARY_PREAMBLE).concat(boundary))
-            .addHeader(CONTENT_LENGTH, String.valueOf(bodyBuf.capacity()))
-            .sendOne(bodyBuf.writerIndex(bodyBuf.capacity()));
+    private static void close(List<PartHttpOutbound> parts) {
+        parts.forEach(PartHttpOutbound::close);
     }
 
     private static AsciiString generateMultipartBoundary() {
@@ -97,26 +125,47 @@ public final class MultipartHttpOutbound {
         return new AsciiString(boundary);
     }
 
-    private static ByteBuf getCloseDelimiter(ByteBufAllocator allocator, AsciiString boundary) {
-        AsciiString s = DOUBLE_DASH.concat(boundary).concat(DOUBLE_DASH);
+    private static ByteBuf getBuffer(ByteBufAllocator allocator, AsciiString s) {
         return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
     }
 
-    private static ByteBuf getDelimiter(ByteBufAllocator allocator, AsciiString boundary) {
-        AsciiString s = DOUBLE_DASH.concat(boundary).concat(CRLF);
-        return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
+    private static AsciiString getCloseDelimiter(AsciiString boundary) {
+        return DOUBLE_DASH.concat(boundary).concat(DOUBLE_DASH);
+    }
+
+    private static ByteBuf getCloseDelimiter(ByteBufAllocator allocator, AsciiString boundary) {
+        return getBuffer(allocator, getCloseDelimiter(boundary));
+    }
+
+    private static long getContentLength(AsciiString boundary, List<PartHttpOutbound> parts) {
+        long contentLength = getCloseDelimiter(boundary).length();
+
+        for (PartHttpOutbound part : parts) {
+            long partLength = part.getLength(boundary);
+            if (partLength == UNKNOWN_LENGTH) {
+                return UNKNOWN_LENGTH;
+            }
+
+            contentLength += partLength;
+        }
+
+        return contentLength;
     }
 
-    private static ByteBuf getPart(ByteBufAllocator allocator, AsciiString boundary, ObjectMapper objectMapper, Consumer<PartHttpOutbound> partConsumer) {
-        PartHttpOutbound part = new PartHttpOutbound(objectMapper);
-        partConsumer.accept(part);
+    private static AsciiString getDelimiter(AsciiString boundary) {
+        return DOUBLE_DASH.concat(boundary).concat(CRLF);
+    }
 
-        CompositeByteBuf body = allocator.compositeBuffer();
-        body.addComponent(getDelimiter(allocator, boundary));
-        body.addComponent(part.getHeaders(allocator));
-        body.addComponent(part.getData(allocator));
+    private static List<PartHttpOutbound> getParts(ObjectMapper objectMapper, List<Consumer<PartHttpOutbound>> partConsumers) {
+        List<PartHttpOutbound> parts = new ArrayList<>(partConsumers.size());
 
-        return body.writerIndex(body.capacity());
+        for (Consumer<PartHttpOutbound> partConsumer : partConsumers) {
+            PartHttpOutbound part = new PartHttpOutbound(objectMapper);
+            partConsumer.accept(part);
+            parts.add(part);
+        }
+
+        return parts;
     }
 
     public static final class PartHttpOutbound {
@@ -162,46 +211,154 @@ public final class MultipartHttpOutbound {
             return this;
         }
 
-        private static ByteBuf getData(ByteBufAllocator allocator, InputStream inputStream) {
-            try (InputStream in = inputStream) {
-                ByteBuf byteBuf = allocator.directBuffer(in.available());
-                byteBuf.writeBytes(inputStream, inputStream.available());
-                return byteBuf;
+        private static void close(InputStream inputStream) {
+            try {
+                inputStream.close();
             } catch (IOException e) {
-                throw Exceptions.propagate(e);
+                // Nothing useful can be done with a failure to close at this point
+            }
+        }
+
+        private static long getLength(InputStream inputStream) {
+            if (!(inputStream instanceof FileInputStream)) {
+                return UNKNOWN_LENGTH;
+            }
+
+            try {
+                FileChannel channel = ((FileInputStream) inputStream).getChannel();
+                return channel.size() - channel.position();
+            } catch (IOException e) {
+                return UNKNOWN_LENGTH;
             }
         }
 
-        private static ByteBuf getData(ByteBufAllocator allocator, ObjectMapper objectMapper, Object source) {
-            return JsonCodec.encode(allocator, objectMapper, source);
+        private void close() {
+            if (this.inputStream != null) {
+                close(this.inputStream);
+            }
         }
 
-        private ByteBuf getData(ByteBufAllocator allocator) {
-            CompositeByteBuf dataBuf = allocator.compositeBuffer();
+        private Flux<ByteBuf> getBody(ByteBufAllocator allocator, AsciiString boundary) {
+            Flux<ByteBuf> preamble = Flux.defer(() -> Flux.just(getBuffer(allocator, getDelimiter(boundary)), getBuffer(allocator, getHeaders()), getBuffer(allocator, CRLF)));
+            Flux<ByteBuf> epilogue = Flux.defer(() -> Flux.just(getBuffer(allocator, CRLF)));
 
-            dataBuf.addComponent(allocator.directBuffer(CRLF.length()).writeBytes(CRLF.toByteArray()));
+            return preamble
+                .concatWith(getData(allocator))
+                .concatWith(epilogue);
+        }
 
+        private Flux<ByteBuf> getData(ByteBufAllocator allocator) {
             if (this.inputStream != null) {
-                dataBuf.addComponent(getData(allocator, this.inputStream));
+                ChunkIterator chunks = new ChunkIterator(allocator, this.inputStream);
+
+                return Flux.fromIterable(() -> chunks)
+                    .doOnCancel(chunks::close);
             } else if (this.source != null) {
-                dataBuf.addComponent(getData(allocator, this.objectMapper, this.source));
+                return Flux.defer(() -> Flux.just(JsonCodec.encode(allocator, this.objectMapper, this.source)));
+            } else {
+                return Flux.empty();
             }
-
-            dataBuf.addComponent(allocator.directBuffer(CRLF.length()).writeBytes(CRLF.toByteArray()));
-
-            return dataBuf.writerIndex(dataBuf.capacity());
         }
 
-        private ByteBuf getHeaders(ByteBufAllocator allocator) {
+        private AsciiString getHeaders() {
             AsciiString s = AsciiString.EMPTY_STRING;
 
             for (Map.Entry<String, String> entry : this.headers) {
                 s = s.concat(new AsciiString(entry.getKey())).concat(HEADER_DELIMITER).concat(entry.getValue()).concat(CRLF);
             }
 
-            return allocator.directBuffer(s.length()).writeBytes(s.toByteArray());
+            return s;
+        }
+
+        private long getLength(AsciiString boundary) {
+            long dataLength;
+            if (this.inputStream != null) {
+                dataLength = getLength(this.inputStream);
+            } else if (this.source != null) {
+                dataLength = JsonCodec.encodedLength(this.objectMapper, this.source);
+            } else {
+                dataLength = 0;
+            }
+
+            if (dataLength == UNKNOWN_LENGTH) {
+                return UNKNOWN_LENGTH;
+            }
+
+            return getDelimiter(boundary).length() + getHeaders().length() + CRLF.length() + dataLength + CRLF.length();
+        }
+
+    }
+
+    private static final class ChunkIterator implements Iterator<ByteBuf> {
+
+        private final ByteBufAllocator allocator;
+
+        private final InputStream inputStream;
+
+        private boolean done = false;
+
+        private ByteBuf next;
+
+        private ChunkIterator(ByteBufAllocator allocator, InputStream inputStream) {
+            this.allocator = allocator;
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null && !this.done) {
+                this.next = read();
+            }
+
+            return this.next != null;
+        }
+
+        @Override
+        public ByteBuf next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ByteBuf chunk = this.next;
+            this.next = null;
+            return chunk;
         }
 
+        private void close() {
+            this.done = true;
+            PartHttpOutbound.close(this.inputStream);
+        }
+
+        private ByteBuf read() {
+            ByteBuf chunk = this.allocator.directBuffer(CHUNK_SIZE, CHUNK_SIZE);
+
+            try {
+                while (chunk.isWritable()) {
+                    int read;
+                    if (this.inputStream instanceof FileInputStream) {
+                        read = chunk.writeBytes(((FileInputStream) this.inputStream).getChannel(), chunk.writableBytes());
+                    } else {
+                        read = chunk.writeBytes(this.inputStream, chunk.writableBytes());
+                    }
+
+                    if (read == -1) {
+                        close();
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                chunk.release();
+                close();
+                throw Exceptions.propagate(e);
+            }
+
+            if (!chunk.isReadable()) {
+                chunk.release();
+                return null;
+            }
+
+            return chunk;
+        }
 
     }
 
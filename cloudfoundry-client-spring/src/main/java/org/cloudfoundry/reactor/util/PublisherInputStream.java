@@ -0,0 +1,199 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.util.Exceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An {@link InputStream} that reads from a {@link org.reactivestreams.Publisher} of {@link ByteBuf}s as they arrive.  At most {@code prefetch} chunks are requested ahead of the reader so
+ * that a slow reader applies backpressure to the connection rather than buffering the whole body.  Reads block, so this must not be read from the thread that produces the chunks.  The
+ * stream may be closed from any thread; the chunk being read is released exactly once, and chunks that arrive after closing are released immediately.
+ */
+final class PublisherInputStream extends InputStream implements Subscriber<ByteBuf> {
+
+    private static final ByteBuf TERMINATED = Unpooled.unreleasableBuffer(Unpooled.buffer(0));
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final Object monitor = new Object();
+
+    private final int prefetch;
+
+    private final BlockingQueue<ByteBuf> queue = new LinkedBlockingQueue<>();
+
+    private ByteBuf current;
+
+    private volatile Throwable error;
+
+    private volatile Subscription subscription;
+
+    PublisherInputStream(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public int available() throws IOException {
+        synchronized (this.monitor) {
+            return (this.current == null || this.current == TERMINATED) ? 0 : this.current.readableBytes();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        Subscription subscription = this.subscription;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+
+        this.queue.offer(TERMINATED);
+
+        synchronized (this.monitor) {
+            release(this.current);
+            this.current = null;
+            drain();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        this.queue.offer(TERMINATED);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        this.error = t;
+        this.queue.offer(TERMINATED);
+    }
+
+    @Override
+    public void onNext(ByteBuf byteBuf) {
+        if (!byteBuf.isReadable()) {
+            this.subscription.request(1);
+            return;
+        }
+
+        this.queue.offer(byteBuf.retain());
+
+        if (this.closed.get()) {
+            drain();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(this.prefetch);
+    }
+
+    @Override
+    public int read() throws IOException {
+        synchronized (this.monitor) {
+            ByteBuf current = current();
+            return current == null ? -1 : current.readByte() & 0xFF;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        synchronized (this.monitor) {
+            ByteBuf current = current();
+            if (current == null) {
+                return -1;
+            }
+
+            int length = Math.min(len, current.readableBytes());
+            current.readBytes(b, off, length);
+            return length;
+        }
+    }
+
+    boolean isEmpty() {
+        synchronized (this.monitor) {
+            try {
+                return current() == null;
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    private static void release(ByteBuf byteBuf) {
+        if (byteBuf != null && byteBuf != TERMINATED) {
+            byteBuf.release();
+        }
+    }
+
+    private ByteBuf current() throws IOException {
+        while (this.current == null || !this.current.isReadable()) {
+            if (this.closed.get()) {
+                throw new IOException("Stream closed");
+            }
+
+            if (this.current == TERMINATED) {
+                if (this.error != null) {
+                    throw new IOException(this.error);
+                }
+
+                return null;
+            }
+
+            if (this.current != null) {
+                this.current.release();
+                this.current = null;
+                this.subscription.request(1);
+            }
+
+            try {
+                this.current = this.queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+
+        return this.current;
+    }
+
+    private void drain() {
+        ByteBuf byteBuf;
+        while ((byteBuf = this.queue.poll()) != null) {
+            release(byteBuf);
+        }
+
+        this.queue.offer(TERMINATED);
+    }
+
+}
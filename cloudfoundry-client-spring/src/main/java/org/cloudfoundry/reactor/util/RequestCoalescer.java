@@ -0,0 +1,132 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Shares a single exchange, and its decoded response, among all concurrent subscribers requesting the same resource as the same principal.  An exchange is shared only while it is in flight; once
+ * it completes the next request for the resource starts a new exchange.  A shared exchange runs for as long as any of its subscribers remains, and is cancelled when the last one cancels.
+ */
+public final class RequestCoalescer {
+
+    private final AtomicLong coalescedRequests = new AtomicLong();
+
+    private final ConcurrentMap<RequestKey, SharedExchange<?>> exchanges = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of requests that were served by joining an exchange already in flight
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalescedRequests() {
+        return this.coalescedRequests.get();
+    }
+
+    /**
+     * Returns the number of exchanges currently in flight
+     *
+     * @return the number of in flight exchanges
+     */
+    public int getInFlightExchanges() {
+        return this.exchanges.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Mono<T> coalesce(RequestKey key, Mono<T> exchange) {
+        return Mono.defer(() -> {
+            for (; ; ) {
+                SharedExchange<T> shared = new SharedExchange<>(key);
+
+                SharedExchange<T> existing = (SharedExchange<T>) this.exchanges.putIfAbsent(key, shared);
+                if (existing == null) {
+                    shared.start(exchange);
+                    return shared.subscriber();
+                }
+
+                if (existing.join()) {
+                    this.coalescedRequests.incrementAndGet();
+                    return existing.subscriber();
+                }
+
+                this.exchanges.remove(key, existing);
+            }
+        });
+    }
+
+    private final class SharedExchange<T> {
+
+        private final RequestKey key;
+
+        private final MonoProcessor<T> processor = MonoProcessor.create();
+
+        private final AtomicInteger subscribers = new AtomicInteger(1);
+
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        private SharedExchange(RequestKey key) {
+            this.key = key;
+        }
+
+        private boolean join() {
+            for (; ; ) {
+                int current = this.subscribers.get();
+                if (current == 0) {
+                    return false;
+                }
+
+                if (this.subscribers.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void leave() {
+            if (this.subscribers.decrementAndGet() == 0) {
+                RequestCoalescer.this.exchanges.remove(this.key, this);
+
+                Subscription subscription = this.subscription.getAndSet(null);
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+            }
+        }
+
+        private void start(Mono<T> exchange) {
+            exchange
+                .doOnSubscribe(this.subscription::set)
+                .doOnSuccess(response -> RequestCoalescer.this.exchanges.remove(this.key, this))
+                .doOnError(t -> RequestCoalescer.this.exchanges.remove(this.key, this))
+                .subscribe(this.processor);
+        }
+
+        private Mono<T> subscriber() {
+            return this.processor
+                .doOnCancel(this::leave);
+        }
+
+    }
+
+}
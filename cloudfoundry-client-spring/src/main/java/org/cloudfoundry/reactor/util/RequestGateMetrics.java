@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.time.Duration;
+
+/**
+ * A listener for the state of a {@link RequestGate}
+ */
+public interface RequestGateMetrics {
+
+    /**
+     * Called once when a {@link RequestGate} is created.  Implementations typically register the gate's {@code get*} methods as gauges.
+     *
+     * @param requestGate the request gate
+     */
+    void register(RequestGate requestGate);
+
+    /**
+     * Called when a connection completes its TLS handshake
+     *
+     * @param duration the time between the connection becoming active and the handshake completing
+     */
+    void handshake(Duration duration);
+
+}
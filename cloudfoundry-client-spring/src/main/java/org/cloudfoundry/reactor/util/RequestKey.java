@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.util.Objects;
+
+/**
+ * Identifies a {@code GET} request by the principal making it, its URI and the type its response is decoded to
+ */
+final class RequestKey {
+
+    private final Object principal;
+
+    private final Class<?> responseType;
+
+    private final String uri;
+
+    RequestKey(Object principal, String uri, Class<?> responseType) {
+        this.principal = principal;
+        this.responseType = responseType;
+        this.uri = uri;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        RequestKey key = (RequestKey) o;
+        return this.principal == key.principal && this.responseType == key.responseType && this.uri.equals(key.uri);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(this.principal), this.responseType, this.uri);
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.util.AsciiString;
+import reactor.io.netty.http.HttpException;
+import reactor.io.netty.http.HttpInbound;
+import reactor.io.netty.http.HttpOutbound;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Collects the measurements of a single request and reports them to a {@link RequestMetrics} when it completes.  Each attempt at the request, whether a retry or a hedge, is measured by its own
+ * {@link Attempt}; the sample reports the attempt that settled the request last.
+ */
+final class RequestRecorder {
+
+    private static final AsciiString CONTENT_LENGTH = new AsciiString("Content-Length");
+
+    private static final int NO_STATUS = -1;
+
+    private static final long UNKNOWN_LENGTH = -1;
+
+    private final String method;
+
+    private final Optional<RequestMetrics> requestMetrics;
+
+    private volatile int retries;
+
+    private volatile Attempt settled;
+
+    private volatile long startedAt;
+
+    private final String template;
+
+    RequestRecorder(String method, Optional<RequestMetrics> requestMetrics, String template) {
+        this.method = method;
+        this.requestMetrics = requestMetrics;
+        this.template = template;
+    }
+
+    Attempt attempt() {
+        Attempt attempt = new Attempt();
+
+        if (this.startedAt == 0) {
+            this.startedAt = attempt.startedAt;
+        }
+
+        return attempt;
+    }
+
+    void complete() {
+        this.requestMetrics.ifPresent(metrics -> {
+            long completedAt = System.nanoTime();
+            Optional<Attempt> attempt = Optional.ofNullable(this.settled);
+            long responseAt = attempt.map(a -> a.responseAt).filter(at -> at != 0).orElse(completedAt);
+            long startedAt = this.startedAt != 0 ? this.startedAt : completedAt;
+
+            metrics.record(RequestSample.builder()
+                .bytesIn(attempt.map(a -> a.bytesIn).orElse(UNKNOWN_LENGTH))
+                .bytesOut(attempt.map(Attempt::getBytesOut).orElse(UNKNOWN_LENGTH))
+                .decodeTime(Duration.ofNanos(completedAt - responseAt))
+                .duration(Duration.ofNanos(completedAt - startedAt))
+                .method(this.method)
+                .retries(this.retries)
+                .status(attempt.map(a -> a.status).orElse(NO_STATUS))
+                .template(this.template)
+                .timeToFirstByte(Duration.ofNanos(responseAt - attempt.map(a -> a.startedAt).orElse(startedAt)))
+                .build());
+        });
+    }
+
+    String getTemplate() {
+        return this.template;
+    }
+
+    void retry() {
+        this.retries++;
+    }
+
+    private static long parseLength(String length) {
+        return length != null ? Long.parseLong(length) : UNKNOWN_LENGTH;
+    }
+
+    /**
+     * The measurements of a single attempt at a request
+     */
+    final class Attempt {
+
+        private final long startedAt = System.nanoTime();
+
+        private volatile long bytesIn = UNKNOWN_LENGTH;
+
+        private volatile HttpOutbound outbound;
+
+        private volatile long responseAt;
+
+        private volatile int status = NO_STATUS;
+
+        private Attempt() {
+        }
+
+        void error(Throwable t) {
+            if (t instanceof HttpException) {
+                this.responseAt = System.nanoTime();
+                this.status = ((HttpException) t).getResponseStatus().code();
+            }
+        }
+
+        HttpOutbound outbound(HttpOutbound outbound) {
+            this.outbound = outbound;
+            return outbound;
+        }
+
+        void response(HttpInbound inbound) {
+            this.responseAt = System.nanoTime();
+            this.status = inbound.status().code();
+            this.bytesIn = parseLength(inbound.responseHeaders().get(CONTENT_LENGTH));
+        }
+
+        void settle() {
+            RequestRecorder.this.settled = this;
+        }
+
+        private long getBytesOut() {
+            HttpOutbound outbound = this.outbound;
+            return outbound != null ? parseLength(outbound.headers().get(CONTENT_LENGTH)) : UNKNOWN_LENGTH;
+        }
+
+    }
+
+}
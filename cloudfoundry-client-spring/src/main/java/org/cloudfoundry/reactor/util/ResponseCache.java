@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A cache of decoded responses to {@code GET} requests
+ */
+public interface ResponseCache {
+
+    /**
+     * Returns the cached response to a request if there is one.  Otherwise subscribes to the exchange, caching its response if responses for the path template are cacheable.
+     *
+     * @param template the path template of the request, e.g. {@code /v2/stacks/{id}}
+     * @param key      an opaque key identifying the request, including its URI, principal and response type
+     * @param exchange the exchange to subscribe to if there is no cached response
+     * @param <T>      the type of the response
+     * @return the cached or exchanged response
+     */
+    <T> Mono<T> get(String template, Object key, Mono<T> exchange);
+
+    /**
+     * Invalidates the cached responses for the resource a path template belongs to
+     *
+     * @param template the path template of a request that modified the resource, e.g. {@code /v2/stacks/{id}}
+     */
+    void invalidate(String template);
+
+}
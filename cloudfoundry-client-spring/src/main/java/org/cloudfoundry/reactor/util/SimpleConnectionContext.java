@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.io.netty.http.HttpClient;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A {@link ConnectionContext} for operations that are created directly from an {@link HttpClient} and {@link ObjectMapper}.  Every optional feature is disabled, so those operations behave as they
+ * did before the {@link ConnectionContext} was introduced.
+ */
+final class SimpleConnectionContext implements ConnectionContext {
+
+    private final AuthorizationProvider authorizationProvider;
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final RequestGate requestGate = RequestGate.builder()
+        .build();
+
+    private final Mono<String> root;
+
+    SimpleConnectionContext(AuthorizationProvider authorizationProvider, HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
+        this.authorizationProvider = authorizationProvider;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.root = root;
+    }
+
+    @Override
+    public AuthorizationProvider getAuthorizationProvider() {
+        return this.authorizationProvider;
+    }
+
+    @Override
+    public Optional<CircuitBreakers> getCircuitBreakers() {
+        return Optional.empty();
+    }
+
+    @Override
+    public String getClientId() {
+        return null;
+    }
+
+    @Override
+    public String getClientSecret() {
+        return null;
+    }
+
+    @Override
+    public Optional<Compression> getCompression() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ConditionalRequestCache> getConditionalRequestCache() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Scheduler> getDecodeScheduler() {
+        return Optional.empty();
+    }
+
+    @Override
+    public int getDecodeThreshold() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public Optional<HedgingPolicy> getHedgingPolicy() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpClient getHttpClient() {
+        return this.httpClient;
+    }
+
+    @Override
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    @Override
+    public Optional<PaginationPolicy> getPaginationPolicy() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<RequestCoalescer> getRequestCoalescer() {
+        return Optional.empty();
+    }
+
+    @Override
+    public RequestGate getRequestGate() {
+        return this.requestGate;
+    }
+
+    @Override
+    public Optional<RequestMetrics> getRequestMetrics() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ResponseCache> getResponseCache() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Duration> getResponseTimeout() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<RetryPolicy> getRetryPolicy() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Mono<String> getRoot() {
+        return this.root;
+    }
+
+    @Override
+    public Mono<String> getRoot(String key) {
+        return Mono.error(new IllegalStateException(String.format("Unable to resolve the %s endpoint without an EndpointRegistry", key)));
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A builder for request URIs.  The root of the URI is parsed once into a {@link Template}, and each request URI is built by appending path segments and query parameters to it, percent-encoding only
+ * the characters that require it.  Alongside the URI, the builder tracks a path template in which each path variable is replaced with its name, for example {@code /v2/apps/{id}}.
+ */
+public final class UriBuilder {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final boolean[] PATH_SEGMENT = new boolean[128];
+
+    private static final boolean[] QUERY_PARAM = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            PATH_SEGMENT[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            PATH_SEGMENT[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            PATH_SEGMENT[c] = true;
+        }
+        for (char c : "-._~!$&'()*+,;=:@".toCharArray()) {
+            PATH_SEGMENT[c] = true;
+        }
+
+        System.arraycopy(PATH_SEGMENT, 0, QUERY_PARAM, 0, PATH_SEGMENT.length);
+        QUERY_PARAM['/'] = true;
+        QUERY_PARAM['?'] = true;
+        QUERY_PARAM['='] = false;
+        QUERY_PARAM['&'] = false;
+    }
+
+    private final StringBuilder path = new StringBuilder();
+
+    private final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+
+    private final StringBuilder pathTemplate = new StringBuilder();
+
+    private final Template template;
+
+    private UriBuilder(Template template) {
+        this.template = template;
+    }
+
+    /**
+     * Creates a new builder with an empty root
+     *
+     * @return the builder
+     */
+    public static UriBuilder newInstance() {
+        return new UriBuilder(Template.EMPTY);
+    }
+
+    /**
+     * Returns the built, encoded, URI
+     *
+     * @return the URI
+     */
+    public String build() {
+        StringBuilder sb = new StringBuilder(this.template.prefix.length() + this.path.length() + 16 * this.queryParams.size())
+            .append(this.template.prefix)
+            .append(this.path);
+
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : this.queryParams.entrySet()) {
+            for (String value : entry.getValue()) {
+                sb.append(separator);
+                encode(sb, entry.getKey(), QUERY_PARAM);
+
+                if (value != null) {
+                    sb.append('=');
+                    encode(sb, value, QUERY_PARAM);
+                }
+
+                separator = '&';
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns the path of the URI with path variables replaced with their names, for example {@code /v2/apps/{id}/routes/{id}}
+     *
+     * @return the path template
+     */
+    public String getPathTemplate() {
+        return this.pathTemplate.toString();
+    }
+
+    /**
+     * Returns the query parameters added to this builder, before encoding
+     *
+     * @return the query parameters
+     */
+    public MultiValueMap<String, String> getQueryParams() {
+        return this.queryParams;
+    }
+
+    /**
+     * Appends path segments to the URI.  Segments without text are ignored.
+     *
+     * @param pathSegments the unencoded path segments
+     * @return this builder
+     */
+    public UriBuilder pathSegment(String... pathSegments) {
+        for (String pathSegment : pathSegments) {
+            if (StringUtils.hasText(pathSegment)) {
+                encode(this.path.append('/'), pathSegment, PATH_SEGMENT);
+                this.pathTemplate.append('/').append(pathSegment);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Appends a path variable to the URI.  The value is added to the URI and the name, as {@code {name}}, to the path template.  A variable without text is ignored.
+     *
+     * @param name  the name of the variable
+     * @param value the unencoded value of the variable
+     * @return this builder
+     */
+    public UriBuilder pathVariable(String name, String value) {
+        if (StringUtils.hasText(value)) {
+            encode(this.path.append('/'), value, PATH_SEGMENT);
+            this.pathTemplate.append("/{").append(name).append('}');
+        }
+
+        return this;
+    }
+
+    /**
+     * Appends a query parameter to the URI.  If no values are specified, the parameter is rendered without a value.
+     *
+     * @param name   the unencoded name of the parameter
+     * @param values the values of the parameter
+     * @return this builder
+     */
+    public UriBuilder queryParam(String name, Object... values) {
+        if (values.length == 0) {
+            this.queryParams.add(name, null);
+        }
+
+        for (Object value : values) {
+            this.queryParams.add(name, value != null ? value.toString() : null);
+        }
+
+        return this;
+    }
+
+    private static void encode(StringBuilder sb, String s, boolean[] allowed) {
+        int length = s.length();
+
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c >= 128 || !allowed[c]) {
+                break;
+            }
+            i++;
+        }
+
+        sb.append(s, 0, i);
+        if (i == length) {
+            return;
+        }
+
+        for (byte b : s.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            if (b >= 0 && allowed[b]) {
+                sb.append((char) b);
+            } else {
+                sb.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+            }
+        }
+    }
+
+    /**
+     * A parsed root URI that request URIs are built from
+     */
+    public static final class Template {
+
+        private static final Template EMPTY = new Template("");
+
+        private final String host;
+
+        private final String prefix;
+
+        private Template(String prefix) {
+            this.host = parseHost(prefix);
+            this.prefix = prefix;
+        }
+
+        /**
+         * Parses a root URI.  Any trailing {@code /}, query, or fragment is removed.
+         *
+         * @param root the root URI
+         * @return the parsed root
+         */
+        public static Template parse(String root) {
+            int end = root.length();
+
+            int fragment = root.indexOf('#');
+            if (fragment != -1) {
+                end = fragment;
+            }
+
+            int query = root.indexOf('?');
+            if (query != -1 && query < end) {
+                end = query;
+            }
+
+            while (end > 0 && root.charAt(end - 1) == '/') {
+                end--;
+            }
+
+            return new Template(root.substring(0, end));
+        }
+
+        /**
+         * Returns the host of this URI
+         *
+         * @return the host, or an empty string if the URI has none
+         */
+        public String getHost() {
+            return this.host;
+        }
+
+        /**
+         * Creates a new builder rooted at this URI
+         *
+         * @return the builder
+         */
+        public UriBuilder newBuilder() {
+            return new UriBuilder(this);
+        }
+
+        @Override
+        public String toString() {
+            return this.prefix;
+        }
+
+        private static String parseHost(String prefix) {
+            int scheme = prefix.indexOf("://");
+            if (scheme == -1) {
+                return "";
+            }
+
+            int start = scheme + 3;
+            int end = prefix.indexOf('/', start);
+            String authority = prefix.substring(start, end == -1 ? prefix.length() : end);
+
+            int userInfo = authority.lastIndexOf('@');
+            if (userInfo != -1) {
+                authority = authority.substring(userInfo + 1);
+            }
+
+            if (authority.startsWith("[")) {
+                return authority.substring(0, authority.indexOf(']') + 1);
+            }
+
+            int port = authority.indexOf(':');
+            return port == -1 ? authority : authority.substring(0, port);
+        }
+
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.Builder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.io.netty.http.HttpException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Circuit breakers for each endpoint, identified by host and path template (e.g. {@code api.example.com /v2/apps/{id}}).  A breaker opens when, over its most recent calls, the rate of failures
+ * (connection errors, timeouts and {@code 5xx} responses) or of calls slower than the slow call duration reaches its threshold.  While open, requests fail immediately with a
+ * {@link CircuitBreakerOpenException}.  After the open duration a small number of probe requests are let through; the breaker closes if they all succeed and opens again otherwise.
+ */
+public final class CircuitBreakers {
+
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+    private static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+    private static final int DEFAULT_MINIMUM_CALLS = 20;
+
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(10);
+
+    private static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 50;
+
+    private static final int DEFAULT_WINDOW_SIZE = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.circuit");
+
+    private final ConcurrentMap<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    private final double failureRateThreshold;
+
+    private final int halfOpenProbes;
+
+    private final Optional<CircuitBreakerMetrics> metrics;
+
+    private final int minimumCalls;
+
+    private final long openDuration;
+
+    private final long slowCallDuration;
+
+    private final double slowCallRateThreshold;
+
+    private final int windowSize;
+
+    @Builder
+    CircuitBreakers(Double failureRateThreshold, Integer halfOpenProbes, CircuitBreakerMetrics metrics, Integer minimumCalls, Duration openDuration, Duration slowCallDuration,
+                    Double slowCallRateThreshold, Integer windowSize) {
+        this.failureRateThreshold = Optional.ofNullable(failureRateThreshold).orElse(DEFAULT_FAILURE_RATE_THRESHOLD);
+        this.halfOpenProbes = Optional.ofNullable(halfOpenProbes).orElse(DEFAULT_HALF_OPEN_PROBES);
+        this.metrics = Optional.ofNullable(metrics);
+        this.minimumCalls = Optional.ofNullable(minimumCalls).orElse(DEFAULT_MINIMUM_CALLS);
+        this.openDuration = Optional.ofNullable(openDuration).orElse(DEFAULT_OPEN_DURATION).toNanos();
+        this.slowCallDuration = Optional.ofNullable(slowCallDuration).orElse(DEFAULT_SLOW_CALL_DURATION).toNanos();
+        this.slowCallRateThreshold = Optional.ofNullable(slowCallRateThreshold).orElse(DEFAULT_SLOW_CALL_RATE_THRESHOLD);
+        this.windowSize = Optional.ofNullable(windowSize).orElse(DEFAULT_WINDOW_SIZE);
+
+        this.metrics.ifPresent(m -> m.register(this));
+    }
+
+    /**
+     * Returns the state of the circuit breaker of each endpoint that has been called
+     *
+     * @return the states, keyed by endpoint
+     */
+    public Map<String, State> getStates() {
+        Map<String, State> states = new TreeMap<>();
+        this.breakers.forEach((endpoint, breaker) -> states.put(endpoint, breaker.getState()));
+        return Collections.unmodifiableMap(states);
+    }
+
+    <T> Mono<T> protect(String endpoint, Mono<T> exchange) {
+        return protect(endpoint, exchange, Function.identity());
+    }
+
+    /**
+     * Protects an exchange that must first pass through {@code admission}, such as a concurrency limit.  The breaker is checked before {@code admission} is subscribed to, so a request to an
+     * open breaker fails without waiting for admission.  Only the outcome of the exchange itself is recorded; a failure of {@code admission} releases the breaker's permit unrecorded.
+     *
+     * @param endpoint  the endpoint the exchange is sent to
+     * @param exchange  the exchange to protect
+     * @param admission the admission the exchange must pass through
+     * @param <T>       the type of the response
+     * @return the protected exchange
+     */
+    <T> Mono<T> protect(String endpoint, Mono<T> exchange, Function<Mono<T>, Mono<T>> admission) {
+        return Mono.defer(() -> {
+            Breaker breaker = this.breakers.computeIfAbsent(endpoint, Breaker::new);
+
+            long permit = breaker.acquire();
+            if (permit == Breaker.REFUSED) {
+                return Mono.error(new CircuitBreakerOpenException(endpoint));
+            }
+
+            AtomicBoolean settled = new AtomicBoolean();
+
+            Mono<T> recorded = Mono.defer(() -> {
+                long startedAt = System.nanoTime();
+
+                return exchange
+                    .doOnSuccess(response -> {
+                        if (settled.compareAndSet(false, true)) {
+                            breaker.record(permit, false, System.nanoTime() - startedAt);
+                        }
+                    })
+                    .doOnError(t -> {
+                        if (settled.compareAndSet(false, true)) {
+                            breaker.record(permit, isFailure(t), System.nanoTime() - startedAt);
+                        }
+                    });
+            });
+
+            return admission.apply(recorded)
+                .doOnError(t -> {
+                    if (settled.compareAndSet(false, true)) {
+                        breaker.release(permit);
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (settled.compareAndSet(false, true)) {
+                        breaker.release(permit);
+                    }
+                });
+        });
+    }
+
+    private static boolean isFailure(Throwable t) {
+        if (t instanceof HttpException) {
+            return ((HttpException) t).getResponseStatus().code() >= 500;
+        }
+
+        return t instanceof TimeoutException || (t instanceof IOException && !(t instanceof JsonProcessingException));
+    }
+
+    /**
+     * The state of a circuit breaker
+     */
+    public enum State {
+
+        /**
+         * Requests are sent and their outcomes recorded
+         */
+        CLOSED,
+
+        /**
+         * A limited number of probe requests are sent to decide whether to close the breaker
+         */
+        HALF_OPEN,
+
+        /**
+         * Requests fail immediately
+         */
+        OPEN
+
+    }
+
+    private final class Breaker {
+
+        private static final long REFUSED = -1;
+
+        private static final byte FAILURE = 1;
+
+        private static final byte SLOW = 2;
+
+        private final String endpoint;
+
+        private final byte[] outcomes = new byte[CircuitBreakers.this.windowSize];
+
+        private int calls;
+
+        private int failures;
+
+        private long generation;
+
+        private int next;
+
+        private long openedAt;
+
+        private int probes;
+
+        private int probesSucceeded;
+
+        private int slowCalls;
+
+        private State state = State.CLOSED;
+
+        private Breaker(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private synchronized long acquire() {
+            if (this.state == State.OPEN) {
+                if (System.nanoTime() - this.openedAt < CircuitBreakers.this.openDuration) {
+                    return REFUSED;
+                }
+
+                transition(State.HALF_OPEN);
+            }
+
+            if (this.state == State.HALF_OPEN) {
+                if (this.probes >= CircuitBreakers.this.halfOpenProbes) {
+                    return REFUSED;
+                }
+
+                this.probes++;
+            }
+
+            return this.generation;
+        }
+
+        private synchronized State getState() {
+            return this.state;
+        }
+
+        private synchronized void record(long permit, boolean failure, long duration) {
+            if (permit != this.generation) {
+                return;
+            }
+
+            boolean slow = duration >= CircuitBreakers.this.slowCallDuration;
+
+            if (this.state == State.HALF_OPEN) {
+                if (failure || slow) {
+                    transition(State.OPEN);
+                } else if (++this.probesSucceeded >= CircuitBreakers.this.halfOpenProbes) {
+                    transition(State.CLOSED);
+                }
+
+                return;
+            }
+
+            byte outcome = (byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+            if (this.calls == this.outcomes.length) {
+                byte evicted = this.outcomes[this.next];
+                this.failures -= evicted & FAILURE;
+                this.slowCalls -= (evicted & SLOW) >> 1;
+            } else {
+                this.calls++;
+            }
+
+            this.outcomes[this.next] = outcome;
+            this.next = (this.next + 1) % this.outcomes.length;
+            this.failures += outcome & FAILURE;
+            this.slowCalls += (outcome & SLOW) >> 1;
+
+            if (this.calls >= CircuitBreakers.this.minimumCalls
+                && (100.0 * this.failures / this.calls >= CircuitBreakers.this.failureRateThreshold || 100.0 * this.slowCalls / this.calls >= CircuitBreakers.this.slowCallRateThreshold)) {
+                transition(State.OPEN);
+            }
+        }
+
+        private synchronized void release(long permit) {
+            if (permit == this.generation && this.state == State.HALF_OPEN) {
+                this.probes--;
+            }
+        }
+
+        private void transition(State state) {
+            LOGGER.debug("Circuit breaker for {} is {}", this.endpoint, state);
+
+            this.state = state;
+            this.generation++;
+            this.calls = 0;
+            this.failures = 0;
+            this.next = 0;
+            this.openedAt = System.nanoTime();
+            this.probes = 0;
+            this.probesSucceeded = 0;
+            this.slowCalls = 0;
+
+            CircuitBreakers.this.metrics.ifPresent(m -> m.stateChanged(this.endpoint, state));
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.Builder;
+import reactor.io.netty.config.HttpClientOptions;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Network resources that can be shared by many {@link DefaultConnectionContext}s, for example one per foundation managed from a single JVM.  The resources own a single event loop group, a pooled
+ * buffer allocator, and the trust material for each proxy configuration, so that threads and memory do not grow with the number of contexts.  The resources outlive the contexts that use them and
+ * must be closed once all of those contexts are no longer used.
+ */
+public final class ClientResources implements AutoCloseable {
+
+    private static final Duration DEFAULT_SHUTDOWN_QUIET_PERIOD = Duration.ofMillis(100);
+
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ByteBufAllocator allocator;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final EventLoopGroup eventLoopGroup;
+
+    private final Duration shutdownQuietPeriod;
+
+    private final Duration shutdownTimeout;
+
+    private final ConcurrentMap<ProxyContext, SslCertificateTruster> sslCertificateTrusters = new ConcurrentHashMap<>();
+
+    @Builder
+    ClientResources(Integer ioThreads, Duration shutdownQuietPeriod, Duration shutdownTimeout) {
+        this.allocator = new PooledByteBufAllocator(true);
+        this.eventLoopGroup = new NioEventLoopGroup(Optional.ofNullable(ioThreads).orElse(Runtime.getRuntime().availableProcessors()), new DefaultThreadFactory("cloudfoundry-client-io", true));
+        this.shutdownQuietPeriod = Optional.ofNullable(shutdownQuietPeriod).orElse(DEFAULT_SHUTDOWN_QUIET_PERIOD);
+        this.shutdownTimeout = Optional.ofNullable(shutdownTimeout).orElse(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Shuts down the event loop group, waiting for in-flight work to finish for at most the shutdown timeout.  Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.sslCertificateTrusters.clear();
+            this.eventLoopGroup
+                .shutdownGracefully(this.shutdownQuietPeriod.toMillis(), this.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .awaitUninterruptibly(this.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns whether these resources have been closed
+     *
+     * @return {@code true} if the resources have been closed, otherwise {@code false}
+     */
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    HttpClientOptions configure(HttpClientOptions options) {
+        assertOpen();
+        return options.eventLoopGroup(this.eventLoopGroup);
+    }
+
+    void configure(ChannelPipeline pipeline) {
+        pipeline.channel().config().setAllocator(this.allocator);
+    }
+
+    EventLoopGroup getEventLoopGroup() {
+        return this.eventLoopGroup;
+    }
+
+    SslCertificateTruster getSslCertificateTruster(ProxyContext proxyContext) {
+        assertOpen();
+        return this.sslCertificateTrusters.computeIfAbsent(proxyContext, DefaultSslCertificateTruster::new);
+    }
+
+    private void assertOpen() {
+        if (this.closed.get()) {
+            throw new IllegalStateException("Client resources have been closed");
+        }
+    }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import lombok.Builder;
+import reactor.core.flow.Cancellation;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.io.netty.http.HttpException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limits the number of concurrent requests made from a {@link ConnectionContext}, adapting the limit to the load the server reports.  The limit grows by one for each limit's worth of successful
+ * requests and shrinks by the backoff ratio when a request fails with {@code 429 Too Many Requests}, {@code 503 Service Unavailable}, times out, or takes longer than the latency threshold.  Requests
+ * above the limit wait, in order, until a running request completes.  A {@link RequestGate} can use a limiter as its bound on concurrent requests.
+ */
+public final class ConcurrencyLimiter {
+
+    private static final Object CANCELLED = new Object();
+
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    private static final int DEFAULT_MAX_LIMIT = 200;
+
+    private static final int DEFAULT_MIN_LIMIT = 1;
+
+    private final double backoffRatio;
+
+    private final Optional<Duration> latencyThreshold;
+
+    private final int maxLimit;
+
+    private final int minLimit;
+
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+
+    private long epoch;
+
+    private int inFlight;
+
+    private double limit;
+
+    @Builder
+    ConcurrencyLimiter(Double backoffRatio, Integer initialLimit, Duration latencyThreshold, Integer maxLimit, Integer minLimit) {
+        this.backoffRatio = Optional.ofNullable(backoffRatio).orElse(DEFAULT_BACKOFF_RATIO);
+        this.latencyThreshold = Optional.ofNullable(latencyThreshold);
+        this.maxLimit = Optional.ofNullable(maxLimit).orElse(DEFAULT_MAX_LIMIT);
+        this.minLimit = Optional.ofNullable(minLimit).orElse(DEFAULT_MIN_LIMIT);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, Optional.ofNullable(initialLimit).orElse(DEFAULT_INITIAL_LIMIT)));
+
+        if (this.backoffRatio <= 0 || this.backoffRatio >= 1) {
+            throw new IllegalArgumentException(String.format("Backoff ratio must be between 0 and 1, was %s", this.backoffRatio));
+        }
+    }
+
+    /**
+     * Returns the number of requests currently running
+     *
+     * @return the number of requests in flight
+     */
+    public synchronized int getInFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * Returns the current concurrency limit
+     *
+     * @return the current limit
+     */
+    public synchronized int getLimit() {
+        return (int) this.limit;
+    }
+
+    /**
+     * Returns the number of requests waiting to run
+     *
+     * @return the number of pending requests
+     */
+    public synchronized int getPending() {
+        return this.waiters.size();
+    }
+
+    /**
+     * Subscribes to an exchange once the limit allows it, and adjusts the limit based on the exchange's outcome
+     *
+     * @param exchange the exchange to run
+     * @param <T>      the type of the exchange's result
+     * @return the exchange's result
+     */
+    public <T> Mono<T> limit(Mono<T> exchange) {
+        return limit(exchange, Optional.empty(), Integer.MAX_VALUE);
+    }
+
+    <T> Mono<T> limit(Mono<T> exchange, Optional<Duration> admissionTimeout, int maxPending) {
+        return Mono.defer(() -> {
+            AtomicReference<Object> held = new AtomicReference<>();
+
+            return acquire(admissionTimeout, maxPending)
+                .then(permit -> {
+                    if (!permit.claim()) {
+                        return Mono.<T>empty();
+                    }
+
+                    if (!held.compareAndSet(null, permit)) {
+                        permit.cancel();
+                        return Mono.<T>empty();
+                    }
+
+                    return exchange
+                        .doOnSuccess(t -> permit.release(Optional.of(false)))
+                        .doOnError(t -> permit.release(isOverloaded(t) ? Optional.of(true) : Optional.empty()));
+                })
+                .doOnCancel(() -> {
+                    Object permit = held.getAndSet(CANCELLED);
+                    if (permit instanceof Permit) {
+                        ((Permit) permit).cancel();
+                    }
+                });
+        });
+    }
+
+    private static boolean isOverloaded(Throwable t) {
+        if (t instanceof HttpException) {
+            HttpResponseStatus status = ((HttpException) t).getResponseStatus();
+            return HttpResponseStatus.TOO_MANY_REQUESTS.equals(status) || HttpResponseStatus.SERVICE_UNAVAILABLE.equals(status);
+        }
+
+        return t instanceof TimeoutException;
+    }
+
+    private Mono<Permit> acquire(Optional<Duration> admissionTimeout, int maxPending) {
+        return Mono.defer(() -> {
+            Waiter waiter = new Waiter();
+
+            List<Waiter> ready;
+            synchronized (this) {
+                this.waiters.offer(waiter);
+                ready = grant();
+
+                if (waiter.permit == null && this.waiters.size() > maxPending) {
+                    this.waiters.remove(waiter);
+                    return Mono.<Permit>error(new IllegalStateException(String.format("More than %d requests are waiting to run", maxPending)));
+                }
+            }
+
+            ready.forEach(Waiter::complete);
+            admissionTimeout
+                .filter(timeout -> waiter.state.get() == null)
+                .ifPresent(waiter::schedule);
+
+            return waiter.processor
+                .doOnCancel(waiter::cancel);
+        });
+    }
+
+    private void decrease(Permit permit) {
+        if (permit.epoch == this.epoch) {
+            this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+            this.epoch++;
+        }
+    }
+
+    private List<Waiter> grant() {
+        List<Waiter> ready = new ArrayList<>();
+
+        while (!this.waiters.isEmpty() && this.inFlight < (int) this.limit) {
+            Waiter waiter = this.waiters.poll();
+            waiter.permit = new Permit(this.epoch);
+            this.inFlight++;
+            ready.add(waiter);
+        }
+
+        return ready;
+    }
+
+    private void increase() {
+        if (this.inFlight * 2 >= (int) this.limit) {
+            this.limit = Math.min(this.maxLimit, this.limit + 1 / this.limit);
+        }
+    }
+
+    private void release(Permit permit, Optional<Boolean> overloaded) {
+        List<Waiter> ready;
+        synchronized (this) {
+            overloaded.ifPresent(o -> {
+                if (o || this.latencyThreshold.filter(threshold -> permit.getLatency().compareTo(threshold) > 0).isPresent()) {
+                    decrease(permit);
+                } else {
+                    increase();
+                }
+            });
+
+            this.inFlight--;
+            ready = grant();
+        }
+
+        ready.forEach(Waiter::complete);
+    }
+
+    private final class Permit {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private final long epoch;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private final long startedAt = System.nanoTime();
+
+        private Permit(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void cancel() {
+            release(Optional.empty());
+        }
+
+        private boolean claim() {
+            return this.claimed.compareAndSet(false, true);
+        }
+
+        private Duration getLatency() {
+            return Duration.ofNanos(System.nanoTime() - this.startedAt);
+        }
+
+        private void release(Optional<Boolean> overloaded) {
+            if (this.released.compareAndSet(false, true)) {
+                ConcurrencyLimiter.this.release(this, overloaded);
+            }
+        }
+
+    }
+
+    private final class Waiter {
+
+        private final MonoProcessor<Permit> processor = MonoProcessor.create();
+
+        private final AtomicReference<Object> state = new AtomicReference<>();
+
+        private Permit permit;
+
+        private volatile Cancellation timer;
+
+        private void cancel() {
+            if (this.state.compareAndSet(null, CANCELLED)) {
+                remove();
+            } else if (this.state.get() instanceof Permit && this.permit.claim()) {
+                this.permit.cancel();
+            }
+        }
+
+        private void complete() {
+            if (this.state.compareAndSet(null, this.permit)) {
+                Optional.ofNullable(this.timer).ifPresent(Cancellation::dispose);
+                this.processor.onNext(this.permit);
+            } else {
+                this.permit.cancel();
+            }
+        }
+
+        private void remove() {
+            Optional.ofNullable(this.timer).ifPresent(Cancellation::dispose);
+
+            synchronized (ConcurrencyLimiter.this) {
+                ConcurrencyLimiter.this.waiters.remove(this);
+            }
+        }
+
+        private void schedule(Duration timeout) {
+            this.timer = Mono.delay(timeout)
+                .subscribe(i -> timeout(timeout));
+
+            if (this.state.get() != null) {
+                this.timer.dispose();
+            }
+        }
+
+        private void timeout(Duration timeout) {
+            if (this.state.compareAndSet(null, CANCELLED)) {
+                remove();
+                this.processor.onError(new TimeoutException(String.format("Timed out after %s waiting to run", timeout)));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.AsciiString;
+import lombok.Builder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.util.Exceptions;
+import reactor.io.netty.http.HttpInbound;
+import reactor.io.netty.http.HttpOutbound;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Remembers the validators and decoded responses of {@code GET} requests so that repeated requests can avoid downloading and decoding unchanged bodies.  When a response carried an {@code ETag}
+ * or {@code Last-Modified} header, the next request for it is sent conditionally and a {@code 304 Not Modified} is answered with the remembered response.  When it carried neither, as the
+ * Cloud Controller's summary and stats endpoints do, the body is still downloaded, but if its digest matches the remembered one it is not decoded again.  The digest is computed on the decode
+ * scheduler, when one is configured, so that hashing large bodies does not block the event loop.  The least recently used responses are evicted once the maximum size is reached.
+ */
+public final class ConditionalRequestCache {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private static final AsciiString ETAG = new AsciiString("ETag");
+
+    private static final AsciiString IF_MODIFIED_SINCE = new AsciiString("If-Modified-Since");
+
+    private static final AsciiString IF_NONE_MATCH = new AsciiString("If-None-Match");
+
+    private static final AsciiString LAST_MODIFIED = new AsciiString("Last-Modified");
+
+    private final Map<RequestKey, Entry> entries;
+
+    private final int maximumSize;
+
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+
+    private final AtomicLong unchangedBodies = new AtomicLong();
+
+    @Builder
+    ConditionalRequestCache(Integer maximumSize) {
+        this.maximumSize = Optional.ofNullable(maximumSize).orElse(DEFAULT_MAXIMUM_SIZE);
+
+        this.entries = new LinkedHashMap<RequestKey, Entry>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestKey, Entry> eldest) {
+                return size() > ConditionalRequestCache.this.maximumSize;
+            }
+
+        };
+    }
+
+    /**
+     * Returns the number of requests answered with {@code 304 Not Modified}
+     *
+     * @return the number of not modified responses
+     */
+    public long getNotModifiedResponses() {
+        return this.notModifiedResponses.get();
+    }
+
+    /**
+     * Returns the number of remembered responses
+     *
+     * @return the number of remembered responses
+     */
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of responses without validators whose body was unchanged and so was not decoded
+     *
+     * @return the number of unchanged bodies
+     */
+    public long getUnchangedBodies() {
+        return this.unchangedBodies.get();
+    }
+
+    /**
+     * Forgets all remembered responses
+     */
+    public synchronized void invalidateAll() {
+        this.entries.clear();
+    }
+
+    <T> ConditionalRequest<T> begin(RequestKey key) {
+        return new ConditionalRequest<>(key, get(key));
+    }
+
+    private static byte[] digest(byte[] body) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static byte[] readAll(InputStream inputStream) {
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private synchronized Optional<Entry> get(RequestKey key) {
+        return Optional.ofNullable(this.entries.get(key));
+    }
+
+    private synchronized void put(RequestKey key, Entry entry) {
+        this.entries.put(key, entry);
+    }
+
+    final class ConditionalRequest<T> {
+
+        private final Optional<Entry> entry;
+
+        private final RequestKey key;
+
+        private ConditionalRequest(RequestKey key, Optional<Entry> entry) {
+            this.entry = entry;
+            this.key = key;
+        }
+
+        HttpOutbound addValidators(HttpOutbound outbound) {
+            this.entry.ifPresent(entry -> {
+                if (entry.etag != null) {
+                    outbound.headers().set(IF_NONE_MATCH, entry.etag);
+                }
+
+                if (entry.lastModified != null) {
+                    outbound.headers().set(IF_MODIFIED_SINCE, entry.lastModified);
+                }
+            });
+
+            return outbound;
+        }
+
+        @SuppressWarnings("unchecked")
+        Mono<T> decode(HttpInbound inbound, Function<HttpInbound, Mono<T>> decoder, Function<InputStream, T> aggregatedDecoder, Optional<Scheduler> decodeScheduler) {
+            if (HttpResponseStatus.NOT_MODIFIED.equals(inbound.status()) && this.entry.isPresent()) {
+                ConditionalRequestCache.this.notModifiedResponses.incrementAndGet();
+                return Mono.just((T) this.entry.get().response);
+            }
+
+            HttpHeaders headers = inbound.responseHeaders();
+            String etag = headers.get(ETAG);
+            String lastModified = headers.get(LAST_MODIFIED);
+
+            if (etag != null || lastModified != null) {
+                return decoder.apply(inbound)
+                    .doOnSuccess(response -> {
+                        if (response != null) {
+                            put(this.key, new Entry(null, etag, lastModified, response));
+                        }
+                    });
+            }
+
+            return inbound.receive().aggregate().toInputStream()
+                .map(ConditionalRequestCache::readAll)
+                .then(body -> decodeUnlessUnchanged(body, aggregatedDecoder, decodeScheduler));
+        }
+
+        @SuppressWarnings("unchecked")
+        Mono<T> decodeUnlessUnchanged(byte[] body, Function<InputStream, T> aggregatedDecoder, Optional<Scheduler> decodeScheduler) {
+            Mono<T> response = Mono.defer(() -> {
+                byte[] digest = digest(body);
+
+                Optional<Entry> unchanged = this.entry.filter(entry -> Arrays.equals(digest, entry.digest));
+                if (unchanged.isPresent()) {
+                    ConditionalRequestCache.this.unchangedBodies.incrementAndGet();
+                    return Mono.just((T) unchanged.get().response);
+                }
+
+                T decoded = aggregatedDecoder.apply(new ByteArrayInputStream(body));
+                put(this.key, new Entry(digest, null, null, decoded));
+                return Mono.just(decoded);
+            });
+
+            return decodeScheduler
+                .map(response::subscribeOn)
+                .orElse(response);
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final byte[] digest;
+
+        private final String etag;
+
+        private final String lastModified;
+
+        private final Object response;
+
+        private Entry(byte[] digest, String etag, String lastModified, Object response) {
+            this.digest = digest;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.response = response;
+        }
+
+    }
+
+}
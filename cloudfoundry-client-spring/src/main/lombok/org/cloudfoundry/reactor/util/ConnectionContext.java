@@ -18,20 +18,50 @@ package org.cloudfoundry.reactor.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.io.netty.http.HttpClient;
 
+import java.time.Duration;
+import java.util.Optional;
+
 public interface ConnectionContext {
 
     AuthorizationProvider getAuthorizationProvider();
 
+    Optional<CircuitBreakers> getCircuitBreakers();
+
     String getClientId();
 
     String getClientSecret();
 
+    Optional<Compression> getCompression();
+
+    Optional<ConditionalRequestCache> getConditionalRequestCache();
+
+    Optional<Scheduler> getDecodeScheduler();
+
+    int getDecodeThreshold();
+
+    Optional<HedgingPolicy> getHedgingPolicy();
+
     HttpClient getHttpClient();
 
     ObjectMapper getObjectMapper();
 
+    Optional<PaginationPolicy> getPaginationPolicy();
+
+    Optional<RequestCoalescer> getRequestCoalescer();
+
+    RequestGate getRequestGate();
+
+    Optional<RequestMetrics> getRequestMetrics();
+
+    Optional<ResponseCache> getResponseCache();
+
+    Optional<Duration> getResponseTimeout();
+
+    Optional<RetryPolicy> getRetryPolicy();
+
     Mono<String> getRoot();
 
     Mono<String> getRoot(String key);
@@ -19,43 +19,102 @@ package org.cloudfoundry.reactor.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Builder;
 import lombok.NonNull;
+import org.cloudfoundry.reactor.uaa.tokens.ReactorTokens;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.io.netty.config.HttpClientOptions;
 import reactor.io.netty.http.HttpClient;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static reactor.io.netty.config.NettyHandlerNames.SslHandler;
 
 public final class DefaultConnectionContext implements ConnectionContext {
 
+    private static final int DEFAULT_DECODE_THRESHOLD = 256 * 1024;
+
     private static final int DEFAULT_PORT = 443;
 
     private static final int UNDEFINED_PORT = -1;
 
     private final AuthorizationProvider authorizationProvider;
 
+    private final Optional<CircuitBreakers> circuitBreakers;
+
     private final String clientId;
 
     private final String clientSecret;
 
+    private final Optional<Compression> compression;
+
+    private final Optional<ConditionalRequestCache> conditionalRequestCache;
+
+    private final Optional<Scheduler> decodeScheduler;
+
+    private final int decodeThreshold;
+
+    private final EndpointRegistry endpointRegistry;
+
+    private final Optional<HedgingPolicy> hedgingPolicy;
+
+    private final boolean managedTokens;
+
     private final HttpClient httpClient;
 
-    private final Mono<Map<String, String>> info;
+    private final Object network;
 
     private final ObjectMapper objectMapper;
 
+    private final Optional<PaginationPolicy> paginationPolicy;
+
+    private final String password;
+
+    private final Optional<RequestCoalescer> requestCoalescer;
+
+    private final RequestGate requestGate;
+
+    private final Optional<RequestMetrics> requestMetrics;
+
+    private final Optional<ResponseCache> responseCache;
+
+    private final Optional<Duration> responseTimeout;
+
+    private final Optional<RetryPolicy> retryPolicy;
+
     private final Mono<String> root;
 
     private final Optional<SslCertificateTruster> sslCertificateTruster;
 
+    private TokenManager tokenManager;
+
+    private final Duration tokenRefreshMargin;
+
+    private final ConcurrentMap<String, Mono<Void>> trustedHosts = new ConcurrentHashMap<>();
+
+    private final String username;
+
     @Builder
-    DefaultConnectionContext(@NonNull AuthorizationProvider authorizationProvider, String clientId, String clientSecret, @NonNull String host, ObjectMapper objectMapper, Integer port,
-                             String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername, Boolean trustCertificates) {
+    DefaultConnectionContext(AuthorizationProvider authorizationProvider, CircuitBreakers circuitBreakers, String clientId, ClientResources clientResources, String clientSecret,
+                             Boolean coalesceRequests, Boolean compression, ConcurrencyLimiter concurrencyLimiter, ConditionalRequestCache conditionalRequestCache, Scheduler decodeScheduler,
+                             Integer decodeThreshold, Boolean defaultPaginationPolicy, EndpointRegistry endpointRegistry, HedgingPolicy hedgingPolicy, @NonNull String host,
+                             Integer maxConcurrentRequests, Integer maxPendingRequests, ObjectMapper objectMapper, PaginationPolicy paginationPolicy, String password, Integer port, String proxyHost,
+                             String proxyPassword, Integer proxyPort, String proxyUsername, Duration requestAdmissionTimeout, RequestGateMetrics requestGateMetrics, RequestMetrics requestMetrics,
+                             ResponseCache responseCache, Duration responseTimeout, RetryPolicy retryPolicy, Duration tokenRefreshMargin, Boolean trustCertificates, String username) {
+
+        if (authorizationProvider == null && username == null && (clientId == null || clientSecret == null)) {
+            throw new IllegalArgumentException("One of an authorization provider, a username and password, or a client id and secret must be configured");
+        }
+
+        if (username != null && password == null) {
+            throw new IllegalArgumentException("A password must be configured with a username");
+        }
 
         ProxyContext proxyContext = ProxyContext.builder()
             .host(proxyHost)
@@ -64,15 +123,40 @@ public final class DefaultConnectionContext implements ConnectionContext {
             .username(proxyUsername)
             .build();
 
-        this.sslCertificateTruster = createSslCertificateTruster(proxyContext, trustCertificates);
-        this.httpClient = createHttpClient(proxyContext, this.sslCertificateTruster);
+        this.requestGate = RequestGate.builder()
+            .admissionTimeout(requestAdmissionTimeout)
+            .concurrencyLimiter(concurrencyLimiter)
+            .maxRequests(maxConcurrentRequests)
+            .maxPendingRequests(maxPendingRequests)
+            .metrics(requestGateMetrics)
+            .build();
+
+        this.sslCertificateTruster = createSslCertificateTruster(Optional.ofNullable(clientResources), proxyContext, trustCertificates);
+        this.httpClient = createHttpClient(Optional.ofNullable(clientResources), this.requestGate, proxyContext, this.sslCertificateTruster);
 
-        this.authorizationProvider = authorizationProvider;
+        this.circuitBreakers = Optional.ofNullable(circuitBreakers);
         this.clientId = Optional.ofNullable(clientId).orElse("cf");
         this.clientSecret = Optional.ofNullable(clientSecret).orElse("");
+        this.compression = createCompression(compression);
+        this.conditionalRequestCache = Optional.ofNullable(conditionalRequestCache);
+        this.decodeScheduler = Optional.ofNullable(decodeScheduler);
+        this.decodeThreshold = Optional.ofNullable(decodeThreshold).orElse(DEFAULT_DECODE_THRESHOLD);
+        this.endpointRegistry = Optional.ofNullable(endpointRegistry).orElseGet(() -> EndpointRegistry.builder().build());
+        this.hedgingPolicy = Optional.ofNullable(hedgingPolicy);
+        this.network = Arrays.asList(clientResources, proxyContext, Optional.ofNullable(trustCertificates).orElse(false));
+        this.paginationPolicy = createPaginationPolicy(defaultPaginationPolicy, paginationPolicy);
+        this.requestCoalescer = createRequestCoalescer(coalesceRequests);
+        this.requestMetrics = Optional.ofNullable(requestMetrics);
+        this.responseCache = Optional.ofNullable(responseCache);
+        this.responseTimeout = Optional.ofNullable(responseTimeout);
+        this.retryPolicy = Optional.ofNullable(retryPolicy);
         this.root = getRoot(host, port, this.sslCertificateTruster);
         this.objectMapper = getObjectMapper(objectMapper);
-        this.info = getInfo(this.httpClient, this.objectMapper, this.root);
+        this.managedTokens = authorizationProvider == null;
+        this.password = password;
+        this.tokenRefreshMargin = tokenRefreshMargin;
+        this.username = username;
+        this.authorizationProvider = Optional.ofNullable(authorizationProvider).orElse(outbound -> getOrCreateTokenManager().addAuthorization(outbound));
     }
 
     @Override
@@ -80,6 +164,11 @@ public final class DefaultConnectionContext implements ConnectionContext {
         return this.authorizationProvider;
     }
 
+    @Override
+    public Optional<CircuitBreakers> getCircuitBreakers() {
+        return this.circuitBreakers;
+    }
+
     @Override
     public String getClientId() {
         return this.clientId;
@@ -90,6 +179,31 @@ public final class DefaultConnectionContext implements ConnectionContext {
         return this.clientSecret;
     }
 
+    @Override
+    public Optional<Compression> getCompression() {
+        return this.compression;
+    }
+
+    @Override
+    public Optional<ConditionalRequestCache> getConditionalRequestCache() {
+        return this.conditionalRequestCache;
+    }
+
+    @Override
+    public Optional<Scheduler> getDecodeScheduler() {
+        return this.decodeScheduler;
+    }
+
+    @Override
+    public int getDecodeThreshold() {
+        return this.decodeThreshold;
+    }
+
+    @Override
+    public Optional<HedgingPolicy> getHedgingPolicy() {
+        return this.hedgingPolicy;
+    }
+
     @Override
     public HttpClient getHttpClient() {
         return this.httpClient;
@@ -100,6 +214,41 @@ public final class DefaultConnectionContext implements ConnectionContext {
         return this.objectMapper;
     }
 
+    @Override
+    public Optional<PaginationPolicy> getPaginationPolicy() {
+        return this.paginationPolicy;
+    }
+
+    @Override
+    public Optional<RequestCoalescer> getRequestCoalescer() {
+        return this.requestCoalescer;
+    }
+
+    @Override
+    public RequestGate getRequestGate() {
+        return this.requestGate;
+    }
+
+    @Override
+    public Optional<RequestMetrics> getRequestMetrics() {
+        return this.requestMetrics;
+    }
+
+    @Override
+    public Optional<ResponseCache> getResponseCache() {
+        return this.responseCache;
+    }
+
+    @Override
+    public Optional<Duration> getResponseTimeout() {
+        return this.responseTimeout;
+    }
+
+    @Override
+    public Optional<RetryPolicy> getRetryPolicy() {
+        return this.retryPolicy;
+    }
+
     @Override
     public Mono<String> getRoot() {
         return this.root;
@@ -107,38 +256,73 @@ public final class DefaultConnectionContext implements ConnectionContext {
 
     @Override
     public Mono<String> getRoot(String key) {
-        return this.info
-            .map(info -> normalize(UriComponentsBuilder.fromUriString(info.get(key))))
-            .doOnSuccess(components -> trust(components, this.sslCertificateTruster))
-            .map(UriComponents::toUriString)
-            .cache();
+        return this.root
+            .then(root -> this.endpointRegistry.getEndpoint(root, this.network, key, () -> resolveEndpoint(root, key)))
+            .then(uri -> trustOnce(uri).then(Mono.just(uri)));
+    }
+
+    /**
+     * Returns the {@link TokenManager} that authorizes requests when this context was built with credentials instead of an {@link AuthorizationProvider}.  It is created on first use, once this
+     * context is fully constructed.  Close it to stop its background refresh.
+     *
+     * @return the token manager, if any
+     */
+    public Optional<TokenManager> getTokenManager() {
+        return this.managedTokens ? Optional.of(getOrCreateTokenManager()) : Optional.empty();
     }
 
-    private static HttpClient createHttpClient(ProxyContext proxyContext, Optional<SslCertificateTruster> sslCertificateTruster) {
-        return HttpClient.create(HttpClientOptions.create()
+    private static Optional<Compression> createCompression(Boolean compression) {
+        if (Optional.ofNullable(compression).orElse(false)) {
+            return Optional.of(new Compression());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static HttpClient createHttpClient(Optional<ClientResources> clientResources, RequestGate requestGate, ProxyContext proxyContext,
+                                               Optional<SslCertificateTruster> sslCertificateTruster) {
+
+        HttpClientOptions options = HttpClientOptions.create()
             .followRedirects(true)
             .sslSupport()
-            .pipelineConfigurer(pipeline -> proxyContext.getHttpProxyHandler().ifPresent(handler -> pipeline.addBefore(SslHandler, null, handler)))
-            .sslConfigurer(ssl -> sslCertificateTruster.ifPresent(trustManager -> ssl.trustManager(new StaticTrustManagerFactory(trustManager)))));
+            .pipelineConfigurer(pipeline -> {
+                proxyContext.getHttpProxyHandler().ifPresent(handler -> pipeline.addBefore(SslHandler, null, handler));
+                requestGate.configure(pipeline);
+                clientResources.ifPresent(resources -> resources.configure(pipeline));
+            })
+            .sslConfigurer(ssl -> sslCertificateTruster.ifPresent(trustManager -> ssl.trustManager(new StaticTrustManagerFactory(trustManager))));
+
+        return HttpClient.create(clientResources
+            .map(resources -> resources.configure(options))
+            .orElse(options));
     }
 
-    private static Optional<SslCertificateTruster> createSslCertificateTruster(ProxyContext proxyContext, Boolean trustCertificates) {
-        if (Optional.ofNullable(trustCertificates).orElse(false)) {
-            return Optional.of(new DefaultSslCertificateTruster(proxyContext));
+    private static Optional<PaginationPolicy> createPaginationPolicy(Boolean defaultPaginationPolicy, PaginationPolicy paginationPolicy) {
+        if (paginationPolicy != null) {
+            return Optional.of(paginationPolicy);
+        } else if (Optional.ofNullable(defaultPaginationPolicy).orElse(true)) {
+            return Optional.of(PaginationPolicy.builder().build());
         } else {
             return Optional.empty();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Mono<Map<String, String>> getInfo(HttpClient httpClient, ObjectMapper objectMapper, Mono<String> root) {
-        return root
-            .map(uri -> UriComponentsBuilder.fromUriString(uri).pathSegment("v2", "info").build().toUriString())
-            .then(httpClient::get)
-            .then(inbound -> inbound.receive().aggregate().toInputStream())
-            .map(JsonCodec.decode(objectMapper, Map.class))
-            .map(m -> (Map<String, String>) m)
-            .cache();
+    private static Optional<RequestCoalescer> createRequestCoalescer(Boolean coalesceRequests) {
+        if (Optional.ofNullable(coalesceRequests).orElse(false)) {
+            return Optional.of(new RequestCoalescer());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<SslCertificateTruster> createSslCertificateTruster(Optional<ClientResources> clientResources, ProxyContext proxyContext, Boolean trustCertificates) {
+        if (Optional.ofNullable(trustCertificates).orElse(false)) {
+            return Optional.of(clientResources
+                .map(resources -> resources.getSslCertificateTruster(proxyContext))
+                .orElseGet(() -> new DefaultSslCertificateTruster(proxyContext)));
+        } else {
+            return Optional.empty();
+        }
     }
 
     private static ObjectMapper getObjectMapper(ObjectMapper objectMapper) {
@@ -169,8 +353,52 @@ public final class DefaultConnectionContext implements ConnectionContext {
         return builder.build().encode();
     }
 
+    @SuppressWarnings("unchecked")
+    private static Mono<Map<String, String>> requestInfo(HttpClient httpClient, ObjectMapper objectMapper, String root) {
+        return httpClient.get(UriComponentsBuilder.fromUriString(root).pathSegment("v2", "info").build().toUriString())
+            .then(inbound -> inbound.receive().aggregate().toInputStream())
+            .map(JsonCodec.decode(objectMapper, Map.class))
+            .map(m -> (Map<String, String>) m);
+    }
+
     private static void trust(UriComponents components, Optional<SslCertificateTruster> sslCertificateTruster) {
         sslCertificateTruster.ifPresent(t -> t.trust(components.getHost(), components.getPort(), Duration.ofSeconds(30)));
     }
 
+    private synchronized TokenManager getOrCreateTokenManager() {
+        if (this.tokenManager == null) {
+            this.tokenManager = TokenManager.builder()
+                .clientId(this.clientId)
+                .clientSecret(this.clientSecret)
+                .password(this.password)
+                .refreshMargin(this.tokenRefreshMargin)
+                .tokens(new ReactorTokens(this, getRoot("token_endpoint"), outbound -> Mono.just(outbound)))
+                .username(this.username)
+                .build();
+        }
+
+        return this.tokenManager;
+    }
+
+    private Mono<String> resolveEndpoint(String root, String key) {
+        return this.endpointRegistry.getInfo(root, this.network, () -> requestInfo(this.httpClient, this.objectMapper, root))
+            .map(info -> normalize(UriComponentsBuilder.fromUriString(info.get(key))).toUriString());
+    }
+
+    private Mono<Void> trustOnce(String uri) {
+        if (!this.sslCertificateTruster.isPresent()) {
+            return Mono.empty();
+        }
+
+        UriComponents components = UriComponentsBuilder.fromUriString(uri).build();
+
+        return this.trustedHosts.computeIfAbsent(String.format("%s:%d", components.getHost(), components.getPort()), key -> Mono
+            .<Void>defer(() -> {
+                trust(components, this.sslCertificateTruster);
+                return Mono.empty();
+            })
+            .doOnError(t -> this.trustedHosts.remove(key))
+            .cache());
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the {@code /v2/info} document of each foundation and the endpoints resolved from it, so that they are looked up once rather than once per client.  A registry can be shared by every
+ * {@link ConnectionContext} pointing at the same foundation.  Because a lookup is made over the network configuration (client resources, proxy and certificate trust) of whichever context asks
+ * first, entries are kept apart for each network configuration, and contexts share an entry only when their configurations are equal.  Entries are discarded when their lookup fails, when
+ * they are older than the refresh interval, or when the foundation is invalidated, and are looked up again on next use.
+ */
+public final class EndpointRegistry {
+
+    private final ConcurrentMap<Key, Entry> endpoints = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Key, Entry> infos = new ConcurrentHashMap<>();
+
+    private final Optional<Duration> refreshInterval;
+
+    @Builder
+    EndpointRegistry(Duration refreshInterval) {
+        this.refreshInterval = Optional.ofNullable(refreshInterval);
+    }
+
+    /**
+     * Discards everything memoized for a foundation
+     *
+     * @param root the root URI of the foundation
+     */
+    public void invalidate(String root) {
+        this.infos.keySet().removeIf(key -> key.root.equals(root));
+        this.endpoints.keySet().removeIf(key -> key.root.equals(root));
+    }
+
+    /**
+     * Discards everything memoized for all foundations
+     */
+    public void invalidateAll() {
+        this.infos.clear();
+        this.endpoints.clear();
+    }
+
+    Mono<String> getEndpoint(String root, Object network, String key, Supplier<Mono<String>> resolver) {
+        return memoize(this.endpoints, new Key(key, network, root), resolver);
+    }
+
+    Mono<Map<String, String>> getInfo(String root, Object network, Supplier<Mono<Map<String, String>>> loader) {
+        return memoize(this.infos, new Key(null, network, root), loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> memoize(ConcurrentMap<Key, Entry> entries, Key key, Supplier<Mono<T>> supplier) {
+        return Mono.defer(() -> {
+            Entry entry = entries.get(key);
+
+            if (entry != null && !entry.isExpired()) {
+                return (Mono<T>) entry.value;
+            }
+
+            Entry candidate = new Entry();
+            candidate.value = supplier.get()
+                .doOnError(t -> entries.remove(key, candidate))
+                .cache();
+
+            boolean installed = entry == null ? entries.putIfAbsent(key, candidate) == null : entries.replace(key, entry, candidate);
+            return installed ? (Mono<T>) candidate.value : memoize(entries, key, supplier);
+        });
+    }
+
+    private final class Entry {
+
+        private final long createdAt = System.nanoTime();
+
+        private Mono<?> value;
+
+        private boolean isExpired() {
+            return EndpointRegistry.this.refreshInterval
+                .filter(interval -> System.nanoTime() - this.createdAt > interval.toNanos())
+                .isPresent();
+        }
+
+    }
+
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final String name;
+
+        private final Object network;
+
+        private final String root;
+
+        private Key(String name, Object network, String root) {
+            this.name = name;
+            this.network = network;
+            this.root = root;
+        }
+
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import lombok.Builder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hedges idempotent reads ({@code GET}): when a request has not completed within the configured percentile of its endpoint's recent latencies, a second identical request is sent, the first to
+ * succeed is used, and the other is cancelled.  If one of the requests fails while the other is still running, the failure is only reported once the other has failed too.  Endpoints are
+ * identified by path template (e.g. {@code /v2/apps/{id}}) and are not hedged until enough of their latencies have been observed.  Latencies are kept in windows of the window size; once a window
+ * is full it replaces the previous one, so the delay follows the most recent one to two windows of latencies.  Hedges are drawn from a budget that each request replenishes by the budget ratio, so
+ * that an overloaded server sees at most that fraction of extra load once the reserve is exhausted.
+ */
+public final class HedgingPolicy {
+
+    private static final double DEFAULT_BUDGET_RATIO = 0.05;
+
+    private static final int DEFAULT_BUDGET_RESERVE = 10;
+
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+
+    private static final int DEFAULT_MIN_SAMPLES = 100;
+
+    private static final double DEFAULT_PERCENTILE = 95;
+
+    private static final int DEFAULT_WINDOW_SIZE = 1_000;
+
+    private static final long HEDGE_COST = 1000;
+
+    private static final int HEDGE_PENDING = 0;
+
+    private static final int HEDGE_SKIPPED = 1;
+
+    private static final int HEDGE_STARTED = 2;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.hedge");
+
+    private final AtomicLong budget;
+
+    private final long budgetCapacity;
+
+    private final long budgetDeposit;
+
+    private final AtomicLong hedges = new AtomicLong();
+
+    private final ConcurrentMap<String, RecentLatencies> latencies = new ConcurrentHashMap<>();
+
+    private final Duration maxDelay;
+
+    private final Duration minDelay;
+
+    private final int minSamples;
+
+    private final double percentile;
+
+    private final int windowSize;
+
+    @Builder
+    HedgingPolicy(Double budgetRatio, Integer budgetReserve, Duration maxDelay, Duration minDelay, Integer minSamples, Double percentile, Integer windowSize) {
+        this.budgetCapacity = Optional.ofNullable(budgetReserve).orElse(DEFAULT_BUDGET_RESERVE) * HEDGE_COST;
+        this.budgetDeposit = (long) (Optional.ofNullable(budgetRatio).orElse(DEFAULT_BUDGET_RATIO) * HEDGE_COST);
+        this.maxDelay = Optional.ofNullable(maxDelay).orElse(DEFAULT_MAX_DELAY);
+        this.minDelay = Optional.ofNullable(minDelay).orElse(DEFAULT_MIN_DELAY);
+        this.minSamples = Optional.ofNullable(minSamples).orElse(DEFAULT_MIN_SAMPLES);
+        this.percentile = Optional.ofNullable(percentile).orElse(DEFAULT_PERCENTILE);
+        this.windowSize = Math.max(this.minSamples, Optional.ofNullable(windowSize).orElse(DEFAULT_WINDOW_SIZE));
+
+        this.budget = new AtomicLong(this.budgetCapacity);
+    }
+
+    /**
+     * Returns the number of hedges the budget currently allows
+     *
+     * @return the number of available hedges
+     */
+    public long getAvailableHedges() {
+        return this.budget.get() / HEDGE_COST;
+    }
+
+    /**
+     * Returns the delay after which a request to an endpoint is hedged
+     *
+     * @param template the path template of the endpoint
+     * @return the hedging delay, or empty if too few latencies of the endpoint have been observed
+     */
+    public Optional<Duration> getDelay(String template) {
+        return Optional.ofNullable(this.latencies.get(template))
+            .map(RecentLatencies::getHistogram)
+            .filter(histogram -> histogram.getCount() >= this.minSamples)
+            .map(histogram -> histogram.getValueAtPercentile(this.percentile))
+            .map(delay -> delay.compareTo(this.minDelay) < 0 ? this.minDelay : delay)
+            .map(delay -> delay.compareTo(this.maxDelay) > 0 ? this.maxDelay : delay);
+    }
+
+    /**
+     * Returns the number of hedges that have been sent
+     *
+     * @return the number of hedges
+     */
+    public long getHedges() {
+        return this.hedges.get();
+    }
+
+    <T> Mono<T> hedge(String template, Mono<T> exchange) {
+        return Mono.defer(() -> {
+            deposit();
+
+            Optional<Duration> delay = getDelay(template);
+            Mono<T> primary = timed(template, exchange);
+
+            if (!delay.isPresent()) {
+                return primary;
+            }
+
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            AtomicInteger hedgeState = new AtomicInteger(HEDGE_PENDING);
+
+            Mono<Optional<T>> primaryOutcome = Flux.concat(primary.map(Optional::of), Mono.just(Optional.<T>empty())).next()
+                .doOnSuccess(response -> hedgeState.compareAndSet(HEDGE_PENDING, HEDGE_SKIPPED))
+                .otherwise(Throwable.class, t -> {
+                    if (hedgeState.compareAndSet(HEDGE_PENDING, HEDGE_SKIPPED)) {
+                        return Mono.error(t);
+                    }
+
+                    failure.compareAndSet(null, t);
+                    return Mono.empty();
+                });
+
+            Mono<Optional<T>> hedgeOutcome = Mono.delay(delay.get())
+                .then(i -> {
+                    if (!hedgeState.compareAndSet(HEDGE_PENDING, HEDGE_STARTED) || !withdraw()) {
+                        return Mono.<Optional<T>>empty();
+                    }
+
+                    LOGGER.debug("Hedging GET {} after {} ms", template, delay.get().toMillis());
+                    this.hedges.incrementAndGet();
+                    return Flux.concat(timed(template, exchange).map(Optional::of), Mono.just(Optional.<T>empty())).next()
+                        .otherwise(Throwable.class, t -> {
+                            failure.compareAndSet(null, t);
+                            return Mono.empty();
+                        });
+                });
+
+            return Flux.concat(Flux.merge(primaryOutcome, hedgeOutcome), Mono.defer(() -> failure(failure.get())))
+                .next()
+                .then(response -> response.map(Mono::just).orElse(Mono.empty()));
+        });
+    }
+
+    boolean isHedgeable(String method) {
+        return "GET".equals(method);
+    }
+
+    private static <T> Mono<Optional<T>> failure(Throwable t) {
+        return t != null ? Mono.error(t) : Mono.just(Optional.empty());
+    }
+
+    private void deposit() {
+        this.budget.accumulateAndGet(this.budgetDeposit, (current, deposit) -> Math.min(this.budgetCapacity, current + deposit));
+    }
+
+    private <T> Mono<T> timed(String template, Mono<T> exchange) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            return exchange
+                .doOnSuccess(response -> this.latencies.computeIfAbsent(template, t -> new RecentLatencies()).record(Duration.ofNanos(System.nanoTime() - startedAt)));
+        });
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = this.budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!this.budget.compareAndSet(current, current - HEDGE_COST));
+
+        return true;
+    }
+
+    private final class RecentLatencies {
+
+        private volatile LatencyHistogram current = new LatencyHistogram();
+
+        private volatile LatencyHistogram previous;
+
+        private LatencyHistogram getHistogram() {
+            LatencyHistogram current = this.current;
+            LatencyHistogram previous = this.previous;
+
+            return current.getCount() >= HedgingPolicy.this.minSamples || previous == null ? current : previous;
+        }
+
+        private void record(Duration latency) {
+            LatencyHistogram current = this.current;
+            current.record(latency);
+
+            if (current.getCount() >= HedgingPolicy.this.windowSize) {
+                rotate(current);
+            }
+        }
+
+        private synchronized void rotate(LatencyHistogram full) {
+            if (this.current == full) {
+                this.previous = full;
+                this.current = new LatencyHistogram();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import lombok.Builder;
+import lombok.Singular;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ResponseCache} that holds a bounded number of responses, evicting the least recently used first.  Only resources given a time-to-live are cached.  A resource is identified by a path
+ * template prefix, e.g. {@code /v2/stacks} covers both {@code /v2/stacks} and {@code /v2/stacks/{id}}, and any successful {@code POST}, {@code PUT}, {@code PATCH} or {@code DELETE} within a resource
+ * invalidates all of its cached responses.  Slow-changing reference data such as {@code /v2/stacks}, {@code /v2/shared_domains}, {@code /v2/config/feature_flags}, {@code /v2/info},
+ * {@code /v2/service_plans} and {@code /v2/quota_definitions} are typical candidates.
+ */
+public final class LruResponseCache implements ResponseCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private final Map<Object, Entry> entries;
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final int maximumSize;
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Map<String, Duration> ttls;
+
+    private long generation;
+
+    @Builder
+    LruResponseCache(Integer maximumSize, @Singular Map<String, Duration> ttls) {
+        this.maximumSize = Optional.ofNullable(maximumSize).orElse(DEFAULT_MAXIMUM_SIZE);
+        this.ttls = ttls;
+
+        this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > LruResponseCache.this.maximumSize) {
+                    LruResponseCache.this.evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+
+        };
+    }
+
+    @Override
+    public <T> Mono<T> get(String template, Object key, Mono<T> exchange) {
+        return getResource(template)
+            .map(resource -> Mono.defer(() -> {
+                Optional<T> cached = lookup(key);
+                if (cached.isPresent()) {
+                    this.hits.incrementAndGet();
+                    return Mono.just(cached.get());
+                }
+
+                this.misses.incrementAndGet();
+                long generation = getGeneration();
+
+                return exchange
+                    .doOnSuccess(response -> {
+                        if (response != null) {
+                            store(key, resource, response, generation);
+                        }
+                    });
+            }))
+            .orElse(exchange);
+    }
+
+    /**
+     * Returns the number of responses evicted to stay within the maximum size
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return this.evictions.get();
+    }
+
+    /**
+     * Returns the number of requests served from the cache
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the number of cacheable requests that were not in the cache
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the number of responses in the cache, including any that have expired but not yet been removed
+     *
+     * @return the number of cached responses
+     */
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    @Override
+    public void invalidate(String template) {
+        getResource(template).ifPresent(resource -> {
+            synchronized (this) {
+                this.generation++;
+                this.entries.values().removeIf(entry -> entry.resource.equals(resource));
+            }
+        });
+    }
+
+    /**
+     * Invalidates all cached responses
+     */
+    public synchronized void invalidateAll() {
+        this.generation++;
+        this.entries.clear();
+    }
+
+    private synchronized long getGeneration() {
+        return this.generation;
+    }
+
+    private Optional<String> getResource(String template) {
+        return this.ttls.keySet().stream()
+            .filter(resource -> template.equals(resource) || template.startsWith(resource + "/"))
+            .reduce((a, b) -> a.length() >= b.length() ? a : b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> Optional<T> lookup(Object key) {
+        Entry entry = this.entries.get(key);
+
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            this.entries.remove(key);
+            return Optional.empty();
+        }
+
+        return Optional.of((T) entry.response);
+    }
+
+    private synchronized void store(Object key, String resource, Object response, long generation) {
+        if (generation == this.generation) {
+            this.entries.put(key, new Entry(resource, response, System.nanoTime() + this.ttls.get(resource).toNanos()));
+        }
+    }
+
+    private static final class Entry {
+
+        private final long expiresAt;
+
+        private final String resource;
+
+        private final Object response;
+
+        private Entry(String resource, Object response, long expiresAt) {
+            this.expiresAt = expiresAt;
+            this.resource = resource;
+            this.response = response;
+        }
+
+    }
+
+}
@@ -19,12 +19,14 @@ package org.cloudfoundry.reactor.util;
 import io.netty.channel.ChannelHandler;
 import io.netty.handler.proxy.HttpProxyHandler;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import org.springframework.util.StringUtils;
 
 import java.net.InetSocketAddress;
 import java.util.Optional;
 
 @Builder
+@EqualsAndHashCode
 final class ProxyContext {
 
     private final String host;
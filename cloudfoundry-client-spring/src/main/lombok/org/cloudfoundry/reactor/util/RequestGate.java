@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import lombok.Builder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static reactor.io.netty.config.NettyHandlerNames.SslHandler;
+
+/**
+ * Bounds the number of concurrent requests made from a {@link ConnectionContext}.  Requests above the bound wait, in order, until a running request completes or the admission timeout elapses.  The
+ * bound is either a fixed maximum number of requests or the adaptive limit of a {@link ConcurrencyLimiter}.  The gate also reports the time each new connection spends on its TLS handshake.
+ * <p>
+ * This is not a connection pool.  The reactor-netty {@link reactor.io.netty.http.HttpClient} this client is built on opens a connection per request and exposes no pool to configure, so idle
+ * eviction, per-host connection limits, keep-alive reuse and idle connection counts cannot be provided here.  Bounding concurrent requests bounds concurrent connections, and so the number of
+ * handshakes in flight, but does not avoid them.
+ */
+public final class RequestGate {
+
+    private final Optional<Duration> admissionTimeout;
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private final int maxPendingRequests;
+
+    private final Optional<RequestGateMetrics> metrics;
+
+    @Builder
+    RequestGate(Duration admissionTimeout, ConcurrencyLimiter concurrencyLimiter, Integer maxPendingRequests, Integer maxRequests, RequestGateMetrics metrics) {
+        if (concurrencyLimiter != null && maxRequests != null) {
+            throw new IllegalArgumentException("Only one of a concurrency limiter and a maximum number of requests can be configured");
+        }
+
+        this.admissionTimeout = Optional.ofNullable(admissionTimeout);
+        this.concurrencyLimiter = Optional.ofNullable(concurrencyLimiter).orElseGet(() -> createConcurrencyLimiter(Optional.ofNullable(maxRequests).orElse(Integer.MAX_VALUE)));
+        this.maxPendingRequests = Optional.ofNullable(maxPendingRequests).orElse(Integer.MAX_VALUE);
+        this.metrics = Optional.ofNullable(metrics);
+
+        this.metrics.ifPresent(m -> m.register(this));
+    }
+
+    /**
+     * Returns the number of requests currently running
+     *
+     * @return the number of active requests
+     */
+    public int getActiveRequests() {
+        return this.concurrencyLimiter.getInFlight();
+    }
+
+    /**
+     * Returns the maximum number of concurrently running requests
+     *
+     * @return the maximum number of requests
+     */
+    public int getMaxRequests() {
+        return this.concurrencyLimiter.getLimit();
+    }
+
+    /**
+     * Returns the number of requests waiting to run
+     *
+     * @return the number of pending requests
+     */
+    public int getPendingRequests() {
+        return this.concurrencyLimiter.getPending();
+    }
+
+    /**
+     * Subscribes to an exchange once the bound allows it, and admits the next waiting request when the exchange terminates or is cancelled
+     *
+     * @param exchange the exchange to run
+     * @param <T>      the type of the exchange's result
+     * @return the exchange's result
+     */
+    public <T> Mono<T> admit(Mono<T> exchange) {
+        return this.concurrencyLimiter.limit(exchange, this.admissionTimeout, this.maxPendingRequests);
+    }
+
+    void configure(ChannelPipeline pipeline) {
+        pipeline.addAfter(SslHandler, null, new HandshakeHandler());
+    }
+
+    private static ConcurrencyLimiter createConcurrencyLimiter(int maxRequests) {
+        return ConcurrencyLimiter.builder()
+            .initialLimit(maxRequests)
+            .maxLimit(maxRequests)
+            .minLimit(maxRequests)
+            .build();
+    }
+
+    private final class HandshakeHandler extends ChannelInboundHandlerAdapter {
+
+        private long activeAt;
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            this.activeAt = System.nanoTime();
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof SslHandshakeCompletionEvent && ((SslHandshakeCompletionEvent) evt).isSuccess()) {
+                Duration duration = Duration.ofNanos(System.nanoTime() - this.activeAt);
+                RequestGate.this.metrics.ifPresent(m -> m.handshake(duration));
+            }
+
+            super.userEventTriggered(ctx, evt);
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * The measurements of a single request
+ */
+public final class RequestSample {
+
+    private final long bytesIn;
+
+    private final long bytesOut;
+
+    private final Duration decodeTime;
+
+    private final Duration duration;
+
+    private final String method;
+
+    private final int retries;
+
+    private final int status;
+
+    private final String template;
+
+    private final Duration timeToFirstByte;
+
+    @Builder
+    RequestSample(long bytesIn, long bytesOut, Duration decodeTime, Duration duration, String method, int retries, int status, String template, Duration timeToFirstByte) {
+        this.bytesIn = bytesIn;
+        this.bytesOut = bytesOut;
+        this.decodeTime = decodeTime;
+        this.duration = duration;
+        this.method = method;
+        this.retries = retries;
+        this.status = status;
+        this.template = template;
+        this.timeToFirstByte = timeToFirstByte;
+    }
+
+    /**
+     * Returns the size of the response body, as declared by its {@code Content-Length}
+     *
+     * @return the size of the response body, or {@code -1} if it is not known
+     */
+    public long getBytesIn() {
+        return this.bytesIn;
+    }
+
+    /**
+     * Returns the size of the request body, as declared by its {@code Content-Length}
+     *
+     * @return the size of the request body, or {@code -1} if it is not known
+     */
+    public long getBytesOut() {
+        return this.bytesOut;
+    }
+
+    /**
+     * Returns the time between the response arriving and its body being decoded
+     *
+     * @return the decode time
+     */
+    public Duration getDecodeTime() {
+        return this.decodeTime;
+    }
+
+    /**
+     * Returns the time between the request starting and completing
+     *
+     * @return the duration of the request
+     */
+    public Duration getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Returns the HTTP method of the request
+     *
+     * @return the HTTP method
+     */
+    public String getMethod() {
+        return this.method;
+    }
+
+    /**
+     * Returns the number of times the request was retried
+     *
+     * @return the number of retries
+     */
+    public int getRetries() {
+        return this.retries;
+    }
+
+    /**
+     * Returns the status code of the response
+     *
+     * @return the status code, or {@code -1} if no response was received
+     */
+    public int getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Returns the path template of the request, for example {@code /v2/apps/{id}/routes/{id}}
+     *
+     * @return the path template
+     */
+    public String getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Returns the time between the request starting and the response headers arriving
+     *
+     * @return the time to first byte
+     */
+    public Duration getTimeToFirstByte() {
+        return this.timeToFirstByte;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %d (%d ms)", this.method, this.template, this.status, this.duration.toMillis());
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import lombok.Builder;
+import lombok.Singular;
+import org.cloudfoundry.util.DelayUtils;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.io.netty.http.HttpException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Retries idempotent requests ({@code GET}, {@code PUT} and {@code DELETE}) that fail with a connection error, a response timeout, or a {@code 502}, {@code 503} or {@code 504} response, backing off
+ * exponentially with jitter between attempts.  Retries are drawn from a budget that each request replenishes by the budget ratio, so that a failing server sees at most that fraction of extra load
+ * once the reserve is exhausted.  Endpoints, identified by method and path template (e.g. {@code GET /v2/apps/{id}}), can override the maximum number of retries.
+ */
+public final class RetryPolicy {
+
+    private static final double DEFAULT_BUDGET_RATIO = 0.1;
+
+    private static final int DEFAULT_BUDGET_RESERVE = 10;
+
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private static final int DEFAULT_MAX_RETRIES = 3;
+
+    private static final Duration DEFAULT_MIN_BACKOFF = Duration.ofMillis(100);
+
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList("DELETE", "GET", "PUT"));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.retry");
+
+    private static final long RETRY_COST = 1000;
+
+    private static final Set<HttpResponseStatus> TRANSIENT_STATUSES = new HashSet<>(Arrays.asList(HttpResponseStatus.BAD_GATEWAY, HttpResponseStatus.SERVICE_UNAVAILABLE,
+        HttpResponseStatus.GATEWAY_TIMEOUT));
+
+    private final AtomicLong budget;
+
+    private final long budgetCapacity;
+
+    private final long budgetDeposit;
+
+    private final Duration maxBackoff;
+
+    private final int maxRetries;
+
+    private final Duration minBackoff;
+
+    private final Map<String, Integer> overrides;
+
+    @Builder
+    RetryPolicy(Double budgetRatio, Integer budgetReserve, Duration maxBackoff, Integer maxRetries, Duration minBackoff, @Singular Map<String, Integer> overrides) {
+        this.budgetCapacity = Optional.ofNullable(budgetReserve).orElse(DEFAULT_BUDGET_RESERVE) * RETRY_COST;
+        this.budgetDeposit = (long) (Optional.ofNullable(budgetRatio).orElse(DEFAULT_BUDGET_RATIO) * RETRY_COST);
+        this.maxBackoff = Optional.ofNullable(maxBackoff).orElse(DEFAULT_MAX_BACKOFF);
+        this.maxRetries = Optional.ofNullable(maxRetries).orElse(DEFAULT_MAX_RETRIES);
+        this.minBackoff = Optional.ofNullable(minBackoff).orElse(DEFAULT_MIN_BACKOFF);
+        this.overrides = overrides;
+
+        this.budget = new AtomicLong(this.budgetCapacity);
+    }
+
+    /**
+     * Returns the number of retries the budget currently allows
+     *
+     * @return the number of available retries
+     */
+    public long getAvailableRetries() {
+        return this.budget.get() / RETRY_COST;
+    }
+
+    boolean isRetryable(String method) {
+        return IDEMPOTENT_METHODS.contains(method);
+    }
+
+    Function<Flux<Throwable>, Publisher<?>> retries(String method, RequestRecorder recorder) {
+        deposit();
+        AtomicInteger iteration = new AtomicInteger();
+
+        return errors -> errors
+            .flatMap(error -> {
+                String endpoint = String.format("%s %s", method, recorder.getTemplate());
+                int i = iteration.getAndIncrement();
+
+                if (!isTransient(error) || i >= getMaxRetries(endpoint) || !withdraw()) {
+                    return Mono.error(error);
+                }
+
+                Duration delay = DelayUtils.exponentialBackOffWithJitter(this.minBackoff, this.maxBackoff, i);
+                LOGGER.debug("Retrying {} in {} ms after {}", endpoint, delay.toMillis(), error.getMessage());
+                recorder.retry();
+
+                return Mono.delay(delay);
+            });
+    }
+
+    private static boolean isTransient(Throwable t) {
+        if (t instanceof HttpException) {
+            return TRANSIENT_STATUSES.contains(((HttpException) t).getResponseStatus());
+        }
+
+        return t instanceof TimeoutException || (t instanceof IOException && !(t instanceof JsonProcessingException));
+    }
+
+    private void deposit() {
+        this.budget.accumulateAndGet(this.budgetDeposit, (current, deposit) -> Math.min(this.budgetCapacity, current + deposit));
+    }
+
+    private int getMaxRetries(String endpoint) {
+        return Optional.ofNullable(this.overrides.get(endpoint)).orElse(this.maxRetries);
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = this.budget.get();
+            if (current < RETRY_COST) {
+                return false;
+            }
+        } while (!this.budget.compareAndSet(current, current - RETRY_COST));
+
+        return true;
+    }
+
+}
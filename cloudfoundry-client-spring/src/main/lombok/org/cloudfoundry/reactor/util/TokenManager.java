@@ -0,0 +1,281 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.util.AsciiString;
+import lombok.Builder;
+import lombok.NonNull;
+import org.cloudfoundry.uaa.tokens.GetTokenByClientCredentialsRequest;
+import org.cloudfoundry.uaa.tokens.GetTokenByPasswordRequest;
+import org.cloudfoundry.uaa.tokens.RefreshTokenRequest;
+import org.cloudfoundry.uaa.tokens.Tokens;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.flow.Cancellation;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.io.netty.http.HttpException;
+import reactor.io.netty.http.HttpOutbound;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An {@link AuthorizationProvider} that obtains access tokens from a UAA {@link Tokens} endpoint.  The token is cached until it expires, as read from its {@code exp} claim, or from its
+ * {@code expires_in} if it is not a JWT.  Once it is within the refresh margin of expiring it is refreshed in the background while callers keep using it.  If a caller finds the token has expired,
+ * all callers wait on a single shared refresh.  Tokens are obtained with the password grant when a username is configured, and the client credentials grant otherwise, and are renewed with the
+ * refresh token where there is one.
+ * <p>
+ * {@link Tokens} requests still call the {@link AuthorizationProvider} they were created with before replacing its header, so the {@link Tokens} must not be authorized by a {@code TokenManager}:
+ * fetching a token would wait on itself.  {@link DefaultConnectionContext} creates a correctly wired instance when it is given credentials instead of an {@link AuthorizationProvider}.  Call
+ * {@link #close()} to stop the background refresh.
+ */
+public final class TokenManager implements AuthorizationProvider {
+
+    private static final AsciiString AUTHORIZATION = new AsciiString("Authorization");
+
+    private static final Duration DEFAULT_REFRESH_MARGIN = Duration.ofMinutes(1);
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.token");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String clientId;
+
+    private final String clientSecret;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final Optional<String> password;
+
+    private final Duration refreshMargin;
+
+    private final AtomicReference<Cancellation> refreshTimer = new AtomicReference<>();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final AtomicReference<MonoProcessor<Token>> token = new AtomicReference<>();
+
+    private final Tokens tokens;
+
+    private final Optional<String> username;
+
+    @Builder
+    TokenManager(String clientId, String clientSecret, String password, Duration refreshMargin, @NonNull Tokens tokens, String username) {
+        if (tokens instanceof AbstractReactorOperations && ((AbstractReactorOperations) tokens).getAuthorizationProvider() instanceof TokenManager) {
+            throw new IllegalArgumentException("The Tokens used by a TokenManager must not be authorized by a TokenManager");
+        }
+
+        this.clientId = Optional.ofNullable(clientId).orElse("cf");
+        this.clientSecret = Optional.ofNullable(clientSecret).orElse("");
+        this.password = Optional.ofNullable(password);
+        this.refreshMargin = Optional.ofNullable(refreshMargin).orElse(DEFAULT_REFRESH_MARGIN);
+        this.tokens = tokens;
+        this.username = Optional.ofNullable(username);
+    }
+
+    @Override
+    public Mono<HttpOutbound> addAuthorization(HttpOutbound outbound) {
+        return getToken()
+            .map(token -> outbound.addHeader(AUTHORIZATION, String.format("bearer %s", token)));
+    }
+
+    /**
+     * Stops refreshing the token in the background.  Once the current token expires, a new one is fetched on demand.
+     */
+    public void close() {
+        this.closed.set(true);
+        cancelRefresh();
+    }
+
+    /**
+     * Returns a current access token
+     *
+     * @return a current access token
+     */
+    public Mono<String> getToken() {
+        return currentToken()
+            .map(token -> token.accessToken);
+    }
+
+    private static Optional<Instant> getExpiration(String accessToken) {
+        String[] parts = accessToken.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode expiration = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+
+            return Optional.ofNullable(expiration)
+                .filter(JsonNode::canConvertToLong)
+                .map(exp -> Instant.ofEpochSecond(exp.asLong()));
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void cancelRefresh() {
+        Optional.ofNullable(this.refreshTimer.getAndSet(null)).ifPresent(Cancellation::dispose);
+    }
+
+    private Mono<Token> currentToken() {
+        return Mono.defer(() -> {
+            MonoProcessor<Token> current = this.token.get();
+
+            if (current == null) {
+                return replace(null, Optional.empty());
+            }
+
+            return current
+                .then(token -> {
+                    Instant now = Instant.now();
+
+                    if (now.isAfter(token.expiresAt.minus(EXPIRY_MARGIN))) {
+                        return replace(current, token.refreshToken);
+                    }
+
+                    if (now.isAfter(token.expiresAt.minus(this.refreshMargin))) {
+                        refreshInBackground(current, token);
+                    }
+
+                    return Mono.just(token);
+                });
+        });
+    }
+
+    private Mono<Token> fetch(Optional<String> refreshToken) {
+        Mono<Token> grant = grant();
+
+        return refreshToken
+            .map(token -> this.tokens
+                .refresh(RefreshTokenRequest.builder()
+                    .clientId(this.clientId)
+                    .clientSecret(this.clientSecret)
+                    .refreshToken(token)
+                    .build())
+                .map(response -> new Token(response.getAccessToken(), response.getExpiresInSeconds(), Optional.ofNullable(response.getRefreshToken())))
+                .otherwise(HttpException.class, t -> grant))
+            .orElse(grant);
+    }
+
+    private Mono<Token> grant() {
+        return this.username
+            .map(username -> this.tokens
+                .getByPassword(GetTokenByPasswordRequest.builder()
+                    .clientId(this.clientId)
+                    .clientSecret(this.clientSecret)
+                    .password(this.password.orElse(""))
+                    .username(username)
+                    .build())
+                .map(response -> new Token(response.getAccessToken(), response.getExpiresInSeconds(), Optional.ofNullable(response.getRefreshToken()))))
+            .orElseGet(() -> this.tokens
+                .getByClientCredentials(GetTokenByClientCredentialsRequest.builder()
+                    .clientId(this.clientId)
+                    .clientSecret(this.clientSecret)
+                    .build())
+                .map(response -> new Token(response.getAccessToken(), response.getExpiresInSeconds(), Optional.empty())));
+    }
+
+    private void refreshInBackground(MonoProcessor<Token> current, Token token) {
+        if (this.closed.get() || !this.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        LOGGER.debug("Refreshing token expiring at {}", token.expiresAt);
+
+        fetch(token.refreshToken)
+            .doOnSuccess(refreshed -> {
+                MonoProcessor<Token> next = MonoProcessor.create();
+                next.onNext(refreshed);
+
+                if (this.token.compareAndSet(current, next)) {
+                    scheduleRefresh(next, refreshed);
+                }
+
+                this.refreshing.set(false);
+            })
+            .otherwise(Throwable.class, t -> {
+                LOGGER.warn("Unable to refresh token in the background", t);
+                this.refreshing.set(false);
+                return Mono.empty();
+            })
+            .subscribe();
+    }
+
+    private Mono<Token> replace(MonoProcessor<Token> expected, Optional<String> refreshToken) {
+        MonoProcessor<Token> next = MonoProcessor.create();
+
+        if (!this.token.compareAndSet(expected, next)) {
+            return currentToken();
+        }
+
+        fetch(refreshToken)
+            .doOnSuccess(token -> scheduleRefresh(next, token))
+            .doOnError(t -> this.token.compareAndSet(next, null))
+            .subscribe(next);
+
+        return next;
+    }
+
+    private void scheduleRefresh(MonoProcessor<Token> current, Token token) {
+        Duration delay = Duration.between(Instant.now(), token.expiresAt.minus(this.refreshMargin));
+
+        if (delay.isNegative() || this.closed.get()) {
+            return;
+        }
+
+        Cancellation timer = Mono.delay(delay)
+            .subscribe(i -> {
+                if (this.token.get() == current) {
+                    refreshInBackground(current, token);
+                }
+            });
+        Optional.ofNullable(this.refreshTimer.getAndSet(timer)).ifPresent(Cancellation::dispose);
+
+        if (this.closed.get()) {
+            cancelRefresh();
+        }
+    }
+
+    private static final class Token {
+
+        private final String accessToken;
+
+        private final Instant expiresAt;
+
+        private final Optional<String> refreshToken;
+
+        private Token(String accessToken, Integer expiresInSeconds, Optional<String> refreshToken) {
+            this.accessToken = accessToken;
+            this.expiresAt = getExpiration(accessToken)
+                .orElseGet(() -> Instant.now().plusSeconds(Optional.ofNullable(expiresInSeconds).orElse(0)));
+            this.refreshToken = refreshToken;
+        }
+
+    }
+
+}
@@ -93,28 +93,25 @@ import org.cloudfoundry.reactor.client.v3.processes.ReactorProcesses;
 import org.cloudfoundry.reactor.client.v3.servicebindings.ReactorServiceBindingsV3;
 import org.cloudfoundry.reactor.client.v3.tasks.ReactorTasks;
 import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.ConnectionContext;
 import org.cloudfoundry.reactor.util.ConnectionContextSupplier;
 import org.cloudfoundry.reactor.util.DefaultConnectionContext;
+import org.cloudfoundry.reactor.util.TokenManager;
 import org.cloudfoundry.spring.util.CloudFoundryClientCompatibilityChecker;
-import org.cloudfoundry.spring.util.network.ConnectionContext;
-import org.cloudfoundry.spring.util.network.ConnectionContextFactory;
-import org.cloudfoundry.spring.util.network.FallbackHttpMessageConverter;
-import org.cloudfoundry.spring.util.network.OAuth2RestOperationsOAuth2TokenProvider;
-import org.cloudfoundry.spring.util.network.OAuth2RestTemplateBuilder;
 import org.cloudfoundry.spring.util.network.OAuth2TokenProvider;
-import org.springframework.security.oauth2.client.OAuth2RestOperations;
 import reactor.core.publisher.Mono;
-import reactor.io.netty.http.HttpClient;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 /**
- * The Spring-based implementation of {@link CloudFoundryClient}
+ * The Spring-based implementation of {@link CloudFoundryClient}.  A client built with a username and password refreshes its token in the background; {@link #close()} it once it is no longer
+ * needed.
  */
-public final class SpringCloudFoundryClient implements CloudFoundryClient, ConnectionContextSupplier {
+public final class SpringCloudFoundryClient implements AutoCloseable, CloudFoundryClient, ConnectionContextSupplier {
 
     private final ApplicationUsageEvents applicationUsageEvents;
 
@@ -124,7 +121,7 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
 
     private final Buildpacks buildpacks;
 
-    private final org.cloudfoundry.reactor.util.ConnectionContext connectionContext;
+    private final ConnectionContext connectionContext;
 
     private final Domains domains;
 
@@ -184,6 +181,8 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
 
     private final Tasks tasks;
 
+    private final Optional<TokenManager> tokenManager;
+
     private final OAuth2TokenProvider tokenProvider;
 
     private final UserProvidedServiceInstances userProvidedServiceInstances;
@@ -204,88 +203,60 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
                              @NonNull String password,
                              @Singular List<DeserializationProblemHandler> problemHandlers) {
 
-        this(getConnectionContext(host, port, skipSslValidation, clientId, clientSecret, username, password), host, port, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation,
-            problemHandlers, clientId, clientSecret);
+        this(getConnectionContext(null, clientId, clientSecret, host, password, port, problemHandlers, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation, username), null);
         new CloudFoundryClientCompatibilityChecker(this.info).check();
     }
 
     SpringCloudFoundryClient(String host, Integer port, String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername, Boolean skipSslValidation,
                              OAuth2TokenProvider tokenProvider, List<DeserializationProblemHandler> problemHandlers, String clientId, String clientSecret) {
+        this(getConnectionContext(getAuthorizationProvider(tokenProvider), clientId, clientSecret, host, null, port, problemHandlers, proxyHost, proxyPassword, proxyPort, proxyUsername,
+            skipSslValidation, null), tokenProvider);
+    }
 
-        this.tokenProvider = tokenProvider;
-
-        ObjectMapper objectMapper = new ObjectMapper()
-            .setSerializationInclusion(NON_NULL)
-            .disable(FAIL_ON_UNKNOWN_PROPERTIES);
-        problemHandlers.forEach(objectMapper::addHandler);
-
-        this.connectionContext = DefaultConnectionContext.builder()
-            .authorizationProvider(outbound -> tokenProvider.getToken()
-                .map(token -> String.format("bearer %s", token))
-                .map(token -> outbound.addHeader("Authorization", token)))
-            .clientId(clientId)
-            .clientSecret(clientSecret)
-            .host(host)
-            .objectMapper(objectMapper)
-            .port(port)
-            .proxyHost(proxyHost)
-            .proxyPassword(proxyPassword)
-            .proxyPort(proxyPort)
-            .proxyUsername(proxyUsername)
-            .trustCertificates(skipSslValidation)
-            .build();
+    private SpringCloudFoundryClient(DefaultConnectionContext connectionContext, OAuth2TokenProvider tokenProvider) {
+        this.connectionContext = connectionContext;
+        this.tokenManager = connectionContext.getTokenManager();
+        this.tokenProvider = Optional.ofNullable(tokenProvider)
+            .orElseGet(() -> this.tokenManager.get()::getToken);
 
         AuthorizationProvider authorizationProvider = this.connectionContext.getAuthorizationProvider();
-        HttpClient httpClient = this.connectionContext.getHttpClient();
         Mono<String> root2 = this.connectionContext.getRoot();  // TODO: Change name once Spring is gone
 
-        this.applicationsV2 = new ReactorApplicationsV2(authorizationProvider, httpClient, objectMapper, root2);
-        this.applicationsV3 = new ReactorApplicationsV3(authorizationProvider, httpClient, objectMapper, root2);
-        this.applicationUsageEvents = new ReactorApplicationUsageEvents(authorizationProvider, httpClient, objectMapper, root2);
-        this.buildpacks = new ReactorBuildpacks(authorizationProvider, httpClient, objectMapper, root2);
-        this.domains = new ReactorDomains(authorizationProvider, httpClient, objectMapper, root2);
-        this.droplets = new ReactorDroplets(authorizationProvider, httpClient, objectMapper, root2);
-        this.environmentVariableGroups = new ReactorEnvironmentVariableGroups(authorizationProvider, httpClient, objectMapper, root2);
-        this.featureFlags = new ReactorFeatureFlags(authorizationProvider, httpClient, objectMapper, root2);
-        this.events = new ReactorEvents(authorizationProvider, httpClient, objectMapper, root2);
-        this.info = new ReactorInfo(authorizationProvider, httpClient, objectMapper, root2);
-        this.jobs = new ReactorJobs(authorizationProvider, httpClient, objectMapper, root2);
-        this.organizationQuotaDefinitions = new ReactorOrganizationQuotaDefinitions(authorizationProvider, httpClient, objectMapper, root2);
-        this.organizations = new ReactorOrganizations(authorizationProvider, httpClient, objectMapper, root2);
-        this.packages = new ReactorPackages(authorizationProvider, httpClient, objectMapper, root2);
-        this.privateDomains = new ReactorPrivateDomains(authorizationProvider, httpClient, objectMapper, root2);
-        this.processes = new ReactorProcesses(authorizationProvider, httpClient, objectMapper, root2);
-        this.routeMappings = new ReactorRouteMappings(authorizationProvider, httpClient, objectMapper, root2);
-        this.routes = new ReactorRoutes(authorizationProvider, httpClient, objectMapper, root2);
-        this.securityGroups = new ReactorSecurityGroups(authorizationProvider, httpClient, objectMapper, root2);
-        this.serviceBindingsV2 = new ReactorServiceBindingsV2(authorizationProvider, httpClient, objectMapper, root2);
-        this.serviceBindingsV3 = new ReactorServiceBindingsV3(authorizationProvider, httpClient, objectMapper, root2);
-        this.serviceBrokers = new ReactorServiceBrokers(authorizationProvider, httpClient, objectMapper, root2);
-        this.serviceInstances = new ReactorServiceInstances(authorizationProvider, httpClient, objectMapper, root2);
-        this.serviceKeys = new ReactorServiceKeys(authorizationProvider, httpClient, objectMapper, root2);
-        this.servicePlans = new ReactorServicePlans(authorizationProvider, httpClient, objectMapper, root2);
-        this.servicePlanVisibilities = new ReactorServicePlanVisibilities(authorizationProvider, httpClient, objectMapper, root2);
-        this.services = new ReactorServices(authorizationProvider, httpClient, objectMapper, root2);
-        this.serviceUsageEvents = new ReactorServiceUsageEvents(authorizationProvider, httpClient, objectMapper, root2);
-        this.sharedDomains = new ReactorSharedDomains(authorizationProvider, httpClient, objectMapper, root2);
-        this.spaceQuotaDefinitions = new ReactorSpaceQuotaDefinitions(authorizationProvider, httpClient, objectMapper, root2);
-        this.spaces = new ReactorSpaces(authorizationProvider, httpClient, objectMapper, root2);
-        this.stacks = new ReactorStacks(authorizationProvider, httpClient, objectMapper, root2);
-        this.tasks = new ReactorTasks(authorizationProvider, httpClient, objectMapper, root2);
-        this.users = new ReactorUsers(authorizationProvider, httpClient, objectMapper, root2);
-        this.userProvidedServiceInstances = new ReactorUserProvidedServiceInstances(authorizationProvider, httpClient, objectMapper, root2);
-    }
-
-    // Let's take a moment to reflect on the fact that this bridge constructor is needed to counter a useless compiler constraint
-    private SpringCloudFoundryClient(ConnectionContext connectionContext, String host, Integer port, String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername,
-                                     Boolean skipSslValidation, List<DeserializationProblemHandler> problemHandlers, String clientId, String clientSecret) {
-        this(host, port, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation, getRestOperations(connectionContext, problemHandlers), problemHandlers, clientId, clientSecret);
-    }
-
-    // Let's take a moment to reflect on the fact that this bridge constructor is needed to counter a useless compiler constraint
-    private SpringCloudFoundryClient(String host, Integer port, String proxyHost, String proxyPassword, Integer proxyPort, String proxyUsername, Boolean skipSslValidation,
-                                     OAuth2RestOperations restOperations, List<DeserializationProblemHandler> problemHandlers, String clientId, String clientSecret) {
-        this(host, port, proxyHost, proxyPassword, proxyPort, proxyUsername, skipSslValidation, new OAuth2RestOperationsOAuth2TokenProvider(restOperations), problemHandlers, clientId, clientSecret);
+        this.applicationsV2 = new ReactorApplicationsV2(this.connectionContext, root2, authorizationProvider);
+        this.applicationsV3 = new ReactorApplicationsV3(this.connectionContext, root2, authorizationProvider);
+        this.applicationUsageEvents = new ReactorApplicationUsageEvents(this.connectionContext, root2, authorizationProvider);
+        this.buildpacks = new ReactorBuildpacks(this.connectionContext, root2, authorizationProvider);
+        this.domains = new ReactorDomains(this.connectionContext, root2, authorizationProvider);
+        this.droplets = new ReactorDroplets(this.connectionContext, root2, authorizationProvider);
+        this.environmentVariableGroups = new ReactorEnvironmentVariableGroups(this.connectionContext, root2, authorizationProvider);
+        this.featureFlags = new ReactorFeatureFlags(this.connectionContext, root2, authorizationProvider);
+        this.events = new ReactorEvents(this.connectionContext, root2, authorizationProvider);
+        this.info = new ReactorInfo(this.connectionContext, root2, authorizationProvider);
+        this.jobs = new ReactorJobs(this.connectionContext, root2, authorizationProvider);
+        this.organizationQuotaDefinitions = new ReactorOrganizationQuotaDefinitions(this.connectionContext, root2, authorizationProvider);
+        this.organizations = new ReactorOrganizations(this.connectionContext, root2, authorizationProvider);
+        this.packages = new ReactorPackages(this.connectionContext, root2, authorizationProvider);
+        this.privateDomains = new ReactorPrivateDomains(this.connectionContext, root2, authorizationProvider);
+        this.processes = new ReactorProcesses(this.connectionContext, root2, authorizationProvider);
+        this.routeMappings = new ReactorRouteMappings(this.connectionContext, root2, authorizationProvider);
+        this.routes = new ReactorRoutes(this.connectionContext, root2, authorizationProvider);
+        this.securityGroups = new ReactorSecurityGroups(this.connectionContext, root2, authorizationProvider);
+        this.serviceBindingsV2 = new ReactorServiceBindingsV2(this.connectionContext, root2, authorizationProvider);
+        this.serviceBindingsV3 = new ReactorServiceBindingsV3(this.connectionContext, root2, authorizationProvider);
+        this.serviceBrokers = new ReactorServiceBrokers(this.connectionContext, root2, authorizationProvider);
+        this.serviceInstances = new ReactorServiceInstances(this.connectionContext, root2, authorizationProvider);
+        this.serviceKeys = new ReactorServiceKeys(this.connectionContext, root2, authorizationProvider);
+        this.servicePlans = new ReactorServicePlans(this.connectionContext, root2, authorizationProvider);
+        this.servicePlanVisibilities = new ReactorServicePlanVisibilities(this.connectionContext, root2, authorizationProvider);
+        this.services = new ReactorServices(this.connectionContext, root2, authorizationProvider);
+        this.serviceUsageEvents = new ReactorServiceUsageEvents(this.connectionContext, root2, authorizationProvider);
+        this.sharedDomains = new ReactorSharedDomains(this.connectionContext, root2, authorizationProvider);
+        this.spaceQuotaDefinitions = new ReactorSpaceQuotaDefinitions(this.connectionContext, root2, authorizationProvider);
+        this.spaces = new ReactorSpaces(this.connectionContext, root2, authorizationProvider);
+        this.stacks = new ReactorStacks(this.connectionContext, root2, authorizationProvider);
+        this.tasks = new ReactorTasks(this.connectionContext, root2, authorizationProvider);
+        this.users = new ReactorUsers(this.connectionContext, root2, authorizationProvider);
+        this.userProvidedServiceInstances = new ReactorUserProvidedServiceInstances(this.connectionContext, root2, authorizationProvider);
     }
 
     @Override
@@ -308,6 +279,14 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
         return this.buildpacks;
     }
 
+    /**
+     * Stops refreshing the token in the background, if this client manages its own token
+     */
+    @Override
+    public void close() {
+        this.tokenManager.ifPresent(TokenManager::close);
+    }
+
     @Override
     public Domains domains() {
         return this.domains;
@@ -339,7 +318,7 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
     }
 
     @Override
-    public org.cloudfoundry.reactor.util.ConnectionContext getConnectionContext() {
+    public ConnectionContext getConnectionContext() {
         return this.connectionContext;
     }
 
@@ -473,26 +452,35 @@ public final class SpringCloudFoundryClient implements CloudFoundryClient, Conne
         return this.users;
     }
 
-    private static ConnectionContext getConnectionContext(String host, Integer port, Boolean skipSslValidation, String clientId, String clientSecret, String username, String password) {
-        return new ConnectionContextFactory()
-            .trustCertificates(skipSslValidation)
-            .host(host)
-            .port(port)
+    private static AuthorizationProvider getAuthorizationProvider(OAuth2TokenProvider tokenProvider) {
+        return outbound -> tokenProvider.getToken()
+            .map(token -> String.format("bearer %s", token))
+            .map(token -> outbound.addHeader("Authorization", token));
+    }
+
+    private static DefaultConnectionContext getConnectionContext(AuthorizationProvider authorizationProvider, String clientId, String clientSecret, String host, String password, Integer port,
+                                                                 List<DeserializationProblemHandler> problemHandlers, String proxyHost, String proxyPassword, Integer proxyPort,
+                                                                 String proxyUsername, Boolean skipSslValidation, String username) {
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(NON_NULL)
+            .disable(FAIL_ON_UNKNOWN_PROPERTIES);
+        problemHandlers.forEach(objectMapper::addHandler);
+
+        return DefaultConnectionContext.builder()
+            .authorizationProvider(authorizationProvider)
             .clientId(clientId)
             .clientSecret(clientSecret)
-            .username(username)
+            .host(host)
+            .objectMapper(objectMapper)
             .password(password)
-            .build();
-    }
-
-    private static OAuth2RestOperations getRestOperations(ConnectionContext connectionContext, List<DeserializationProblemHandler> problemHandlers) {
-        return new OAuth2RestTemplateBuilder()
-            .clientContext(connectionContext.getClientContext())
-            .protectedResourceDetails(connectionContext.getProtectedResourceDetails())
-            .hostnameVerifier(connectionContext.getHostnameVerifier())
-            .sslContext(connectionContext.getSslContext())
-            .messageConverter(new FallbackHttpMessageConverter())
-            .problemHandlers(problemHandlers)
+            .port(port)
+            .proxyHost(proxyHost)
+            .proxyPassword(proxyPassword)
+            .proxyPort(proxyPort)
+            .proxyUsername(proxyUsername)
+            .trustCertificates(skipSslValidation)
+            .username(username)
             .build();
     }
 
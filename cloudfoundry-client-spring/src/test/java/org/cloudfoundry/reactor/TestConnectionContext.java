@@ -0,0 +1,179 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import org.cloudfoundry.reactor.util.AuthorizationProvider;
+import org.cloudfoundry.reactor.util.CircuitBreakers;
+import org.cloudfoundry.reactor.util.Compression;
+import org.cloudfoundry.reactor.util.ConditionalRequestCache;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.HedgingPolicy;
+import org.cloudfoundry.reactor.util.PaginationPolicy;
+import org.cloudfoundry.reactor.util.RequestCoalescer;
+import org.cloudfoundry.reactor.util.RequestGate;
+import org.cloudfoundry.reactor.util.RequestMetrics;
+import org.cloudfoundry.reactor.util.ResponseCache;
+import org.cloudfoundry.reactor.util.RetryPolicy;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.io.netty.http.HttpClient;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Builder
+public final class TestConnectionContext implements ConnectionContext {
+
+    private final AuthorizationProvider authorizationProvider;
+
+    private final CircuitBreakers circuitBreakers;
+
+    private final String clientId;
+
+    private final String clientSecret;
+
+    private final Compression compression;
+
+    private final ConditionalRequestCache conditionalRequestCache;
+
+    private final Scheduler decodeScheduler;
+
+    private final HedgingPolicy hedgingPolicy;
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final PaginationPolicy paginationPolicy;
+
+    private final RequestCoalescer requestCoalescer;
+
+    private final RequestGate requestGate;
+
+    private final RequestMetrics requestMetrics;
+
+    private final ResponseCache responseCache;
+
+    private final Duration responseTimeout;
+
+    private final RetryPolicy retryPolicy;
+
+    private final Mono<String> root;
+
+    @Override
+    public AuthorizationProvider getAuthorizationProvider() {
+        return this.authorizationProvider;
+    }
+
+    @Override
+    public Optional<CircuitBreakers> getCircuitBreakers() {
+        return Optional.ofNullable(this.circuitBreakers);
+    }
+
+    @Override
+    public String getClientId() {
+        return this.clientId;
+    }
+
+    @Override
+    public String getClientSecret() {
+        return this.clientSecret;
+    }
+
+    @Override
+    public Optional<Compression> getCompression() {
+        return Optional.ofNullable(this.compression);
+    }
+
+    @Override
+    public Optional<ConditionalRequestCache> getConditionalRequestCache() {
+        return Optional.ofNullable(this.conditionalRequestCache);
+    }
+
+    @Override
+    public Optional<Scheduler> getDecodeScheduler() {
+        return Optional.ofNullable(this.decodeScheduler);
+    }
+
+    @Override
+    public int getDecodeThreshold() {
+        return 0;
+    }
+
+    @Override
+    public Optional<HedgingPolicy> getHedgingPolicy() {
+        return Optional.ofNullable(this.hedgingPolicy);
+    }
+
+    @Override
+    public HttpClient getHttpClient() {
+        return this.httpClient;
+    }
+
+    @Override
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    @Override
+    public Optional<PaginationPolicy> getPaginationPolicy() {
+        return Optional.ofNullable(this.paginationPolicy);
+    }
+
+    @Override
+    public Optional<RequestCoalescer> getRequestCoalescer() {
+        return Optional.ofNullable(this.requestCoalescer);
+    }
+
+    @Override
+    public RequestGate getRequestGate() {
+        return this.requestGate;
+    }
+
+    @Override
+    public Optional<RequestMetrics> getRequestMetrics() {
+        return Optional.ofNullable(this.requestMetrics);
+    }
+
+    @Override
+    public Optional<ResponseCache> getResponseCache() {
+        return Optional.ofNullable(this.responseCache);
+    }
+
+    @Override
+    public Optional<Duration> getResponseTimeout() {
+        return Optional.ofNullable(this.responseTimeout);
+    }
+
+    @Override
+    public Optional<RetryPolicy> getRetryPolicy() {
+        return Optional.ofNullable(this.retryPolicy);
+    }
+
+    @Override
+    public Mono<String> getRoot() {
+        return Optional.ofNullable(this.root).orElseThrow(() -> new IllegalStateException("No root configured"));
+    }
+
+    @Override
+    public Mono<String> getRoot(String key) {
+        return getRoot();
+    }
+
+}
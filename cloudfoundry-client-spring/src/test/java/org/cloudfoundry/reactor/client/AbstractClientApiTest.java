@@ -17,6 +17,7 @@
 package org.cloudfoundry.reactor.client;
 
 import okhttp3.Headers;
+import org.cloudfoundry.client.DownloadProgress;
 import org.cloudfoundry.client.v2.CloudFoundryException;
 import org.cloudfoundry.reactor.AbstractApiTest;
 import org.junit.Test;
@@ -29,6 +30,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -63,6 +68,16 @@ public abstract class AbstractClientApiTest<REQ, RSP> extends AbstractApiTest<RE
             .map(ByteArrayOutputStream::toByteArray);
     }
 
+    protected static Path createTempFile() {
+        try {
+            Path path = Files.createTempFile("download-to-file", ".bin");
+            path.toFile().deleteOnExit();
+            return path;
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     protected static String extractBoundary(Headers headers) {
         String contentType = headers.get("Content-Type");
         assertNotNull(contentType);
@@ -87,4 +102,36 @@ public abstract class AbstractClientApiTest<REQ, RSP> extends AbstractApiTest<RE
         }
     }
 
+    protected static DownloadProgress getDownloadProgress(String path) {
+        byte[] bytes = getBytes(path);
+
+        return DownloadProgress.builder()
+            .bytesWritten((long) bytes.length)
+            .complete(true)
+            .contentLength((long) bytes.length)
+            .sha1(digest("SHA-1", bytes))
+            .sha256(digest("SHA-256", bytes))
+            .build();
+    }
+
+    protected static byte[] readAllBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static String digest(String algorithm, byte[] bytes) {
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : MessageDigest.getInstance(algorithm).digest(bytes)) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
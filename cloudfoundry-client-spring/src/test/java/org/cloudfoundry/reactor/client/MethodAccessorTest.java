@@ -0,0 +1,76 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class MethodAccessorTest {
+
+    @Test
+    public void get() throws NoSuchMethodException {
+        MethodAccessor accessor = MethodAccessor.of(StubSubClass.class.getDeclaredMethod("getValue"));
+
+        assertEquals("test-value", accessor.get(new StubSubClass()));
+    }
+
+    @Test
+    public void getInherited() throws NoSuchMethodException {
+        MethodAccessor accessor = MethodAccessor.of(Stub.class.getDeclaredMethod("getNull"));
+
+        assertNull(accessor.get(new StubSubClass()));
+    }
+
+    @Test
+    public void getPrimitive() throws NoSuchMethodException {
+        MethodAccessor accessor = MethodAccessor.of(Stub.class.getDeclaredMethod("getPrimitive"));
+
+        assertEquals(1, accessor.get(new StubSubClass()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getThrows() throws NoSuchMethodException {
+        MethodAccessor.of(StubSubClass.class.getDeclaredMethod("getException")).get(new StubSubClass());
+    }
+
+    private static abstract class Stub {
+
+        private String getNull() {
+            return null;
+        }
+
+        int getPrimitive() {
+            return 1;
+        }
+
+    }
+
+    private static final class StubSubClass extends Stub {
+
+        String getException() throws Exception {
+            throw new Exception();
+        }
+
+        String getValue() {
+            return "test-value";
+        }
+
+    }
+
+}
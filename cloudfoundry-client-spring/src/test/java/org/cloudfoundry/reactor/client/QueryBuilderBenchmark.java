@@ -0,0 +1,137 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.cloudfoundry.QueryParameter;
+import org.cloudfoundry.client.v2.FilterParameter;
+import org.cloudfoundry.client.v2.PaginatedRequest;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.cloudfoundry.reactor.client.v2.FilterBuilder;
+import org.cloudfoundry.reactor.util.UriBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the compiled {@link QueryBuilder} and {@link FilterBuilder} against a per-call reflective implementation.  Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class QueryBuilderBenchmark {
+
+    private final ListApplicationsRequest request = ListApplicationsRequest.builder()
+        .diego(true)
+        .name("test-name")
+        .organizationId("test-organization-id")
+        .spaceId("test-space-id")
+        .page(1)
+        .resultsPerPage(100)
+        .build();
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(QueryBuilderBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+
+    @Benchmark
+    public UriBuilder compiled() {
+        UriBuilder builder = UriBuilder.newInstance();
+        FilterBuilder.augment(builder, this.request);
+        QueryBuilder.augment(builder, this.request);
+        return builder;
+    }
+
+    @Benchmark
+    public UriBuilder reflective() {
+        UriBuilder builder = UriBuilder.newInstance();
+        reflectiveAugment(builder, this.request);
+        return builder;
+    }
+
+    private static void reflectiveAugment(UriBuilder builder, PaginatedRequest instance) {
+        Method[] methods = ReflectionUtils.getAllDeclaredMethods(instance.getClass());
+        Arrays.sort(methods, MethodNameComparator.INSTANCE);
+
+        for (Method method : methods) {
+            for (Annotation annotation : AnnotationUtils.getAnnotations(method)) {
+                if (AnnotationUtils.isAnnotationMetaPresent(annotation.annotationType(), FilterParameter.class)) {
+                    Object value = reflectiveValue(method, instance);
+
+                    if (value instanceof Collection) {
+                        value = ((Collection<?>) value).isEmpty() ? null : ((Collection<?>) value).stream()
+                            .map(Object::toString)
+                            .collect(Collectors.joining(","));
+                    }
+
+                    if (value != null) {
+                        FilterParameter filterParameter = AnnotationUtils.getAnnotation(annotation, FilterParameter.class);
+                        builder.queryParam("q", String.format("%s%s%s", AnnotationUtils.getValue(annotation), filterParameter.operator(), value));
+                    }
+
+                    break;
+                }
+            }
+        }
+
+        for (Method method : methods) {
+            QueryParameter queryParameter = AnnotationUtils.getAnnotation(method, QueryParameter.class);
+            if (queryParameter == null) {
+                continue;
+            }
+
+            Object value = reflectiveValue(method, instance);
+
+            if (value instanceof Collection) {
+                builder.queryParam(queryParameter.value(), ((Collection<?>) value).stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(",")));
+            } else if (value != null) {
+                builder.queryParam(queryParameter.value(), value);
+            }
+        }
+    }
+
+    private static Object reflectiveValue(Method method, Object instance) {
+        ReflectionUtils.makeAccessible(method);
+        return ReflectionUtils.invokeMethod(method, instance);
+    }
+
+}
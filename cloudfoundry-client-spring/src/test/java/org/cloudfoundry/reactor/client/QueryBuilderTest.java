@@ -17,9 +17,9 @@
 package org.cloudfoundry.reactor.client;
 
 import org.cloudfoundry.QueryParameter;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.junit.Test;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import static org.junit.Assert.assertEquals;
 
@@ -27,11 +27,11 @@ public final class QueryBuilderTest {
 
     @Test
     public void test() {
-        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+        UriBuilder builder = UriBuilder.newInstance();
 
         QueryBuilder.augment(builder, new StubQueryParamsSubClass());
 
-        MultiValueMap<String, String> queryParams = builder.build().getQueryParams();
+        MultiValueMap<String, String> queryParams = builder.getQueryParams();
         assertEquals(2, queryParams.size());
         assertEquals("test-value-1", queryParams.getFirst("test-parameter-1"));
         assertEquals("test-value-3", queryParams.getFirst("test-parameter-3"));
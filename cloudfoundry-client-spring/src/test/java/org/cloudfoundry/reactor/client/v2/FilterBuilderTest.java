@@ -22,9 +22,9 @@ import org.cloudfoundry.client.v2.InFilterParameter;
 import org.cloudfoundry.client.v2.IsFilterParameter;
 import org.cloudfoundry.client.v2.LessThanFilterParameter;
 import org.cloudfoundry.client.v2.LessThanOrEqualToFilterParameter;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.junit.Test;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,11 +37,11 @@ public final class FilterBuilderTest {
 
     @Test
     public void test() {
-        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+        UriBuilder builder = UriBuilder.newInstance();
 
         FilterBuilder.augment(builder, new StubFilterParamsSubClass());
 
-        MultiValueMap<String, String> queryParams = builder.build().getQueryParams();
+        MultiValueMap<String, String> queryParams = builder.getQueryParams();
         List<String> q = queryParams.get("q");
         assertEquals(7, q.size());
         assertTrue(q.contains("test-greater-than>test-value-1"));
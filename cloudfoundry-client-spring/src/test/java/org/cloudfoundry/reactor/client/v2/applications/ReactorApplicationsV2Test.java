@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.client.v2.applications;
 
+import org.cloudfoundry.client.DownloadProgress;
 import org.cloudfoundry.client.v2.Metadata;
 import org.cloudfoundry.client.v2.applications.ApplicationEntity;
 import org.cloudfoundry.client.v2.applications.ApplicationEnvironmentRequest;
@@ -72,13 +73,26 @@ import org.cloudfoundry.reactor.TestResponse;
 import org.cloudfoundry.reactor.client.AbstractClientApiTest;
 import org.cloudfoundry.util.StringMap;
 import org.cloudfoundry.util.test.TestSubscriber;
+import org.junit.Test;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.springframework.core.io.ClassPathResource;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -92,6 +106,8 @@ import static org.cloudfoundry.client.v2.serviceinstances.ServiceInstance.Plan.b
 import static org.cloudfoundry.util.tuple.TupleUtils.consumer;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 public final class ReactorApplicationsV2Test {
 
@@ -403,6 +419,153 @@ public final class ReactorApplicationsV2Test {
 
     }
 
+    public static final class DownloadDropletToFile extends AbstractClientApiTest<DownloadApplicationDropletRequest, DownloadProgress> {
+
+        private final ReactorApplicationsV2 applications = new ReactorApplicationsV2(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v2/apps/test-application-id/droplet/download")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v2/apps/GET_{id}_download_response.bin")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected DownloadProgress getResponse() {
+            return getDownloadProgress("fixtures/client/v2/apps/GET_{id}_download_response.bin");
+        }
+
+        @Override
+        protected DownloadApplicationDropletRequest getValidRequest() throws Exception {
+            return DownloadApplicationDropletRequest.builder()
+                .applicationId("test-application-id")
+                .build();
+        }
+
+        @Override
+        protected Mono<DownloadProgress> invoke(DownloadApplicationDropletRequest request) {
+            Path path = createTempFile();
+
+            return this.applications.downloadDroplet(request, path)
+                .filter(DownloadProgress::getComplete)
+                .next()
+                .doOnSuccess(progress -> assertArrayEquals(getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin"), readAllBytes(path)));
+        }
+
+    }
+
+    public static final class DownloadToFile extends AbstractClientApiTest<DownloadApplicationRequest, DownloadProgress> {
+
+        private final ReactorApplicationsV2 applications = new ReactorApplicationsV2(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+
+        @Test
+        public void demand() throws Exception {
+            mockRequest(getInteractionContext());
+
+            Path path = createTempFile();
+            List<DownloadProgress> received = new CopyOnWriteArrayList<>();
+            AtomicReference<Subscription> subscription = new AtomicReference<>();
+            CountDownLatch completed = new CountDownLatch(1);
+
+            this.applications.download(getValidRequest(), path)
+                .subscribe(new Subscriber<DownloadProgress>() {
+
+                    @Override
+                    public void onComplete() {
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onNext(DownloadProgress progress) {
+                        received.add(progress);
+                    }
+
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription.set(s);
+                    }
+
+                });
+
+            byte[] expected = getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin");
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!Arrays.equals(expected, readAllBytes(path)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertArrayEquals(expected, readAllBytes(path));
+            assertTrue(received.isEmpty());
+
+            subscription.get().request(1);
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertEquals(Collections.singletonList(getResponse()), received);
+            verify();
+        }
+
+        @Test
+        public void permissions() throws Exception {
+            Path path = createTempFile();
+            assumeTrue(Files.getFileAttributeView(path, PosixFileAttributeView.class) != null);
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-rw-r--"));
+
+            mockRequest(getInteractionContext());
+            this.applications.download(getValidRequest(), path)
+                .then()
+                .block();
+
+            assertEquals(PosixFilePermissions.fromString("rw-rw-r--"), Files.getPosixFilePermissions(path));
+            verify();
+        }
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v2/apps/test-application-id/download")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v2/apps/GET_{id}_download_response.bin")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected DownloadProgress getResponse() {
+            return getDownloadProgress("fixtures/client/v2/apps/GET_{id}_download_response.bin");
+        }
+
+        @Override
+        protected DownloadApplicationRequest getValidRequest() throws Exception {
+            return DownloadApplicationRequest.builder()
+                .applicationId("test-application-id")
+                .build();
+        }
+
+        @Override
+        protected Mono<DownloadProgress> invoke(DownloadApplicationRequest request) {
+            Path path = createTempFile();
+
+            return this.applications.download(request, path)
+                .filter(DownloadProgress::getComplete)
+                .next()
+                .doOnSuccess(progress -> assertArrayEquals(getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin"), readAllBytes(path)));
+        }
+
+    }
+
     public static final class Environment extends AbstractClientApiTest<ApplicationEnvironmentRequest, ApplicationEnvironmentResponse> {
 
         private final ReactorApplicationsV2 applications = new ReactorApplicationsV2(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
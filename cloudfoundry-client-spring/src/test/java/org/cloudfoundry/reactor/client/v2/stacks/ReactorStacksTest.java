@@ -24,9 +24,13 @@ import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
 import org.cloudfoundry.client.v2.stacks.StackEntity;
 import org.cloudfoundry.client.v2.stacks.StackResource;
 import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.TestConnectionContext;
 import org.cloudfoundry.reactor.TestRequest;
 import org.cloudfoundry.reactor.TestResponse;
 import org.cloudfoundry.reactor.client.AbstractClientApiTest;
+import org.cloudfoundry.reactor.util.ConnectionContext;
+import org.cloudfoundry.reactor.util.PaginationPolicy;
+import org.cloudfoundry.reactor.util.RequestGate;
 import reactor.core.publisher.Mono;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -153,4 +157,87 @@ public final class ReactorStacksTest {
 
     }
 
+    public static final class ListPaginationPolicy extends AbstractClientApiTest<ListStacksRequest, ListStacksResponse> {
+
+        private static final ConnectionContext PAGINATED_CONNECTION_CONTEXT = TestConnectionContext.builder()
+            .authorizationProvider(AUTHORIZATION_PROVIDER)
+            .clientId(CLIENT_ID)
+            .clientSecret(CLIENT_SECRET)
+            .requestGate(RequestGate.builder().build())
+            .httpClient(HTTP_CLIENT)
+            .objectMapper(OBJECT_MAPPER)
+            .paginationPolicy(PaginationPolicy.builder().build())
+            .build();
+
+        private final ReactorStacks stacks = new ReactorStacks(PAGINATED_CONNECTION_CONTEXT, this.root, AUTHORIZATION_PROVIDER);
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v2/stacks?q=name%20IN%20test-name&page=-1&results-per-page=100")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v2/stacks/GET_response.json")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListStacksResponse getResponse() {
+            return ListStacksResponse.builder()
+                .totalResults(3)
+                .totalPages(1)
+                .resource(StackResource.builder()
+                    .metadata(Metadata.builder()
+                        .id("fe4999cf-a207-4d40-bb03-f4bbf697edac")
+                        .url("/v2/stacks/fe4999cf-a207-4d40-bb03-f4bbf697edac")
+                        .createdAt("2015-12-22T18:27:59Z")
+                        .build())
+                    .entity(StackEntity.builder()
+                        .name("cflinuxfs2")
+                        .description("cflinuxfs2")
+                        .build())
+                    .build())
+                .resource(StackResource.builder()
+                    .metadata(Metadata.builder()
+                        .id("ff0f87c9-9add-477a-8674-c11c012667a6")
+                        .url("/v2/stacks/ff0f87c9-9add-477a-8674-c11c012667a6")
+                        .createdAt("2015-12-22T18:27:59Z")
+                        .build())
+                    .entity(StackEntity.builder()
+                        .name("default-stack-name")
+                        .description("default-stack-description")
+                        .build())
+                    .build())
+                .resource(StackResource.builder()
+                    .metadata(Metadata.builder()
+                        .id("01bd93b4-f252-4517-a4a5-191eb4c7fc7e")
+                        .url("/v2/stacks/01bd93b4-f252-4517-a4a5-191eb4c7fc7e")
+                        .createdAt("2015-12-22T18:27:59Z")
+                        .build())
+                    .entity(StackEntity.builder()
+                        .name("cider")
+                        .description("cider-description")
+                        .build())
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected ListStacksRequest getValidRequest() throws Exception {
+            return ListStacksRequest.builder()
+                .name("test-name")
+                .page(-1)
+                .build();
+        }
+
+        @Override
+        protected Mono<ListStacksResponse> invoke(ListStacksRequest request) {
+            return this.stacks.list(request);
+        }
+
+    }
+
 }
@@ -17,9 +17,9 @@
 package org.cloudfoundry.reactor.client.v3;
 
 import org.cloudfoundry.client.v3.FilterParameter;
+import org.cloudfoundry.reactor.util.UriBuilder;
 import org.junit.Test;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,11 +31,11 @@ public final class FilterBuilderTest {
 
     @Test
     public void test() {
-        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+        UriBuilder builder = UriBuilder.newInstance();
 
         FilterBuilder.augment(builder, new StubFilterParamsSubClass());
 
-        MultiValueMap<String, String> queryParams = builder.build().getQueryParams();
+        MultiValueMap<String, String> queryParams = builder.getQueryParams();
         assertEquals(3, queryParams.size());
         assertEquals("test-value-1", queryParams.getFirst("test-single"));
         assertEquals("test-value-2,test-value-3", queryParams.getFirst("test-collection"));
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.client.v3.packages;
 
+import org.cloudfoundry.client.DownloadProgress;
 import org.cloudfoundry.client.v3.BuildpackData;
 import org.cloudfoundry.client.v3.Hash;
 import org.cloudfoundry.client.v3.Lifecycle;
@@ -53,6 +54,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Collections;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
@@ -258,6 +260,47 @@ public final class ReactorPackagesTest {
 
     }
 
+    public static final class DownloadToFile extends AbstractClientApiTest<DownloadPackageRequest, DownloadProgress> {
+
+        private final ReactorPackages packages = new ReactorPackages(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+
+        @Override
+        protected InteractionContext getInteractionContext() {
+            return InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/v3/packages/test-package-id/download")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/client/v3/packages/GET_{id}_download_response.bin")
+                    .build())
+                .build();
+        }
+
+        @Override
+        protected DownloadProgress getResponse() {
+            return getDownloadProgress("fixtures/client/v3/packages/GET_{id}_download_response.bin");
+        }
+
+        @Override
+        protected DownloadPackageRequest getValidRequest() {
+            return DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .build();
+        }
+
+        @Override
+        protected Mono<DownloadProgress> invoke(DownloadPackageRequest request) {
+            Path path = createTempFile();
+
+            return this.packages.download(request, path)
+                .filter(DownloadProgress::getComplete)
+                .next()
+                .doOnSuccess(progress -> assertArrayEquals(getBytes("fixtures/client/v3/packages/GET_{id}_download_response.bin"), readAllBytes(path)));
+        }
+
+    }
+
     public static final class Get extends AbstractClientApiTest<GetPackageRequest, GetPackageResponse> {
 
         private final ReactorPackages packages = new ReactorPackages(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
@@ -23,7 +23,7 @@ import static org.junit.Assert.assertNotNull;
 
 public final class ReactorUaaClientTest extends AbstractRestTest {
 
-    private final ReactorUaaClient client = new ReactorUaaClient(AUTHORIZATION_PROVIDER, CLIENT_ID, CLIENT_SECRET, HTTP_CLIENT, OBJECT_MAPPER, this.root);
+    private final ReactorUaaClient client = new ReactorUaaClient(AUTHORIZATION_PROVIDER, HTTP_CLIENT, OBJECT_MAPPER, this.root);
 
     @Test
     public void accessTokenAdministration() {
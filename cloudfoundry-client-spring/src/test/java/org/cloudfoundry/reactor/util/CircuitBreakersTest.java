@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class CircuitBreakersTest {
+
+    private static final String ENDPOINT = "test-host /v2/apps/{id}";
+
+    private final List<CircuitBreakers.State> transitions = new ArrayList<>();
+
+    private final CircuitBreakers circuitBreakers = CircuitBreakers.builder()
+        .halfOpenProbes(1)
+        .metrics(new CircuitBreakerMetrics() {
+
+            @Override
+            public void register(CircuitBreakers circuitBreakers) {
+            }
+
+            @Override
+            public void stateChanged(String endpoint, CircuitBreakers.State state) {
+                CircuitBreakersTest.this.transitions.add(state);
+            }
+
+        })
+        .minimumCalls(2)
+        .openDuration(Duration.ofMillis(50))
+        .windowSize(4)
+        .build();
+
+    @Test
+    public void admissionFailureNotRecorded() throws InterruptedException {
+        call(Mono.error(new IOException()));
+        call(Mono.error(new IOException()));
+        Thread.sleep(100);
+
+        try {
+            this.circuitBreakers.protect(ENDPOINT, Mono.just("test-value"), exchange -> Mono.error(new IOException())).block();
+            fail();
+        } catch (RuntimeException e) {
+            // expected for failing admission
+        }
+
+        assertEquals(CircuitBreakers.State.HALF_OPEN, this.circuitBreakers.getStates().get(ENDPOINT));
+        assertEquals("test-value", this.circuitBreakers.protect(ENDPOINT, Mono.just("test-value")).block());
+        assertEquals(CircuitBreakers.State.CLOSED, this.circuitBreakers.getStates().get(ENDPOINT));
+    }
+
+    @Test
+    public void closesAfterSuccessfulProbe() throws InterruptedException {
+        call(Mono.error(new IOException()));
+        call(Mono.error(new IOException()));
+        Thread.sleep(100);
+
+        assertEquals("test-value", this.circuitBreakers.protect(ENDPOINT, Mono.just("test-value")).block());
+        assertEquals(CircuitBreakers.State.CLOSED, this.circuitBreakers.getStates().get(ENDPOINT));
+        assertEquals(Arrays.asList(CircuitBreakers.State.OPEN, CircuitBreakers.State.HALF_OPEN, CircuitBreakers.State.CLOSED), this.transitions);
+    }
+
+    @Test
+    public void decodingErrorsNotFailures() {
+        for (int i = 0; i < 4; i++) {
+            call(Mono.error(new JsonParseException("test-message", JsonLocation.NA)));
+        }
+
+        assertEquals(CircuitBreakers.State.CLOSED, this.circuitBreakers.getStates().get(ENDPOINT));
+    }
+
+    @Test
+    public void opens() {
+        call(Mono.just("test-value"));
+        call(Mono.error(new TimeoutException()));
+
+        assertEquals(CircuitBreakers.State.OPEN, this.circuitBreakers.getStates().get(ENDPOINT));
+
+        AtomicInteger subscriptions = new AtomicInteger();
+        try {
+            this.circuitBreakers.protect(ENDPOINT, Mono.just("test-value").doOnSubscribe(s -> subscriptions.incrementAndGet())).block();
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(ENDPOINT, e.getEndpoint());
+        }
+
+        assertEquals(0, subscriptions.get());
+    }
+
+    @Test
+    public void openSkipsAdmission() {
+        call(Mono.error(new IOException()));
+        call(Mono.error(new IOException()));
+
+        AtomicInteger admissions = new AtomicInteger();
+        try {
+            this.circuitBreakers.protect(ENDPOINT, Mono.just("test-value"), exchange -> exchange.doOnSubscribe(s -> admissions.incrementAndGet())).block();
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(ENDPOINT, e.getEndpoint());
+        }
+
+        assertEquals(0, admissions.get());
+    }
+
+    @Test
+    public void reopensAfterFailedProbe() throws InterruptedException {
+        call(Mono.error(new IOException()));
+        call(Mono.error(new IOException()));
+        Thread.sleep(100);
+        call(Mono.error(new IOException()));
+
+        assertEquals(CircuitBreakers.State.OPEN, this.circuitBreakers.getStates().get(ENDPOINT));
+        assertEquals(Arrays.asList(CircuitBreakers.State.OPEN, CircuitBreakers.State.HALF_OPEN, CircuitBreakers.State.OPEN), this.transitions);
+    }
+
+    private void call(Mono<String> exchange) {
+        try {
+            this.circuitBreakers.protect(ENDPOINT, exchange).block();
+        } catch (RuntimeException e) {
+            // expected for failing exchanges
+        }
+    }
+
+}
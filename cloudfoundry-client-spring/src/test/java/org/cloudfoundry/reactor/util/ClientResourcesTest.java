@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class ClientResourcesTest {
+
+    private final ClientResources clientResources = ClientResources.builder()
+        .ioThreads(1)
+        .build();
+
+    @After
+    public void close() {
+        this.clientResources.close();
+    }
+
+    @Test
+    public void closeShutsDownEventLoopGroup() {
+        assertFalse(this.clientResources.isClosed());
+
+        this.clientResources.close();
+
+        assertTrue(this.clientResources.isClosed());
+        assertTrue(this.clientResources.getEventLoopGroup().isShutdown());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedResourcesRejected() {
+        this.clientResources.close();
+        this.clientResources.getSslCertificateTruster(ProxyContext.builder().build());
+    }
+
+    @Test
+    public void sslCertificateTrusterPerProxy() {
+        SslCertificateTruster direct1 = this.clientResources.getSslCertificateTruster(ProxyContext.builder().build());
+        SslCertificateTruster direct2 = this.clientResources.getSslCertificateTruster(ProxyContext.builder().build());
+        SslCertificateTruster proxied = this.clientResources.getSslCertificateTruster(ProxyContext.builder().host("test-proxy-host").port(8080).build());
+
+        assertSame(direct1, direct2);
+        assertNotSame(direct1, proxied);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import org.junit.Test;
+import reactor.io.netty.http.HttpInbound;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class CompressionTest {
+
+    private static final byte[] CONTENT = "test-content-test-content-test-content".getBytes(StandardCharsets.UTF_8);
+
+    private final Compression compression = new Compression();
+
+    @Test
+    public void deflate() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(CONTENT);
+        }
+
+        InputStream in = this.compression.decompressAndCount(inbound("deflate"), new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), readFully(in));
+        assertEquals(out.size(), this.compression.getCompressedBytes());
+        assertEquals(CONTENT.length, this.compression.getUncompressedBytes());
+    }
+
+    @Test
+    public void gzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(CONTENT);
+        }
+
+        InputStream in = this.compression.decompressAndCount(inbound("gzip"), new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), readFully(in));
+        assertEquals(out.size(), this.compression.getCompressedBytes());
+        assertEquals(CONTENT.length, this.compression.getUncompressedBytes());
+    }
+
+    @Test
+    public void identity() throws IOException {
+        InputStream in = this.compression.decompressAndCount(inbound(null), new ByteArrayInputStream(CONTENT));
+
+        assertEquals(new String(CONTENT, StandardCharsets.UTF_8), readFully(in));
+        assertEquals(0, this.compression.getCompressedBytes());
+        assertEquals(0, this.compression.getUncompressedBytes());
+    }
+
+    private static HttpInbound inbound(String contentEncoding) {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders();
+        if (contentEncoding != null) {
+            headers.set("Content-Encoding", contentEncoding);
+        }
+
+        HttpInbound inbound = mock(HttpInbound.class);
+        when(inbound.responseHeaders()).thenReturn(headers);
+        return inbound;
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        byte[] buffer = new byte[8];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class ConcurrencyLimiterTest {
+
+    @Test
+    public void cancelBeforeExchangeSubscribed() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .maxLimit(1)
+            .build();
+
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        Mono<String> exchange = Mono.defer(() -> {
+            subscription.get().cancel();
+            return Mono.just("test-value-1");
+        });
+
+        concurrencyLimiter.limit(exchange)
+            .doOnSubscribe(subscription::set)
+            .subscribe();
+
+        assertEquals(0, concurrencyLimiter.getInFlight());
+        assertEquals("test-value-2", concurrencyLimiter.limit(Mono.just("test-value-2")).block());
+    }
+
+    @Test
+    public void decrease() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .backoffRatio(0.5)
+            .initialLimit(10)
+            .build();
+
+        concurrencyLimiter.limit(Mono.error(new TimeoutException()))
+            .otherwise(TimeoutException.class, t -> Mono.empty())
+            .block();
+
+        assertEquals(5, concurrencyLimiter.getLimit());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    public void decreaseOncePerEpoch() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .backoffRatio(0.5)
+            .initialLimit(10)
+            .build();
+
+        MonoProcessor<String> first = MonoProcessor.create();
+        MonoProcessor<String> second = MonoProcessor.create();
+
+        concurrencyLimiter.limit(first)
+            .otherwise(TimeoutException.class, t -> Mono.empty())
+            .subscribe();
+        concurrencyLimiter.limit(second)
+            .otherwise(TimeoutException.class, t -> Mono.empty())
+            .subscribe();
+
+        first.onError(new TimeoutException());
+        second.onError(new TimeoutException());
+
+        assertEquals(5, concurrencyLimiter.getLimit());
+    }
+
+    @Test
+    public void increase() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .build();
+
+        concurrencyLimiter.limit(Mono.just("test-value")).block();
+
+        assertEquals(2, concurrencyLimiter.getLimit());
+    }
+
+    @Test
+    public void maxLimit() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .maxLimit(1)
+            .build();
+
+        concurrencyLimiter.limit(Mono.just("test-value")).block();
+
+        assertEquals(1, concurrencyLimiter.getLimit());
+    }
+
+    @Test
+    public void unrelatedErrorKeepsLimit() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .build();
+
+        concurrencyLimiter.limit(Mono.error(new IllegalStateException()))
+            .otherwise(IllegalStateException.class, t -> Mono.empty())
+            .block();
+
+        assertEquals(1, concurrencyLimiter.getLimit());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    public void waitForRelease() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .maxLimit(1)
+            .build();
+
+        MonoProcessor<String> first = MonoProcessor.create();
+        AtomicReference<String> firstResult = new AtomicReference<>();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+
+        concurrencyLimiter.limit(first).subscribe(firstResult::set);
+        concurrencyLimiter.limit(Mono.just("test-value-2")).subscribe(secondResult::set);
+
+        assertEquals(1, concurrencyLimiter.getInFlight());
+        assertEquals(1, concurrencyLimiter.getPending());
+        assertNull(secondResult.get());
+
+        first.onNext("test-value-1");
+
+        assertEquals("test-value-1", firstResult.get());
+        assertEquals("test-value-2", secondResult.get());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+        assertEquals(0, concurrencyLimiter.getPending());
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.io.netty.http.HttpInbound;
+import reactor.io.netty.http.HttpOutbound;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ConditionalRequestCacheTest {
+
+    private final ConditionalRequestCache conditionalRequestCache = ConditionalRequestCache.builder()
+        .build();
+
+    private final RequestKey key = new RequestKey("test-principal", "test-uri", String.class);
+
+    @Test
+    public void changedBody() {
+        ConditionalRequestCache.ConditionalRequest<String> first = this.conditionalRequestCache.begin(this.key);
+        first.decodeUnlessUnchanged(body("test-body-1"), in -> "test-value-1", Optional.empty()).block();
+
+        ConditionalRequestCache.ConditionalRequest<String> second = this.conditionalRequestCache.begin(this.key);
+        assertEquals("test-value-2", second.decodeUnlessUnchanged(body("test-body-2"), in -> "test-value-2", Optional.empty()).block());
+
+        assertEquals(0, this.conditionalRequestCache.getUnchangedBodies());
+    }
+
+    @Test
+    public void modified() {
+        ConditionalRequestCache.ConditionalRequest<String> first = this.conditionalRequestCache.begin(this.key);
+        first.decode(inbound(HttpResponseStatus.OK, "test-etag-1"), i -> Mono.just("test-value-1"), in -> "test-aggregated", Optional.empty()).block();
+
+        ConditionalRequestCache.ConditionalRequest<String> second = this.conditionalRequestCache.begin(this.key);
+        assertEquals("test-value-2", second.decode(inbound(HttpResponseStatus.OK, "test-etag-2"), i -> Mono.just("test-value-2"), in -> "test-aggregated", Optional.empty()).block());
+
+        HttpHeaders requestHeaders = new DefaultHttpHeaders();
+        this.conditionalRequestCache.<String>begin(this.key).addValidators(outbound(requestHeaders));
+
+        assertEquals("test-etag-2", requestHeaders.get("If-None-Match"));
+        assertEquals(0, this.conditionalRequestCache.getNotModifiedResponses());
+    }
+
+    @Test
+    public void noValidators() {
+        HttpHeaders requestHeaders = new DefaultHttpHeaders();
+
+        this.conditionalRequestCache.<String>begin(this.key).addValidators(outbound(requestHeaders));
+
+        assertNull(requestHeaders.get("If-None-Match"));
+        assertNull(requestHeaders.get("If-Modified-Since"));
+    }
+
+    @Test
+    public void notModified() {
+        ConditionalRequestCache.ConditionalRequest<String> first = this.conditionalRequestCache.begin(this.key);
+        assertEquals("test-value", first.decode(inbound(HttpResponseStatus.OK, "test-etag"), i -> Mono.just("test-value"), in -> "test-aggregated", Optional.empty()).block());
+
+        HttpHeaders requestHeaders = new DefaultHttpHeaders();
+        ConditionalRequestCache.ConditionalRequest<String> second = this.conditionalRequestCache.begin(this.key);
+        second.addValidators(outbound(requestHeaders));
+
+        assertEquals("test-etag", requestHeaders.get("If-None-Match"));
+        assertEquals("test-value", second.decode(inbound(HttpResponseStatus.NOT_MODIFIED, null), i -> Mono.just("test-decoded"), in -> "test-aggregated", Optional.empty()).block());
+        assertEquals(1, this.conditionalRequestCache.getNotModifiedResponses());
+    }
+
+    @Test
+    public void unchangedBody() {
+        ConditionalRequestCache.ConditionalRequest<String> first = this.conditionalRequestCache.begin(this.key);
+        assertEquals("test-value-1", first.decodeUnlessUnchanged(body("test-body"), in -> "test-value-1", Optional.empty()).block());
+
+        ConditionalRequestCache.ConditionalRequest<String> second = this.conditionalRequestCache.begin(this.key);
+        assertEquals("test-value-1", second.decodeUnlessUnchanged(body("test-body"), in -> "test-value-2", Optional.empty()).block());
+
+        assertEquals(1, this.conditionalRequestCache.getUnchangedBodies());
+    }
+
+    private static byte[] body(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static HttpInbound inbound(HttpResponseStatus status, String etag) {
+        HttpHeaders responseHeaders = new DefaultHttpHeaders();
+        if (etag != null) {
+            responseHeaders.set("ETag", etag);
+        }
+
+        HttpInbound inbound = mock(HttpInbound.class);
+        when(inbound.status()).thenReturn(status);
+        when(inbound.responseHeaders()).thenReturn(responseHeaders);
+        return inbound;
+    }
+
+    private static HttpOutbound outbound(HttpHeaders headers) {
+        HttpOutbound outbound = mock(HttpOutbound.class);
+        when(outbound.headers()).thenReturn(headers);
+        return outbound;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class EndpointRegistryTest {
+
+    @Test
+    public void errorEvicted() {
+        EndpointRegistry endpointRegistry = EndpointRegistry.builder().build();
+        AtomicInteger lookups = new AtomicInteger();
+
+        try {
+            endpointRegistry.getEndpoint("test-root", "test-network", "test-key", () -> Mono.<String>error(new IllegalStateException()).doOnSubscribe(s -> lookups.incrementAndGet())).block();
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertEquals("test-endpoint", endpointRegistry.getEndpoint("test-root", "test-network", "test-key", () -> Mono.just("test-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block());
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void invalidate() {
+        EndpointRegistry endpointRegistry = EndpointRegistry.builder().build();
+        AtomicInteger lookups = new AtomicInteger();
+
+        endpointRegistry.getEndpoint("test-root-1", "test-network", "test-key", () -> Mono.just("test-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block();
+        endpointRegistry.getEndpoint("test-root-2", "test-network", "test-key", () -> Mono.just("test-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block();
+        endpointRegistry.invalidate("test-root-1");
+        endpointRegistry.getEndpoint("test-root-1", "test-network", "test-key", () -> Mono.just("test-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block();
+        endpointRegistry.getEndpoint("test-root-2", "test-network", "test-key", () -> Mono.just("test-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block();
+
+        assertEquals(3, lookups.get());
+    }
+
+    @Test
+    public void memoize() {
+        EndpointRegistry endpointRegistry = EndpointRegistry.builder().build();
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertEquals("test-endpoint", endpointRegistry.getEndpoint("test-root", "test-network", "test-key", () -> Mono.just("test-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block());
+        assertEquals("test-endpoint", endpointRegistry.getEndpoint("test-root", "test-network", "test-key", () -> Mono.just("test-other-endpoint").doOnSubscribe(s -> lookups.incrementAndGet())).block());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void networkSeparated() {
+        EndpointRegistry endpointRegistry = EndpointRegistry.builder().build();
+
+        assertEquals("test-endpoint-1", endpointRegistry.getEndpoint("test-root", "test-network-1", "test-key", () -> Mono.just("test-endpoint-1")).block());
+        assertEquals("test-endpoint-2", endpointRegistry.getEndpoint("test-root", "test-network-2", "test-key", () -> Mono.just("test-endpoint-2")).block());
+        assertEquals("test-endpoint-1", endpointRegistry.getEndpoint("test-root", "test-network-1", "test-key", () -> Mono.just("test-endpoint-3")).block());
+    }
+
+    @Test
+    public void refresh() throws InterruptedException {
+        EndpointRegistry endpointRegistry = EndpointRegistry.builder()
+            .refreshInterval(Duration.ofMillis(10))
+            .build();
+
+        assertEquals("test-endpoint-1", endpointRegistry.getEndpoint("test-root", "test-network", "test-key", () -> Mono.just("test-endpoint-1")).block());
+        Thread.sleep(20);
+        assertEquals("test-endpoint-2", endpointRegistry.getEndpoint("test-root", "test-network", "test-key", () -> Mono.just("test-endpoint-2")).block());
+    }
+
+}
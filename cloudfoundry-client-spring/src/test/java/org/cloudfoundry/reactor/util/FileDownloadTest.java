@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.io.netty.http.HttpInbound;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public final class FileDownloadTest {
+
+    @Test
+    public void error() throws IOException {
+        Path directory = Files.createTempDirectory("file-download");
+        directory.toFile().deleteOnExit();
+
+        Path path = Files.write(directory.resolve("test-file"), "test-content".getBytes(StandardCharsets.UTF_8));
+        path.toFile().deleteOnExit();
+
+        FileDownload.write(Mono.<HttpInbound>error(new IllegalStateException("test-error")), path)
+            .collectList()
+            .otherwise(IllegalStateException.class, t -> Mono.empty())
+            .block();
+
+        assertEquals("test-content", new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+}
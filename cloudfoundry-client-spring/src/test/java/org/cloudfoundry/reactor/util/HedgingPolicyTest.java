@@ -0,0 +1,174 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class HedgingPolicyTest {
+
+    @Test
+    public void bothFail() {
+        HedgingPolicy hedgingPolicy = warmHedgingPolicy();
+
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> exchange = Mono.defer(() -> {
+            int subscription = subscriptions.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(50)).then(i -> Mono.<String>error(new IllegalStateException(String.format("test-failure-%d", subscription))));
+        });
+
+        try {
+            hedgingPolicy.hedge("test-template", exchange).block();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("test-failure-1", e.getMessage());
+        }
+
+        assertEquals(2, subscriptions.get());
+    }
+
+    @Test
+    public void budgetExhausted() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+            .budgetRatio(0.0)
+            .budgetReserve(0)
+            .maxDelay(Duration.ofMillis(10))
+            .minSamples(1)
+            .build();
+        hedgingPolicy.hedge("test-template", Mono.just("test-warmup")).block();
+
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        assertEquals("test-primary", hedgingPolicy.hedge("test-template", slow(subscriptions)).block());
+        assertEquals(1, subscriptions.get());
+        assertEquals(0, hedgingPolicy.getHedges());
+    }
+
+    @Test
+    public void hedge() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+            .maxDelay(Duration.ofMillis(10))
+            .minSamples(1)
+            .build();
+        hedgingPolicy.hedge("test-template", Mono.just("test-warmup")).block();
+
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        assertEquals("test-hedge", hedgingPolicy.hedge("test-template", slow(subscriptions)).block());
+        assertEquals(2, subscriptions.get());
+        assertEquals(1, hedgingPolicy.getHedges());
+    }
+
+    @Test
+    public void latenciesWindowed() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+            .maxDelay(Duration.ofSeconds(10))
+            .minDelay(Duration.ofNanos(1))
+            .minSamples(2)
+            .windowSize(2)
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            hedgingPolicy.hedge("test-template", Mono.delay(Duration.ofMillis(100)).map(l -> "test-slow")).block();
+        }
+        assertTrue(hedgingPolicy.getDelay("test-template").get().compareTo(Duration.ofMillis(100)) >= 0);
+
+        for (int i = 0; i < 2; i++) {
+            hedgingPolicy.hedge("test-template", Mono.just("test-fast")).block();
+        }
+        assertTrue(hedgingPolicy.getDelay("test-template").get().compareTo(Duration.ofMillis(100)) < 0);
+    }
+
+    @Test
+    public void noSamples() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+            .maxDelay(Duration.ofMillis(10))
+            .build();
+
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        assertFalse(hedgingPolicy.getDelay("test-template").isPresent());
+        assertEquals("test-primary", hedgingPolicy.hedge("test-template", slow(subscriptions)).block());
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    public void primaryFailsBeforeHedge() {
+        HedgingPolicy hedgingPolicy = warmHedgingPolicy();
+
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> exchange = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.error(new IllegalStateException("test-failure"));
+        });
+
+        try {
+            hedgingPolicy.hedge("test-template", exchange).block();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("test-failure", e.getMessage());
+        }
+
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    public void primaryFailsHedgeSucceeds() {
+        HedgingPolicy hedgingPolicy = warmHedgingPolicy();
+
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> exchange = Mono.defer(() -> {
+            if (subscriptions.incrementAndGet() == 1) {
+                return Mono.delay(Duration.ofMillis(50)).then(i -> Mono.<String>error(new IllegalStateException("test-failure")));
+            } else {
+                return Mono.delay(Duration.ofMillis(100)).map(i -> "test-hedge");
+            }
+        });
+
+        assertEquals("test-hedge", hedgingPolicy.hedge("test-template", exchange).block());
+        assertEquals(2, subscriptions.get());
+    }
+
+    private static Mono<String> slow(AtomicInteger subscriptions) {
+        return Mono.defer(() -> {
+            if (subscriptions.incrementAndGet() == 1) {
+                return Mono.delay(Duration.ofMillis(200)).map(i -> "test-primary");
+            } else {
+                return Mono.just("test-hedge");
+            }
+        });
+    }
+
+    private static HedgingPolicy warmHedgingPolicy() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+            .maxDelay(Duration.ofMillis(10))
+            .minSamples(1)
+            .build();
+        hedgingPolicy.hedge("test-template", Mono.just("test-warmup")).block();
+
+        return hedgingPolicy;
+    }
+
+}
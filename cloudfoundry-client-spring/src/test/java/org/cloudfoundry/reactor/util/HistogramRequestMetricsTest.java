@@ -0,0 +1,59 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+
+public final class HistogramRequestMetricsTest {
+
+    private final HistogramRequestMetrics requestMetrics = new HistogramRequestMetrics();
+
+    @Test
+    public void record() {
+        this.requestMetrics.record(sample("/v2/apps/{id}", 200, 1));
+        this.requestMetrics.record(sample("/v2/apps/{id}", 404, 0));
+        this.requestMetrics.record(sample("/v2/spaces", 200, 0));
+
+        assertEquals(2, this.requestMetrics.getEndpoints().size());
+
+        HistogramRequestMetrics.Endpoint endpoint = this.requestMetrics.getEndpoints().get("GET /v2/apps/{id}");
+        assertEquals(2, endpoint.getLatency().getCount());
+        assertEquals(1, endpoint.getErrors());
+        assertEquals(1, endpoint.getRetries());
+        assertEquals(200, endpoint.getBytesIn());
+        assertEquals(0, endpoint.getBytesOut());
+    }
+
+    private static RequestSample sample(String template, int status, int retries) {
+        return RequestSample.builder()
+            .bytesIn(100)
+            .bytesOut(-1)
+            .decodeTime(Duration.ofMillis(1))
+            .duration(Duration.ofMillis(10))
+            .method("GET")
+            .retries(retries)
+            .status(status)
+            .template(template)
+            .timeToFirstByte(Duration.ofMillis(5))
+            .build();
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void empty() {
+        assertEquals(0, this.histogram.getCount());
+        assertEquals(Duration.ZERO, this.histogram.getMean());
+        assertEquals(Duration.ZERO, this.histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void percentiles() {
+        for (int i = 1; i <= 100; i++) {
+            this.histogram.record(Duration.ofMillis(i));
+        }
+
+        assertEquals(100, this.histogram.getCount());
+        assertEquals(Duration.ofMillis(100), this.histogram.getMax());
+        assertWithinPrecision(Duration.ofMillis(50), this.histogram.getValueAtPercentile(50));
+        assertWithinPrecision(Duration.ofMillis(99), this.histogram.getValueAtPercentile(99));
+        assertEquals(Duration.ofMillis(100), this.histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void smallValues() {
+        this.histogram.record(Duration.ofNanos(3));
+        this.histogram.record(Duration.ofNanos(5));
+
+        assertEquals(Duration.ofNanos(3), this.histogram.getValueAtPercentile(50));
+        assertEquals(Duration.ofNanos(5), this.histogram.getValueAtPercentile(100));
+        assertEquals(Duration.ofNanos(4), this.histogram.getMean());
+    }
+
+    private static void assertWithinPrecision(Duration expected, Duration actual) {
+        long difference = Math.abs(expected.toNanos() - actual.toNanos());
+        assertTrue(String.format("%s is not within precision of %s", actual, expected), difference <= expected.toNanos() / 64);
+    }
+
+}
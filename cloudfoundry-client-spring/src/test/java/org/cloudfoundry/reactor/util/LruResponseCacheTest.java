@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public final class LruResponseCacheTest {
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    private final LruResponseCache responseCache = LruResponseCache.builder()
+        .maximumSize(2)
+        .ttl("/v2/stacks", Duration.ofMinutes(1))
+        .ttl("/v2/info", Duration.ZERO)
+        .build();
+
+    @Test
+    public void expire() {
+        get("/v2/info", "test-key");
+        get("/v2/info", "test-key");
+
+        assertEquals(2, this.exchanges.get());
+    }
+
+    @Test
+    public void evict() {
+        get("/v2/stacks/{id}", "test-key-1");
+        get("/v2/stacks/{id}", "test-key-2");
+        get("/v2/stacks/{id}", "test-key-1");
+        get("/v2/stacks/{id}", "test-key-3");
+
+        assertEquals(1, this.responseCache.getEvictions());
+        assertEquals(2, this.responseCache.getSize());
+
+        get("/v2/stacks/{id}", "test-key-1");
+        get("/v2/stacks/{id}", "test-key-2");
+
+        assertEquals(4, this.exchanges.get());
+    }
+
+    @Test
+    public void hit() {
+        assertEquals("test-value-1", get("/v2/stacks/{id}", "test-key"));
+        assertEquals("test-value-1", get("/v2/stacks/{id}", "test-key"));
+
+        assertEquals(1, this.responseCache.getHits());
+        assertEquals(1, this.responseCache.getMisses());
+    }
+
+    @Test
+    public void invalidate() {
+        get("/v2/stacks", "test-key-1");
+        get("/v2/stacks/{id}", "test-key-2");
+
+        this.responseCache.invalidate("/v2/stacks/{id}");
+
+        assertEquals(0, this.responseCache.getSize());
+    }
+
+    @Test
+    public void uncacheable() {
+        get("/v2/stacks_other", "test-key");
+        get("/v2/stacks_other", "test-key");
+
+        assertEquals(2, this.exchanges.get());
+        assertEquals(0, this.responseCache.getMisses());
+    }
+
+    private String get(String template, String key) {
+        return this.responseCache.get(template, key, Mono.defer(() -> Mono.just(String.format("test-value-%d", this.exchanges.incrementAndGet())))).block();
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.io.netty.http.HttpOutbound;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MultipartHttpOutboundTest {
+
+    private final AtomicReference<byte[]> body = new AtomicReference<>();
+
+    private final HttpHeaders headers = new DefaultHttpHeaders();
+
+    private final HttpOutbound outbound = mock(HttpOutbound.class, RETURNS_DEEP_STUBS);
+
+    @Test
+    public void chunked() {
+        byte[] content = content(3 * 64 * 1024 + 1);
+
+        new MultipartHttpOutbound(new ObjectMapper(), this.outbound)
+            .addPart(part -> part.setContentDispositionFormData("test-part").sendInputStream(new ByteArrayInputStream(content)))
+            .done()
+            .block();
+
+        assertNull(this.headers.get("Content-Length"));
+        assertTrue(containsPart(this.body.get(), content));
+        verify(this.outbound, never()).removeTransferEncodingChunked();
+    }
+
+    @Test
+    public void chunkedUnderReportedAvailable() {
+        byte[] content = content(128 * 1024);
+
+        new MultipartHttpOutbound(new ObjectMapper(), this.outbound)
+            .addPart(part -> part.setContentDispositionFormData("test-part").sendInputStream(new ByteArrayInputStream(content) {
+
+                @Override
+                public synchronized int available() {
+                    return Math.min(1, super.available());
+                }
+
+            }))
+            .done()
+            .block();
+
+        assertTrue(containsPart(this.body.get(), content));
+    }
+
+    @Test
+    public void closeWithoutSubscription() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(this.outbound.send(any())).thenReturn(Mono.<Void>error(new IllegalStateException("test-error")));
+
+        new MultipartHttpOutbound(new ObjectMapper(), this.outbound)
+            .addPart(part -> part.setContentDispositionFormData("test-part").sendInputStream(new ByteArrayInputStream(content(16)) {
+
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+
+            }))
+            .done()
+            .otherwise(IllegalStateException.class, t -> Mono.empty())
+            .block();
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void contentLength() throws IOException {
+        byte[] content = content(3 * 64 * 1024 + 1);
+        Path file = Files.write(Files.createTempFile("multipart", ".bin"), content);
+
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            new MultipartHttpOutbound(new ObjectMapper(), this.outbound)
+                .addPart(part -> part.setContentDispositionFormData("test-json").send(Collections.singletonMap("test-key", "test-value")))
+                .addPart(part -> part.setContentDispositionFormData("test-file").sendInputStream(in))
+                .done()
+                .block();
+        } finally {
+            Files.delete(file);
+        }
+
+        assertEquals(String.valueOf(this.body.get().length), this.headers.get("Content-Length"));
+        assertTrue(containsPart(this.body.get(), content));
+        verify(this.outbound).removeTransferEncodingChunked();
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(this.outbound.delegate().alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(this.outbound.removeTransferEncodingChunked()).thenReturn(this.outbound);
+        when(this.outbound.addHeader(any(CharSequence.class), any(CharSequence.class))).thenAnswer(invocation -> {
+            this.headers.add((CharSequence) invocation.getArguments()[0], invocation.getArguments()[1]);
+            return this.outbound;
+        });
+        when(this.outbound.send(any())).thenAnswer(invocation -> Flux.from((Publisher<ByteBuf>) invocation.getArguments()[0])
+            .collectList()
+            .doOnSuccess(chunks -> this.body.set(toByteArray(chunks)))
+            .then());
+    }
+
+    private static byte[] content(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private static boolean containsPart(byte[] body, byte[] content) {
+        return new String(body, StandardCharsets.ISO_8859_1).contains(new String(content, StandardCharsets.ISO_8859_1) + "\r\n--");
+    }
+
+    private static byte[] toByteArray(List<ByteBuf> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        for (ByteBuf chunk : chunks) {
+            byte[] bytes = new byte[chunk.readableBytes()];
+            chunk.readBytes(bytes);
+            chunk.release();
+            out.write(bytes, 0, bytes.length);
+        }
+
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v2.applications.SummaryApplicationRequest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class PaginationPolicyTest {
+
+    private final UriBuilder.Template root = UriBuilder.Template.parse("https://api.run.pivotal.io:443/");
+
+    @Test
+    public void defaultResultsPerPage() {
+        assertEquals(PaginationPolicy.MAXIMUM_RESULTS_PER_PAGE, PaginationPolicy.builder().build().getResultsPerPage());
+    }
+
+    @Test
+    public void explicitResultsPerPage() {
+        UriBuilder builder = this.root.newBuilder().pathSegment("v2", "apps").queryParam("results-per-page", 10);
+
+        PaginationPolicy.builder().build()
+            .augment(builder, ListApplicationsRequest.builder()
+                .page(1)
+                .resultsPerPage(10)
+                .build());
+
+        assertEquals("https://api.run.pivotal.io:443/v2/apps?results-per-page=10", builder.build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidResultsPerPage() {
+        PaginationPolicy.builder()
+            .resultsPerPage(101)
+            .build();
+    }
+
+    @Test
+    public void notPaginated() {
+        UriBuilder builder = this.root.newBuilder().pathSegment("v2", "apps", "test-application-id", "summary");
+
+        PaginationPolicy.builder().build()
+            .augment(builder, SummaryApplicationRequest.builder()
+                .applicationId("test-application-id")
+                .build());
+
+        assertEquals("https://api.run.pivotal.io:443/v2/apps/test-application-id/summary", builder.build());
+    }
+
+    @Test
+    public void resultsPerPage() {
+        UriBuilder builder = this.root.newBuilder().pathSegment("v2", "apps").queryParam("page", 1);
+
+        PaginationPolicy.builder()
+            .resultsPerPage(75)
+            .build()
+            .augment(builder, ListApplicationsRequest.builder()
+                .page(1)
+                .build());
+
+        assertEquals("https://api.run.pivotal.io:443/v2/apps?page=1&results-per-page=75", builder.build());
+    }
+
+}
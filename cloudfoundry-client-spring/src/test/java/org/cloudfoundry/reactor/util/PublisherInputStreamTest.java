@@ -0,0 +1,110 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PublisherInputStreamTest {
+
+    private final PublisherInputStream inputStream = new PublisherInputStream(1);
+
+    @Test
+    public void closeWhileReading() throws IOException {
+        ByteBuf byteBuf = buffer("test-content");
+
+        Flux.just(byteBuf).subscribe(this.inputStream);
+        assertEquals('t', this.inputStream.read());
+
+        this.inputStream.close();
+        this.inputStream.close();
+        assertEquals(1, byteBuf.refCnt());
+    }
+
+    @Test
+    public void empty() {
+        Flux.<ByteBuf>empty().subscribe(this.inputStream);
+
+        assertTrue(this.inputStream.isEmpty());
+    }
+
+    @Test
+    public void emptyChunk() throws IOException {
+        Flux.just(buffer("test-"), Unpooled.EMPTY_BUFFER, buffer("content")).subscribe(this.inputStream);
+
+        assertEquals("test-content", readFully(this.inputStream));
+    }
+
+    @Test(expected = IOException.class)
+    public void error() throws IOException {
+        Flux.<ByteBuf>error(new IllegalStateException()).subscribe(this.inputStream);
+
+        this.inputStream.read();
+    }
+
+    @Test
+    public void nextAfterClose() {
+        ByteBuf byteBuf = buffer("test-content");
+
+        this.inputStream.close();
+        this.inputStream.onNext(byteBuf);
+
+        assertEquals(1, byteBuf.refCnt());
+    }
+
+    @Test
+    public void read() throws IOException {
+        ByteBuf first = buffer("test-");
+        ByteBuf second = buffer("content");
+
+        Flux.just(first, second).subscribe(this.inputStream);
+
+        assertFalse(this.inputStream.isEmpty());
+        assertEquals("test-content", readFully(this.inputStream));
+
+        this.inputStream.close();
+        assertEquals(1, first.refCnt());
+        assertEquals(1, second.refCnt());
+    }
+
+    private static ByteBuf buffer(String s) {
+        return Unpooled.copiedBuffer(s, StandardCharsets.UTF_8);
+    }
+
+    private static String readFully(PublisherInputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        byte[] buffer = new byte[4];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+
+public final class RequestCoalescerTest {
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Test
+    public void cancelledWhenAllSubscribersCancel() {
+        AtomicInteger cancellations = new AtomicInteger();
+        Mono<String> exchange = MonoProcessor.<String>create().doOnCancel(cancellations::incrementAndGet);
+
+        AtomicReference<Subscription> first = new AtomicReference<>();
+        AtomicReference<Subscription> second = new AtomicReference<>();
+
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).doOnSubscribe(first::set).subscribe();
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).doOnSubscribe(second::set).subscribe();
+
+        first.get().cancel();
+        assertEquals(0, cancellations.get());
+        assertEquals(1, this.requestCoalescer.getInFlightExchanges());
+
+        second.get().cancel();
+        assertEquals(1, cancellations.get());
+        assertEquals(0, this.requestCoalescer.getInFlightExchanges());
+    }
+
+    @Test
+    public void coalesce() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        MonoProcessor<String> response = MonoProcessor.create();
+        Mono<String> exchange = response.doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).subscribe(first::set);
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).subscribe(second::set);
+
+        assertEquals(1, this.requestCoalescer.getInFlightExchanges());
+
+        response.onNext("test-value");
+
+        assertEquals("test-value", first.get());
+        assertEquals("test-value", second.get());
+        assertEquals(1, subscriptions.get());
+        assertEquals(1, this.requestCoalescer.getCoalescedRequests());
+        assertEquals(0, this.requestCoalescer.getInFlightExchanges());
+    }
+
+    @Test
+    public void differentPrincipals() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> exchange = MonoProcessor.<String>create().doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        this.requestCoalescer.coalesce(new RequestKey("test-principal-1", "test-uri", String.class), exchange).subscribe();
+        this.requestCoalescer.coalesce(new RequestKey("test-principal-2", "test-uri", String.class), exchange).subscribe();
+
+        assertEquals(2, subscriptions.get());
+        assertEquals(0, this.requestCoalescer.getCoalescedRequests());
+    }
+
+    @Test
+    public void notAfterCancellation() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> exchange = MonoProcessor.<String>create().doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        AtomicReference<Subscription> first = new AtomicReference<>();
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).doOnSubscribe(first::set).subscribe();
+        first.get().cancel();
+
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).subscribe();
+
+        assertEquals(2, subscriptions.get());
+        assertEquals(0, this.requestCoalescer.getCoalescedRequests());
+    }
+
+    @Test
+    public void notAfterCompletion() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> exchange = Mono.just("test-value").doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).block();
+        this.requestCoalescer.coalesce(new RequestKey("test-principal", "test-uri", String.class), exchange).block();
+
+        assertEquals(2, subscriptions.get());
+        assertEquals(0, this.requestCoalescer.getCoalescedRequests());
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class RequestGateTest {
+
+    @Test
+    public void admissionTimeout() {
+        RequestGate requestGate = RequestGate.builder()
+            .admissionTimeout(Duration.ofMillis(10))
+            .maxRequests(1)
+            .build();
+
+        requestGate.admit(MonoProcessor.<String>create()).subscribe();
+
+        String result = requestGate.admit(Mono.just("test-value"))
+            .otherwise(TimeoutException.class, t -> Mono.just("test-timeout"))
+            .block();
+
+        assertEquals("test-timeout", result);
+        assertEquals(0, requestGate.getPendingRequests());
+    }
+
+    @Test
+    public void admit() {
+        RequestGate requestGate = RequestGate.builder()
+            .maxRequests(1)
+            .build();
+
+        assertEquals("test-value", requestGate.admit(Mono.just("test-value")).block());
+        assertEquals(0, requestGate.getActiveRequests());
+    }
+
+    @Test
+    public void concurrencyLimiter() {
+        ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .build();
+
+        RequestGate requestGate = RequestGate.builder()
+            .concurrencyLimiter(concurrencyLimiter)
+            .build();
+
+        requestGate.admit(MonoProcessor.<String>create()).subscribe();
+        requestGate.admit(Mono.just("test-value")).subscribe();
+
+        assertEquals(1, requestGate.getMaxRequests());
+        assertEquals(1, concurrencyLimiter.getInFlight());
+        assertEquals(1, concurrencyLimiter.getPending());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void concurrencyLimiterAndMaxRequests() {
+        RequestGate.builder()
+            .concurrencyLimiter(ConcurrencyLimiter.builder().build())
+            .maxRequests(1)
+            .build();
+    }
+
+    @Test
+    public void maxPendingRequests() {
+        RequestGate requestGate = RequestGate.builder()
+            .maxRequests(1)
+            .maxPendingRequests(0)
+            .build();
+
+        requestGate.admit(MonoProcessor.<String>create()).subscribe();
+
+        String result = requestGate.admit(Mono.just("test-value"))
+            .otherwise(IllegalStateException.class, t -> Mono.just("test-rejected"))
+            .block();
+
+        assertEquals("test-rejected", result);
+    }
+
+    @Test
+    public void metrics() {
+        RequestGateMetrics metrics = mock(RequestGateMetrics.class);
+
+        RequestGate requestGate = RequestGate.builder()
+            .metrics(metrics)
+            .build();
+
+        verify(metrics).register(requestGate);
+    }
+
+    @Test
+    public void waitForRelease() {
+        RequestGate requestGate = RequestGate.builder()
+            .maxRequests(1)
+            .build();
+
+        MonoProcessor<String> first = MonoProcessor.create();
+        AtomicReference<String> firstResult = new AtomicReference<>();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+
+        requestGate.admit(first).subscribe(firstResult::set);
+        requestGate.admit(Mono.just("test-value-2")).subscribe(secondResult::set);
+
+        assertEquals(1, requestGate.getActiveRequests());
+        assertEquals(1, requestGate.getPendingRequests());
+        assertNull(secondResult.get());
+
+        first.onNext("test-value-1");
+
+        assertEquals("test-value-1", firstResult.get());
+        assertEquals("test-value-2", secondResult.get());
+        assertEquals(0, requestGate.getActiveRequests());
+        assertEquals(0, requestGate.getPendingRequests());
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.Test;
+import reactor.io.netty.http.HttpInbound;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RequestRecorderTest {
+
+    private final AtomicReference<RequestSample> sample = new AtomicReference<>();
+
+    private final RequestRecorder recorder = new RequestRecorder("GET", Optional.of(this.sample::set), "/v2/apps/{id}");
+
+    @Test
+    public void concurrentAttempts() throws InterruptedException {
+        RequestRecorder.Attempt primary = this.recorder.attempt();
+        Thread.sleep(50);
+        RequestRecorder.Attempt hedge = this.recorder.attempt();
+
+        hedge.response(inbound(HttpResponseStatus.OK));
+        hedge.settle();
+        primary.error(new IllegalStateException());
+        this.recorder.complete();
+
+        assertEquals(200, this.sample.get().getStatus());
+        assertTrue(this.sample.get().getDuration().minus(this.sample.get().getTimeToFirstByte()).compareTo(Duration.ofMillis(50)) >= 0);
+    }
+
+    @Test
+    public void noAttempt() {
+        this.recorder.complete();
+
+        assertEquals(-1, this.sample.get().getStatus());
+        assertEquals("/v2/apps/{id}", this.sample.get().getTemplate());
+    }
+
+    @Test
+    public void settledAttempt() {
+        RequestRecorder.Attempt first = this.recorder.attempt();
+        first.response(inbound(HttpResponseStatus.SERVICE_UNAVAILABLE));
+        first.settle();
+        this.recorder.retry();
+
+        RequestRecorder.Attempt second = this.recorder.attempt();
+        second.response(inbound(HttpResponseStatus.OK));
+        second.settle();
+        this.recorder.complete();
+
+        assertEquals(200, this.sample.get().getStatus());
+        assertEquals(1, this.sample.get().getRetries());
+    }
+
+    private static HttpInbound inbound(HttpResponseStatus status) {
+        HttpInbound inbound = mock(HttpInbound.class);
+        when(inbound.status()).thenReturn(status);
+        when(inbound.responseHeaders()).thenReturn(new DefaultHttpHeaders());
+        return inbound;
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RetryPolicyTest {
+
+    private final RetryPolicy retryPolicy = RetryPolicy.builder()
+        .budgetReserve(2)
+        .maxBackoff(Duration.ofMillis(2))
+        .maxRetries(3)
+        .minBackoff(Duration.ofMillis(1))
+        .override("DELETE /v2/apps/{id}", 0)
+        .build();
+
+    @Test
+    public void budget() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = failing(attempts, 10, new IOException("test-reset"))
+            .retryWhen(this.retryPolicy.retries("GET", recorder("GET")))
+            .otherwise(IOException.class, t -> Mono.just(t.getMessage()))
+            .block();
+
+        assertEquals("test-reset", result);
+        assertEquals(3, attempts.get());
+        assertEquals(0, this.retryPolicy.getAvailableRetries());
+    }
+
+    @Test
+    public void idempotent() {
+        assertTrue(this.retryPolicy.isRetryable("GET"));
+        assertTrue(this.retryPolicy.isRetryable("PUT"));
+        assertTrue(this.retryPolicy.isRetryable("DELETE"));
+        assertFalse(this.retryPolicy.isRetryable("POST"));
+        assertFalse(this.retryPolicy.isRetryable("PATCH"));
+    }
+
+    @Test
+    public void nonTransient() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        failing(attempts, 1, new IllegalArgumentException("test-message"))
+            .retryWhen(this.retryPolicy.retries("GET", recorder("GET")))
+            .otherwise(IllegalArgumentException.class, t -> Mono.empty())
+            .block();
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void override() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        failing(attempts, 1, new IOException("test-reset"))
+            .retryWhen(this.retryPolicy.retries("DELETE", recorder("DELETE")))
+            .otherwise(IOException.class, t -> Mono.empty())
+            .block();
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void retry() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = failing(attempts, 2, new IOException("test-reset"))
+            .retryWhen(this.retryPolicy.retries("GET", recorder("GET")))
+            .block();
+
+        assertEquals("test-value", result);
+        assertEquals(3, attempts.get());
+    }
+
+    private static Mono<String> failing(AtomicInteger attempts, int failures, Throwable error) {
+        return Mono.defer(() -> {
+            if (attempts.incrementAndGet() <= failures) {
+                return Mono.error(error);
+            }
+
+            return Mono.just("test-value");
+        });
+    }
+
+    private static RequestRecorder recorder(String method) {
+        return new RequestRecorder(method, Optional.empty(), "/v2/apps/{id}");
+    }
+
+}
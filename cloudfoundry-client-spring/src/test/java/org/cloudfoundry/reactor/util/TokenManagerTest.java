@@ -0,0 +1,148 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.reactor.uaa.tokens.ReactorTokens;
+import org.cloudfoundry.uaa.tokens.GetTokenByPasswordRequest;
+import org.cloudfoundry.uaa.tokens.GetTokenByPasswordResponse;
+import org.cloudfoundry.uaa.tokens.RefreshTokenRequest;
+import org.cloudfoundry.uaa.tokens.RefreshTokenResponse;
+import org.cloudfoundry.uaa.tokens.Tokens;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TokenManagerTest {
+
+    private final Tokens tokens = mock(Tokens.class);
+
+    private final TokenManager tokenManager = TokenManager.builder()
+        .password("test-password")
+        .tokens(this.tokens)
+        .username("test-username")
+        .build();
+
+    @Test
+    public void cache() {
+        when(this.tokens.getByPassword(any(GetTokenByPasswordRequest.class))).thenReturn(Mono.just(passwordResponse(jwt(Instant.now().plusSeconds(3600)))));
+
+        String first = this.tokenManager.getToken().block();
+        String second = this.tokenManager.getToken().block();
+
+        assertEquals(first, second);
+        verify(this.tokens, times(1)).getByPassword(any(GetTokenByPasswordRequest.class));
+    }
+
+    @Test
+    public void close() throws InterruptedException {
+        TokenManager tokenManager = TokenManager.builder()
+            .password("test-password")
+            .refreshMargin(Duration.ofSeconds(3599))
+            .tokens(this.tokens)
+            .username("test-username")
+            .build();
+
+        when(this.tokens.getByPassword(any(GetTokenByPasswordRequest.class))).thenReturn(Mono.just(passwordResponse(jwt(Instant.now().plusSeconds(3600)))));
+
+        tokenManager.getToken().block();
+        tokenManager.close();
+        Thread.sleep(1500);
+
+        verify(this.tokens, never()).refresh(any(RefreshTokenRequest.class));
+    }
+
+    @Test
+    public void refreshExpired() {
+        String expired = jwt(Instant.now().minusSeconds(60));
+        String current = jwt(Instant.now().plusSeconds(3600));
+
+        when(this.tokens.getByPassword(any(GetTokenByPasswordRequest.class))).thenReturn(Mono.just(passwordResponse(expired)));
+        when(this.tokens.refresh(any(RefreshTokenRequest.class))).thenReturn(Mono.just(RefreshTokenResponse.builder()
+            .accessToken(current)
+            .expiresInSeconds(3600)
+            .refreshToken("test-refresh-token")
+            .scopes("test-scopes")
+            .tokenId("test-token-id")
+            .tokenType("bearer")
+            .build()));
+
+        assertEquals(expired, this.tokenManager.getToken().block());
+        assertEquals(current, this.tokenManager.getToken().block());
+        verify(this.tokens, times(1)).refresh(any(RefreshTokenRequest.class));
+    }
+
+    @Test
+    public void singleFlight() {
+        MonoProcessor<GetTokenByPasswordResponse> response = MonoProcessor.create();
+        when(this.tokens.getByPassword(any(GetTokenByPasswordRequest.class))).thenReturn(response);
+
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        this.tokenManager.getToken().subscribe(first::set);
+        this.tokenManager.getToken().subscribe(second::set);
+
+        String token = jwt(Instant.now().plusSeconds(3600));
+        response.onNext(passwordResponse(token));
+
+        assertEquals(token, first.get());
+        assertEquals(token, second.get());
+        verify(this.tokens, times(1)).getByPassword(any(GetTokenByPasswordRequest.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tokensAuthorizedByTokenManager() {
+        TokenManager.builder()
+            .tokens(new ReactorTokens(mock(ConnectionContext.class), Mono.just("https://test-uaa-host"), this.tokenManager))
+            .build();
+    }
+
+    private static String jwt(Instant expiration) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        return String.format("%s.%s.%s",
+            encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)),
+            encoder.encodeToString(String.format("{\"exp\":%d}", expiration.getEpochSecond()).getBytes(StandardCharsets.UTF_8)),
+            "test-signature");
+    }
+
+    private static GetTokenByPasswordResponse passwordResponse(String accessToken) {
+        return GetTokenByPasswordResponse.builder()
+            .accessToken(accessToken)
+            .expiresInSeconds(3600)
+            .refreshToken("test-refresh-token")
+            .scopes("test-scopes")
+            .tokenId("test-token-id")
+            .tokenType("bearer")
+            .build();
+    }
+
+}
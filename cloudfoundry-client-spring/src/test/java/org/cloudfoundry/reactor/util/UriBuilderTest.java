@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class UriBuilderTest {
+
+    private final UriBuilder.Template root = UriBuilder.Template.parse("https://api.run.pivotal.io:443/");
+
+    @Test
+    public void encodePathSegment() {
+        assertEquals("https://api.run.pivotal.io:443/v2/apps/test%20name%2Fid%3F/test-%C3%A9:@,;",
+            this.root.newBuilder().pathSegment("v2", "apps", "test name/id?", "test-\u00e9:@,;").build());
+    }
+
+    @Test
+    public void encodeQueryParam() {
+        assertEquals("https://api.run.pivotal.io:443/v2/apps?q=name%20IN%20a,b&q=test%3Dvalue%26/?&redirect_uri=http://redirect.to/app",
+            this.root.newBuilder().pathSegment("v2", "apps")
+                .queryParam("q", "name IN a,b")
+                .queryParam("redirect_uri", "http://redirect.to/app")
+                .queryParam("q", "test=value&/?")
+                .build());
+    }
+
+    @Test
+    public void host() {
+        assertEquals("api.run.pivotal.io", this.root.getHost());
+        assertEquals("api.run.pivotal.io", UriBuilder.Template.parse("https://test-user@api.run.pivotal.io/v2").getHost());
+        assertEquals("[::1]", UriBuilder.Template.parse("http://[::1]:8080").getHost());
+    }
+
+    @Test
+    public void ignoresEmptyPathSegments() {
+        assertEquals("https://api.run.pivotal.io:443/v2/info", this.root.newBuilder().pathSegment("v2", "", null, "info").build());
+    }
+
+    @Test
+    public void parse() {
+        assertEquals("https://api.run.pivotal.io", UriBuilder.Template.parse("https://api.run.pivotal.io/?test-key=test-value#test-fragment").toString());
+        assertEquals("https://api.run.pivotal.io/test-path", UriBuilder.Template.parse("https://api.run.pivotal.io/test-path//").toString());
+    }
+
+    @Test
+    public void pathTemplate() {
+        assertEquals("/v2/routes/reserved/domain/{id}/host/{host}", this.root.newBuilder()
+            .pathSegment("v2", "routes", "reserved", "domain").pathVariable("id", "1faa46a0-0c6f-4e13-8334-d1f6e5f2e1dd")
+            .pathSegment("host").pathVariable("host", "test-host")
+            .queryParam("page", 1)
+            .getPathTemplate());
+    }
+
+    @Test
+    public void pathTemplateLiteralSegments() {
+        assertEquals("/v2/apps/1faa46a0-0c6f-4e13-8334-d1f6e5f2e1dd/instances/42", this.root.newBuilder()
+            .pathSegment("v2", "apps", "1faa46a0-0c6f-4e13-8334-d1f6e5f2e1dd", "instances", "42")
+            .getPathTemplate());
+    }
+
+    @Test
+    public void pathVariable() {
+        assertEquals("https://api.run.pivotal.io:443/v2/config/feature_flags/test%20name%2F1", this.root.newBuilder()
+            .pathSegment("v2", "config", "feature_flags").pathVariable("name", "test name/1").pathVariable("ignored", "")
+            .build());
+    }
+
+    @Test
+    public void queryParamWithoutValue() {
+        assertEquals("https://api.run.pivotal.io:443/v2/apps?async&page=1", this.root.newBuilder().pathSegment("v2", "apps").queryParam("async").queryParam("page", 1).build());
+    }
+
+    @Test
+    public void root() {
+        assertEquals("https://api.run.pivotal.io:443", this.root.newBuilder().build());
+    }
+
+}
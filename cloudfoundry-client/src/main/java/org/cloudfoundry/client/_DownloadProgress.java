@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+/**
+ * The progress of a download to a file
+ */
+@Value.Immutable
+abstract class _DownloadProgress {
+
+    /**
+     * The number of bytes written to the file
+     */
+    abstract Long getBytesWritten();
+
+    /**
+     * Whether the download has completed and the file has been closed
+     */
+    abstract Boolean getComplete();
+
+    /**
+     * The length of the download, if declared by the server
+     */
+    @Nullable
+    abstract Long getContentLength();
+
+    /**
+     * The hex-encoded SHA-1 digest of the download, once complete
+     */
+    @Nullable
+    abstract String getSha1();
+
+    /**
+     * The hex-encoded SHA-256 digest of the download, once complete
+     */
+    @Nullable
+    abstract String getSha256();
+
+}
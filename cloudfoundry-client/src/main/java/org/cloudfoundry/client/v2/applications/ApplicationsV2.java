@@ -16,9 +16,12 @@
 
 package org.cloudfoundry.client.v2.applications;
 
+import org.cloudfoundry.client.DownloadProgress;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 /**
  * Main entry point to the Cloud Foundry Applications V2 Client API
  */
@@ -65,6 +68,15 @@ public interface ApplicationsV2 {
      */
     Flux<byte[]> download(DownloadApplicationRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_bits_for_an_app.html">Downloads the bits for an App</a> request, writing the bits to a file
+     *
+     * @param request the Download Application request
+     * @param path    the file to write the bits to
+     * @return the progress of the download, ending with an item that carries the digests of the bits
+     */
+    Flux<DownloadProgress> download(DownloadApplicationRequest request, Path path);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a> request
      *
@@ -73,6 +85,16 @@ public interface ApplicationsV2 {
      */
     Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a> request, writing the droplet
+     * to a file
+     *
+     * @param request the Download Droplet request
+     * @param path    the file to write the droplet to
+     * @return the progress of the download, ending with an item that carries the digests of the droplet
+     */
+    Flux<DownloadProgress> downloadDroplet(DownloadApplicationDropletRequest request, Path path);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/latest-release/apps/get_the_env_for_an_app.html">Get the env for an App</a> request
      *
@@ -16,9 +16,12 @@
 
 package org.cloudfoundry.client.v3.packages;
 
+import org.cloudfoundry.client.DownloadProgress;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 /**
  * Main entry point to the Cloud Foundry Packages Client API
  */
@@ -56,6 +59,16 @@ public interface Packages {
      */
     Flux<byte[]> download(DownloadPackageRequest request);
 
+    /**
+     * Makes the <a href="http://apidocs.cloudfoundry.org/latest-release/packages_(experimental)/download_the_bits_for_a_package.html">Download the bits for a package</a> request, writing the
+     * bits to a file
+     *
+     * @param request the Download Package request
+     * @param path    the file to write the bits to
+     * @return the progress of the download, ending with an item that carries the digests of the bits
+     */
+    Flux<DownloadProgress> download(DownloadPackageRequest request, Path path);
+
     /**
      * Makes the <a href="http://apidocs.cloudfoundry.org/latest-release/packages_(experimental)/get_a_package.html">Get Package</a> request
      *
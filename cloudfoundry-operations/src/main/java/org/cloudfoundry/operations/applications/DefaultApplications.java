@@ -96,6 +96,7 @@ import reactor.core.tuple.Tuple6;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -106,6 +107,8 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
+import static org.cloudfoundry.util.DeadlineUtils.deadline;
+import static org.cloudfoundry.util.DeadlineUtils.shrink;
 import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
 import static org.cloudfoundry.util.OperationUtils.thenKeep;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
@@ -153,7 +156,9 @@ public final class DefaultApplications implements Applications {
             .then(function((sourceApplicationId, targetApplicationId) -> copyBits(this.cloudFoundryClient, sourceApplicationId, targetApplicationId)
                 .then(Mono.just(targetApplicationId))))
             .filter(targetApplicationId -> Optional.ofNullable(request.getRestart()).orElse(false))
-            .then(targetApplicationId -> restartApplication(this.cloudFoundryClient, request.getTargetName(), targetApplicationId, request.getStagingTimeout(), request.getStartupTimeout()));
+            .then(targetApplicationId -> restartApplication(this.cloudFoundryClient, request.getTargetName(), targetApplicationId, request.getStagingTimeout(), request.getStartupTimeout(),
+                request.getDeadline()))
+            .as(deadline(request.getDeadline()));
     }
 
     @Override
@@ -257,7 +262,8 @@ public final class DefaultApplications implements Applications {
             .as(thenKeep(applicationId -> uploadApplicationAndWait(this.cloudFoundryClient, applicationId, request.getApplication())))
             .as(thenKeep(applicationId -> stopApplication(this.cloudFoundryClient, applicationId)))
             .filter(applicationId -> !Optional.ofNullable(request.getNoStart()).orElse(false))
-            .then(applicationId -> startApplicationAndWait(this.cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout()));
+            .then(applicationId -> startApplicationAndWait(this.cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout(), request.getDeadline()))
+            .as(deadline(request.getDeadline()));
     }
 
     @Override
@@ -272,7 +278,8 @@ public final class DefaultApplications implements Applications {
     public Mono<Void> restage(RestageApplicationRequest request) {
         return this.spaceId
             .then(spaceId -> getApplicationId(this.cloudFoundryClient, request.getName(), spaceId))
-            .then(applicationId -> restageApplication(this.cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout()));
+            .then(applicationId -> restageApplication(this.cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout(), request.getDeadline()))
+            .as(deadline(request.getDeadline()));
     }
 
     @Override
@@ -281,7 +288,8 @@ public final class DefaultApplications implements Applications {
             .then(spaceId -> getApplication(this.cloudFoundryClient, request.getName(), spaceId))
             .then(resource -> stopApplicationIfNotStopped(this.cloudFoundryClient, resource))
             .then(stoppedApplication -> startApplicationAndWait(this.cloudFoundryClient, request.getName(), ResourceUtils.getId(stoppedApplication), request.getStagingTimeout(),
-                request.getStartupTimeout()));
+                request.getStartupTimeout(), request.getDeadline()))
+            .as(deadline(request.getDeadline()));
     }
 
     @Override
@@ -298,7 +306,9 @@ public final class DefaultApplications implements Applications {
             .then(spaceId -> getApplicationId(this.cloudFoundryClient, request.getName(), spaceId))
             .then(applicationId -> requestUpdateApplicationScale(this.cloudFoundryClient, applicationId, request.getDiskLimit(), request.getInstances(), request.getMemoryLimit()))
             .filter(resource -> isRestartRequired(request, resource))
-            .then(resource -> restartApplication(this.cloudFoundryClient, request.getName(), ResourceUtils.getId(resource), request.getStagingTimeout(), request.getStartupTimeout()));
+            .then(resource -> restartApplication(this.cloudFoundryClient, request.getName(), ResourceUtils.getId(resource), request.getStagingTimeout(), request.getStartupTimeout(),
+                request.getDeadline()))
+            .as(deadline(request.getDeadline()));
     }
 
     @Override
@@ -329,7 +339,8 @@ public final class DefaultApplications implements Applications {
     public Mono<Void> start(StartApplicationRequest request) {
         return this.spaceId
             .then(spaceId -> getApplicationIdWhere(this.cloudFoundryClient, request.getName(), spaceId, isNotIn(STARTED_STATE)))
-            .then(applicationId -> startApplicationAndWait(this.cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout()));
+            .then(applicationId -> startApplicationAndWait(this.cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout(), request.getDeadline()))
+            .as(deadline(request.getDeadline()));
     }
 
     @Override
@@ -1078,25 +1089,31 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
-    private static Mono<Void> restageApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> restageApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout,
+                                                 Instant deadline) {
+
         return requestRestageApplication(cloudFoundryClient, applicationId)
-            .then(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout))
-            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout));
+            .then(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout, deadline))
+            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout, deadline));
     }
 
-    private static Mono<Void> restartApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> restartApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout,
+                                                 Instant deadline) {
+
         return stopApplication(cloudFoundryClient, applicationId)
-            .then(startApplicationAndWait(cloudFoundryClient, application, applicationId, stagingTimeout, startupTimeout));
+            .then(startApplicationAndWait(cloudFoundryClient, application, applicationId, stagingTimeout, startupTimeout, deadline));
     }
 
     private static Predicate<AbstractApplicationResource> sshEnabled(Boolean enabled) {
         return resource -> enabled.equals(ResourceUtils.getEntity(resource).getEnableSsh());
     }
 
-    private static Mono<Void> startApplicationAndWait(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> startApplicationAndWait(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout,
+                                                      Instant deadline) {
+
         return requestUpdateApplicationState(cloudFoundryClient, applicationId, STARTED_STATE)
-            .then(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout))
-            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout));
+            .then(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout, deadline))
+            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout, deadline));
     }
 
     private static Mono<AbstractApplicationResource> stopApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
@@ -1246,8 +1263,8 @@ public final class DefaultApplications implements Applications {
             .then(job -> JobUtils.waitForCompletion(cloudFoundryClient, job));
     }
 
-    private static Mono<Void> waitForRunning(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration startupTimeout) {
-        Duration timeout = Optional.ofNullable(startupTimeout).orElse(Duration.ofMinutes(5));
+    private static Mono<Void> waitForRunning(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration startupTimeout, Instant deadline) {
+        Duration timeout = shrink(Optional.ofNullable(startupTimeout).orElse(Duration.ofMinutes(5)), deadline);
 
         return requestApplicationInstances(cloudFoundryClient, applicationId)
             .flatMap(response -> Flux.fromIterable(response.values()))
@@ -1261,8 +1278,8 @@ public final class DefaultApplications implements Applications {
             .then();
     }
 
-    private static Mono<Void> waitForStaging(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout) {
-        Duration timeout = Optional.ofNullable(stagingTimeout).orElse(Duration.ofMinutes(15));
+    private static Mono<Void> waitForStaging(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Instant deadline) {
+        Duration timeout = shrink(Optional.ofNullable(stagingTimeout).orElse(Duration.ofMinutes(15)), deadline);
 
         return requestGetApplication(cloudFoundryClient, applicationId)
             .map(response -> ResourceUtils.getEntity(response).getPackageState())
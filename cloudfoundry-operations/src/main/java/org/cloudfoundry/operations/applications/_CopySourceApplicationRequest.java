@@ -20,6 +20,7 @@ import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * The request options for the copy source application operation
@@ -34,6 +35,12 @@ abstract class _CopySourceApplicationRequest {
         }
     }
 
+    /**
+     * The time by which the operation, including waiting for staging and startup, must complete
+     */
+    @Nullable
+    abstract Instant getDeadline();
+
     /**
      * The name of the application
      */
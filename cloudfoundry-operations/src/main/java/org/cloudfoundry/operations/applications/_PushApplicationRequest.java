@@ -21,6 +21,7 @@ import org.immutables.value.Value;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * The request options for the push application operation
@@ -45,6 +46,12 @@ abstract class _PushApplicationRequest {
     @Nullable
     abstract String getCommand();
 
+    /**
+     * The time by which the operation, including waiting for staging and startup, must complete
+     */
+    @Nullable
+    abstract Instant getDeadline();
+
     /**
      * The disk quota for the application
      */
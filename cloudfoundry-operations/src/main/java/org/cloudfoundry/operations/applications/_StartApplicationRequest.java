@@ -20,6 +20,7 @@ import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * The request options for the start application operation
@@ -27,6 +28,12 @@ import java.time.Duration;
 @Value.Immutable
 abstract class _StartApplicationRequest {
 
+    /**
+     * The time by which the operation, including waiting for staging and startup, must complete
+     */
+    @Nullable
+    abstract Instant getDeadline();
+
     /**
      * The name of the application
      */
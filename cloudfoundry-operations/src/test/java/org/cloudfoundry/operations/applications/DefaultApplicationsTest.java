@@ -99,6 +99,7 @@ import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.operations.AbstractOperationsApiTest;
 import org.cloudfoundry.util.DateUtils;
+import org.cloudfoundry.util.DeadlineExceededException;
 import org.cloudfoundry.util.StringMap;
 import org.cloudfoundry.util.test.TestSubscriber;
 import org.junit.Before;
@@ -109,6 +110,7 @@ import reactor.core.publisher.Mono;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -2496,6 +2498,30 @@ public final class DefaultApplicationsTest {
 
     }
 
+    public static final class PushDeadlinePassed extends AbstractOperationsApiTest<Void> {
+
+        private final DefaultApplications applications = new DefaultApplications(this.cloudFoundryClient, Mono.just(this.dopplerClient), Mono.just(TEST_SPACE_ID));
+
+        private final PushApplicationRequest pushApplicationRequest = PushApplicationRequest.builder()
+            .application(new ByteArrayInputStream("test-application".getBytes()))
+            .deadline(Instant.EPOCH)
+            .name("test-name")
+            .build();
+
+        @Override
+        protected void assertions(TestSubscriber<Void> testSubscriber) {
+            testSubscriber
+                .assertError(DeadlineExceededException.class, "Deadline 1970-01-01T00:00:00Z passed before the request was sent");
+        }
+
+        @Override
+        protected Mono<Void> invoke() {
+            return this.applications
+                .push(this.pushApplicationRequest);
+        }
+
+    }
+
     public static final class PushDomainNotFound extends AbstractOperationsApiTest<Void> {
 
         private final InputStream applicationBits = new ByteArrayInputStream("test-application".getBytes());
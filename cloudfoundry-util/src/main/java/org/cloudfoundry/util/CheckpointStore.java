@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A durable store for the position reached in a stream of events, keyed by the name of the stream
+ */
+public interface CheckpointStore {
+
+    /**
+     * Load the checkpoint for a stream
+     *
+     * @param key the name of the stream
+     * @return the checkpoint, or empty if none has been saved
+     */
+    Mono<String> load(String key);
+
+    /**
+     * Save the checkpoint for a stream, replacing any previous checkpoint
+     *
+     * @param key        the name of the stream
+     * @param checkpoint the checkpoint
+     * @return completes when the checkpoint is durable
+     */
+    Mono<Void> save(String key, String checkpoint);
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utilities for bounding the time an operation may take
+ */
+public final class DeadlineUtils {
+
+    private DeadlineUtils() {
+    }
+
+    /**
+     * Bounds a {@link Mono} by a deadline for use with {@link Mono#as(Function)}.  If the deadline has passed when the {@link Mono} is subscribed to, it is not subscribed to and fails immediately;
+     * otherwise it is cancelled and fails with a {@link DeadlineExceededException} when the deadline passes.
+     *
+     * @param deadline the deadline, or {@code null} for no deadline
+     * @param <T>      the type of the {@link Mono}
+     * @return a bounded {@link Mono}
+     */
+    public static <T> Function<Mono<T>, Mono<T>> deadline(Instant deadline) {
+        if (deadline == null) {
+            return source -> source;
+        }
+
+        return source -> Mono.defer(() -> {
+            Duration remaining = remaining(deadline);
+
+            if (remaining.isZero()) {
+                return Mono.error(new DeadlineExceededException(String.format("Deadline %s passed before the request was sent", deadline)));
+            }
+
+            return source.as(timeout(remaining, () -> new DeadlineExceededException(String.format("Deadline %s passed", deadline))));
+        });
+    }
+
+    /**
+     * Returns the time remaining until a deadline
+     *
+     * @param deadline the deadline
+     * @return the time remaining, or {@link Duration#ZERO} if the deadline has passed
+     */
+    public static Duration remaining(Instant deadline) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Shrinks a timeout so that it does not extend past a deadline
+     *
+     * @param timeout  the timeout
+     * @param deadline the deadline, or {@code null} for no deadline
+     * @return the smaller of the timeout and the time remaining until the deadline
+     */
+    public static Duration shrink(Duration timeout, Instant deadline) {
+        return Optional.ofNullable(deadline)
+            .map(DeadlineUtils::remaining)
+            .filter(remaining -> remaining.compareTo(timeout) < 0)
+            .orElse(timeout);
+    }
+
+    /**
+     * Bounds a {@link Mono} by a timeout, measured from subscription, for use with {@link Mono#as(Function)}.  If the timeout elapses first, the {@link Mono} is cancelled and the supplied error is
+     * signalled instead.
+     *
+     * @param timeout the timeout
+     * @param error   a supplier of the error to signal when the timeout elapses
+     * @param <T>     the type of the {@link Mono}
+     * @return a bounded {@link Mono}
+     */
+    public static <T> Function<Mono<T>, Mono<T>> timeout(Duration timeout, Supplier<? extends Throwable> error) {
+        return source -> Flux
+            .merge(
+                Flux.concat(source.map(Optional::of), Mono.just(Optional.<T>empty())),
+                Mono.delay(timeout).then(i -> Mono.<Optional<T>>error(error.get())))
+            .next()
+            .then(result -> result.map(Mono::just).orElse(Mono.empty()));
+    }
+
+}
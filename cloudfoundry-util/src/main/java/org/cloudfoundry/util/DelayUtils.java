@@ -26,6 +26,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -65,6 +66,21 @@ public final class DelayUtils {
         return errors -> getDelay(minimum, maximum, finish, errors.zipWith(Flux.range(0, Integer.MAX_VALUE), (error, iteration) -> iteration.longValue()));
     }
 
+    /**
+     * Calculates an exponential backoff delay with jitter, a random duration between the minimum and the exponentially increasing bound for an iteration
+     *
+     * @param minimum   the minimum duration
+     * @param maximum   the maximum duration
+     * @param iteration the zero-based iteration
+     * @return a randomized delay
+     */
+    public static Duration exponentialBackOffWithJitter(Duration minimum, Duration maximum, long iteration) {
+        long lower = minimum.toNanos();
+        long upper = calculateDuration(minimum, maximum, iteration).toNanos();
+
+        return Duration.ofNanos(lower + (long) (ThreadLocalRandom.current().nextDouble() * (upper - lower)));
+    }
+
     /**
      * Implements an fixed delay for use with {@link Mono#repeatWhenEmpty(Function)}
      *
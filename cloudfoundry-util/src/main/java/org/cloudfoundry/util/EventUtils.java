@@ -0,0 +1,164 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.OrderDirection;
+import org.cloudfoundry.client.v2.events.EventResource;
+import org.cloudfoundry.client.v2.events.ListEventsRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Utilities for following audit events
+ */
+public final class EventUtils {
+
+    /**
+     * The default number of event ids remembered for the latest timestamp
+     */
+    public static final int DEFAULT_MAX_SEEN_IDS = 10_000;
+
+    private EventUtils() {
+    }
+
+    /**
+     * Follow the audit events in a foundation, starting with those at or after a timestamp.  The events are polled for with a {@code timestamp>=} filter from the latest timestamp seen by the
+     * previous poll, so each poll only reads events that are new or that share that timestamp.  Within a poll, events are only de-duplicated against the ids the previous poll saw at that timestamp,
+     * remembering up to {@link #DEFAULT_MAX_SEEN_IDS} ids, so events that Cloud Controller returns out of timestamp order are not dropped.  The cursor only advances once a poll has completed, and
+     * the next poll is only made once the events from the previous one have been requested by the subscriber.
+     *
+     * @param cloudFoundryClient the client to use
+     * @param since              the timestamp to start from, in the format used by Cloud Controller (e.g. {@code 2016-06-08T16:41:26Z})
+     * @param pollInterval       the interval between polls
+     * @return an unbounded stream of events
+     */
+    public static Flux<EventResource> followEvents(CloudFoundryClient cloudFoundryClient, String since, Duration pollInterval) {
+        return followEvents(timestamp -> PaginationUtils
+            .requestResources(page -> cloudFoundryClient.events()
+                .list(ListEventsRequest.builder()
+                    .orderDirection(OrderDirection.ASCENDING)
+                    .page(page)
+                    .timestamp(timestamp)
+                    .build())), since, pollInterval, DEFAULT_MAX_SEEN_IDS);
+    }
+
+    static Flux<EventResource> followEvents(Function<String, Flux<EventResource>> eventsSince, String since, Duration pollInterval, int maxSeenIds) {
+        return Flux.defer(() -> {
+            Cursor cursor = new Cursor(since, maxSeenIds);
+
+            Flux<EventResource> poll = Flux.defer(() -> {
+                Cursor.Poll current = cursor.poll();
+
+                return eventsSince.apply(current.getTimestamp())
+                    .filter(current::accept)
+                    .doOnComplete(current::complete);
+            });
+
+            return poll
+                .concatWith(Mono.delay(pollInterval)
+                    .flatMap(tick -> poll)
+                    .repeat());
+        });
+    }
+
+    private static final class Cursor {
+
+        private final int maxSeenIds;
+
+        private Set<String> seenIds = new LinkedHashSet<>();
+
+        private String timestamp;
+
+        private Cursor(String timestamp, int maxSeenIds) {
+            this.maxSeenIds = maxSeenIds;
+            this.timestamp = timestamp;
+        }
+
+        private synchronized Poll poll() {
+            return new Poll(this.timestamp, new LinkedHashSet<>(this.seenIds));
+        }
+
+        private synchronized void update(String timestamp, Set<String> seenIds) {
+            while (seenIds.size() > this.maxSeenIds) {
+                Iterator<String> iterator = seenIds.iterator();
+                iterator.next();
+                iterator.remove();
+            }
+
+            this.seenIds = seenIds;
+            this.timestamp = timestamp;
+        }
+
+        private final class Poll {
+
+            private final Set<String> previousIds;
+
+            private final String timestamp;
+
+            private Set<String> latestIds;
+
+            private String latestTimestamp;
+
+            private Poll(String timestamp, Set<String> previousIds) {
+                this.latestIds = previousIds;
+                this.latestTimestamp = timestamp;
+                this.previousIds = new LinkedHashSet<>(previousIds);
+                this.timestamp = timestamp;
+            }
+
+            private synchronized boolean accept(EventResource event) {
+                String timestamp = event.getEntity().getTimestamp();
+                String id = ResourceUtils.getId(event);
+
+                int comparison = timestamp.compareTo(this.timestamp);
+                if (comparison < 0 || (comparison == 0 && this.previousIds.contains(id))) {
+                    return false;
+                }
+
+                int latestComparison = timestamp.compareTo(this.latestTimestamp);
+                if (latestComparison > 0) {
+                    this.latestIds = new LinkedHashSet<>();
+                    this.latestTimestamp = timestamp;
+                }
+
+                if (latestComparison >= 0) {
+                    this.latestIds.add(id);
+                }
+
+                return true;
+            }
+
+            private synchronized void complete() {
+                update(this.latestTimestamp, this.latestIds);
+            }
+
+            private String getTimestamp() {
+                return this.timestamp;
+            }
+
+        }
+
+    }
+
+}
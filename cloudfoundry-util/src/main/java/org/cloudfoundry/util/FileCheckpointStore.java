@@ -0,0 +1,120 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * A {@link CheckpointStore} that keeps each checkpoint in its own file in a directory.  A checkpoint is written to a temporary file that is then atomically moved over the previous one, so a crash
+ * leaves either the old or the new checkpoint, never a partial one.  Loading and saving use blocking file I/O, which is run on the {@link Scheduler} given at construction, if any.
+ */
+public final class FileCheckpointStore implements CheckpointStore {
+
+    private final Path directory;
+
+    private final Optional<Scheduler> scheduler;
+
+    /**
+     * Creates a new instance that does its file I/O on the subscribing thread.  As that is often a network event loop, callers should move the returned {@link Mono}s onto a thread that may
+     * block, or use {@link #FileCheckpointStore(Path, Scheduler)} instead.
+     *
+     * @param directory the directory to keep checkpoints in.  It is created if it does not exist.
+     */
+    public FileCheckpointStore(Path directory) {
+        this.directory = directory;
+        this.scheduler = Optional.empty();
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param directory the directory to keep checkpoints in.  It is created if it does not exist.
+     * @param scheduler the {@link Scheduler} to do file I/O on.  It should allow blocking.
+     */
+    public FileCheckpointStore(Path directory, Scheduler scheduler) {
+        this.directory = directory;
+        this.scheduler = Optional.of(scheduler);
+    }
+
+    @Override
+    public Mono<String> load(String key) {
+        return onScheduler(Mono.defer(() -> {
+            try {
+                return Mono.just(new String(Files.readAllBytes(getPath(key)), StandardCharsets.UTF_8).trim());
+            } catch (NoSuchFileException e) {
+                return Mono.empty();
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+        }));
+    }
+
+    @Override
+    public Mono<Void> save(String key, String checkpoint) {
+        return onScheduler(Mono.defer(() -> {
+            try {
+                Files.createDirectories(this.directory);
+
+                Path temporary = Files.createTempFile(this.directory, key, ".tmp");
+                try {
+                    write(temporary, checkpoint);
+                    Files.move(temporary, getPath(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+
+                return Mono.<Void>empty();
+            } catch (IOException e) {
+                return Mono.<Void>error(e);
+            }
+        }));
+    }
+
+    private static void write(Path path, String checkpoint) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(checkpoint.getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private Path getPath(String key) {
+        return this.directory.resolve(String.format("%s.checkpoint", key));
+    }
+
+    private <T> Mono<T> onScheduler(Mono<T> mono) {
+        return this.scheduler
+            .map(mono::subscribeOn)
+            .orElse(mono);
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A {@link Publisher} that requests a range of pages with at most {@code concurrency} requests outstanding and emits them in page order as soon as they are contiguous.  A page that arrives early is
+ * held until the pages before it have been emitted, so no more than {@code concurrency} pages are ever buffered.  Pages are only emitted when the subscriber has demand for them.
+ *
+ * @param <U> the type of page
+ */
+final class OrderedPagePublisher<U> implements Publisher<U> {
+
+    private final int concurrency;
+
+    private final int firstPage;
+
+    private final int lastPage;
+
+    private final Function<Integer, Mono<U>> pageSupplier;
+
+    OrderedPagePublisher(Function<Integer, Mono<U>> pageSupplier, int firstPage, int lastPage, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException(String.format("Concurrency must be positive, was %d", concurrency));
+        }
+
+        this.concurrency = concurrency;
+        this.firstPage = firstPage;
+        this.lastPage = lastPage;
+        this.pageSupplier = pageSupplier;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super U> subscriber) {
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private final class PageSubscription implements Subscription {
+
+        private final Subscriber<? super U> downstream;
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private final AtomicReferenceArray<U> pages;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicReferenceArray<Subscription> subscriptions;
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private int nextToEmit;
+
+        private int nextToRequest;
+
+        private PageSubscription(Subscriber<? super U> downstream) {
+            this.downstream = downstream;
+            this.nextToEmit = OrderedPagePublisher.this.firstPage;
+            this.nextToRequest = OrderedPagePublisher.this.firstPage;
+            this.pages = new AtomicReferenceArray<>(OrderedPagePublisher.this.concurrency);
+            this.subscriptions = new AtomicReferenceArray<>(OrderedPagePublisher.this.concurrency);
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.error.compareAndSet(null, new IllegalArgumentException(String.format("Request must be positive, was %d", n)));
+            } else {
+                this.requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+
+            drain();
+        }
+
+        private void cancelOutstanding() {
+            for (int i = 0; i < this.subscriptions.length(); i++) {
+                Subscription subscription = this.subscriptions.getAndSet(i, null);
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                this.pages.set(i, null);
+            }
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            for (; ; ) {
+                if (this.cancelled) {
+                    cancelOutstanding();
+                    return;
+                }
+
+                Throwable t = this.error.get();
+                if (t != null) {
+                    this.cancelled = true;
+                    cancelOutstanding();
+                    this.downstream.onError(t);
+                    return;
+                }
+
+                while (this.nextToEmit <= OrderedPagePublisher.this.lastPage && this.requested.get() > 0 && !this.cancelled) {
+                    int slot = slot(this.nextToEmit);
+                    U page = this.pages.getAndSet(slot, null);
+                    if (page == null) {
+                        break;
+                    }
+
+                    this.subscriptions.set(slot, null);
+                    this.nextToEmit++;
+                    this.requested.getAndUpdate(r -> r == Long.MAX_VALUE ? r : r - 1);
+                    this.downstream.onNext(page);
+                }
+
+                if (this.nextToEmit > OrderedPagePublisher.this.lastPage && !this.cancelled) {
+                    this.cancelled = true;
+                    this.downstream.onComplete();
+                    return;
+                }
+
+                while (this.nextToRequest <= OrderedPagePublisher.this.lastPage && this.nextToRequest - this.nextToEmit < OrderedPagePublisher.this.concurrency && !this.cancelled) {
+                    int page = this.nextToRequest++;
+                    OrderedPagePublisher.this.pageSupplier.apply(page).subscribe(new PageSubscriber(page));
+                }
+
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private int slot(int page) {
+            return (page - OrderedPagePublisher.this.firstPage) % OrderedPagePublisher.this.concurrency;
+        }
+
+        private final class PageSubscriber implements Subscriber<U> {
+
+            private final int page;
+
+            private boolean received;
+
+            private PageSubscriber(int page) {
+                this.page = page;
+            }
+
+            @Override
+            public void onComplete() {
+                if (!this.received) {
+                    PageSubscription.this.error.compareAndSet(null, new IllegalStateException(String.format("Page %d completed without a response", this.page)));
+                    drain();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                PageSubscription.this.error.compareAndSet(null, t);
+                drain();
+            }
+
+            @Override
+            public void onNext(U u) {
+                this.received = true;
+                PageSubscription.this.pages.set(slot(this.page), u);
+                drain();
+            }
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                PageSubscription.this.subscriptions.set(slot(this.page), subscription);
+
+                if (PageSubscription.this.cancelled) {
+                    subscription.cancel();
+                    return;
+                }
+
+                subscription.request(Long.MAX_VALUE);
+            }
+
+        }
+
+    }
+
+}
@@ -21,6 +21,9 @@ import org.cloudfoundry.client.v2.Resource;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -28,24 +31,104 @@ import java.util.function.Function;
  */
 public final class PaginationUtils {
 
+    /**
+     * The default number of pages requested concurrently after the first
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
     private PaginationUtils() {
     }
 
     /**
-     * Generate the stream of responses starting from page 1 of an initial paginated response.
+     * Generate the stream of responses starting from page 1 of an initial v3 paginated response.  Additional pages are requested {@link #DEFAULT_CONCURRENCY} at a time.
+     *
+     * @param pageSupplier a function from page numbers to {@link Mono}s of v3 {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Flux<U> requestClientV3Pages(Function<Integer, Mono<U>> pageSupplier) {
+        return requestClientV3Pages(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of responses starting from page 1 of an initial v3 paginated response.  When the response reports the total number of pages, at most {@code concurrency} additional pages are
+     * requested at a time and emitted in order.  Otherwise, the number of pages cannot be known up front and the request for each page depends on the previous response, so pages are requested
+     * strictly one after another, at most one ahead of demand, for as long as each response has a {@code next} link.
+     *
+     * @param pageSupplier a function from page numbers to {@link Mono}s of v3 {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Flux<U> requestClientV3Pages(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return pageSupplier
+            .apply(1)
+            .flatMap(response -> {
+                Integer totalPages = response.getPagination().getTotalPages();
+                if (totalPages == null) {
+                    return requestNextPages(pageSupplier, response);
+                }
+
+                return Flux
+                    .from(new OrderedPagePublisher<>(pageSupplier, 2, totalPages, concurrency))
+                    .startWith(response);
+            });
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of v3 responses obtained from the page supplier.  Additional pages are requested {@link #DEFAULT_CONCURRENCY} at a time.
+     *
+     * @param pageSupplier a function from page numbers to {@link Mono}s of v3 {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <R>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R, U extends org.cloudfoundry.client.v3.PaginatedResponse<R>> Flux<R> requestClientV3Resources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestClientV3Resources(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of v3 responses obtained from the page supplier.  At most {@code concurrency} additional pages are requested at a time.
+     *
+     * @param pageSupplier a function from page numbers to {@link Mono}s of v3 {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <R>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R, U extends org.cloudfoundry.client.v3.PaginatedResponse<R>> Flux<R> requestClientV3Resources(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return requestClientV3Pages(pageSupplier, concurrency)
+            .concatMap(response -> Flux.fromIterable(response.getResources()));
+    }
+
+    /**
+     * Generate the stream of responses starting from page 1 of an initial paginated response.  Additional pages are requested {@link #DEFAULT_CONCURRENCY} at a time.
      *
      * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
      * @param <U>          the type of {@link PaginatedResponse}.
      * @return a stream of <code>U</code> objects.
      */
     public static <U extends PaginatedResponse<?>> Flux<U> requestPages(Function<Integer, Mono<U>> pageSupplier) {
+        return requestPages(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of responses starting from page 1 of an initial paginated response.  At most {@code concurrency} additional pages are requested at a time, and pages are emitted in order
+     * as soon as they are contiguous.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends PaginatedResponse<?>> Flux<U> requestPages(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
         return pageSupplier
             .apply(1)
-            .flatMap(requestAdditionalPages(pageSupplier));
+            .flatMap(requestAdditionalPages(pageSupplier, concurrency));
     }
 
     /**
-     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.  Additional pages are requested {@link #DEFAULT_CONCURRENCY} at a time.
      *
      * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
      * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
@@ -53,11 +136,88 @@ public final class PaginationUtils {
      * @return a stream of <code>R</code> objects.
      */
     public static <R extends Resource<?>, U extends PaginatedResponse<R>> Flux<R> requestResources(Function<Integer, Mono<U>> pageSupplier) {
-        return requestPages(pageSupplier)
-            .flatMap(ResourceUtils::getResources);
+        return requestResources(pageSupplier, DEFAULT_CONCURRENCY);
     }
 
-    private static <U extends PaginatedResponse<?>> Function<U, Flux<U>> requestAdditionalPages(Function<Integer, Mono<U>> pageSupplier) {
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.  At most {@code concurrency} additional pages are requested at a time.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <R>          the type of resource in the list on each {@link PaginatedResponse}.
+     * @param <U>          the type of {@link PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R extends Resource<?>, U extends PaginatedResponse<R>> Flux<R> requestResources(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return requestPages(pageSupplier, concurrency)
+            .concatMap(ResourceUtils::getResources);
+    }
+
+    /**
+     * Generate the stream of responses starting from the first result of an initial UAA paginated response.  Additional pages are requested {@link #DEFAULT_CONCURRENCY} at a time.
+     *
+     * @param pageSupplier a function from start indexes to {@link Mono}s of UAA {@link org.cloudfoundry.uaa.PaginatedResponse}s.
+     * @param <U>          the type of {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends org.cloudfoundry.uaa.PaginatedResponse<?>> Flux<U> requestUaaPages(Function<Integer, Mono<U>> pageSupplier) {
+        return requestUaaPages(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of responses starting from the first result of an initial UAA paginated response.  The start index of each additional page is derived from the number of items per page
+     * and the total number of results in the first response, and at most {@code concurrency} additional pages are requested at a time and emitted in order.
+     *
+     * @param pageSupplier a function from start indexes to {@link Mono}s of UAA {@link org.cloudfoundry.uaa.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <U>          the type of {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <U extends org.cloudfoundry.uaa.PaginatedResponse<?>> Flux<U> requestUaaPages(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return pageSupplier
+            .apply(1)
+            .flatMap(response -> {
+                int itemsPerPage = response.getItemsPerPage();
+                int totalResults = response.getTotalResults();
+                if (itemsPerPage < 1 || totalResults <= itemsPerPage) {
+                    return Flux.just(response);
+                }
+
+                int totalPages = (totalResults + itemsPerPage - 1) / itemsPerPage;
+
+                return Flux
+                    .from(new OrderedPagePublisher<>(page -> pageSupplier.apply(1 + (page - 1) * itemsPerPage), 2, totalPages, concurrency))
+                    .startWith(response);
+            });
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of UAA responses obtained from the page supplier.  Additional pages are requested {@link #DEFAULT_CONCURRENCY} at a time.
+     *
+     * @param pageSupplier a function from start indexes to {@link Mono}s of UAA {@link org.cloudfoundry.uaa.PaginatedResponse}s.
+     * @param <R>          the type of resource in the list on each {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R, U extends org.cloudfoundry.uaa.PaginatedResponse<R>> Flux<R> requestUaaResources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestUaaResources(pageSupplier, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of UAA responses obtained from the page supplier.  At most {@code concurrency} additional pages are requested at a time.
+     *
+     * @param pageSupplier a function from start indexes to {@link Mono}s of UAA {@link org.cloudfoundry.uaa.PaginatedResponse}s.
+     * @param concurrency  the maximum number of pages to request concurrently
+     * @param <R>          the type of resource in the list on each {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.uaa.PaginatedResponse}.
+     * @return a stream of <code>R</code> objects.
+     */
+    public static <R, U extends org.cloudfoundry.uaa.PaginatedResponse<R>> Flux<R> requestUaaResources(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+        return requestUaaPages(pageSupplier, concurrency)
+            .concatMap(response -> Flux.fromIterable(response.getResources()));
+    }
+
+    private static <U extends PaginatedResponse<?>> Function<U, Flux<U>> requestAdditionalPages(Function<Integer, Mono<U>> pageSupplier, int concurrency) {
         return response -> {
             Integer totalPages = response.getTotalPages();
             if (totalPages == null) {
@@ -65,12 +225,33 @@ public final class PaginationUtils {
             }
 
             return Flux
-                .range(2, totalPages - 1)
-                .flatMap(pageSupplier)
-                .startWith(response)
-                .buffer()
-                .flatMapIterable(d -> d);
+                .from(new OrderedPagePublisher<>(pageSupplier, 2, totalPages, concurrency))
+                .startWith(response);
         };
     }
 
+    private static <U extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Flux<U> requestNextPages(Function<Integer, Mono<U>> pageSupplier, U response) {
+        AtomicReference<U> previous = new AtomicReference<>(response);
+        AtomicInteger page = new AtomicInteger(1);
+
+        return Mono
+            .defer(() -> {
+                if (previous.get().getPagination().getNext() == null) {
+                    return Mono.just(Optional.<U>empty());
+                }
+
+                return pageSupplier
+                    .apply(page.incrementAndGet())
+                    .map(next -> {
+                        previous.set(next);
+                        return Optional.of(next);
+                    })
+                    .defaultIfEmpty(Optional.empty());
+            })
+            .repeat()
+            .takeWhile(Optional::isPresent)
+            .map(Optional::get)
+            .startWith(response);
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ListServiceUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEventResource;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Utilities for incrementally synchronizing application and service usage events.  Each synchronization reads the events after the last checkpoint using the {@code after_guid} cursor, hands them to
+ * a handler one page at a time, and saves the id of the last event in the page once the handler has completed.  A crash between the handler completing and the checkpoint being saved causes that page
+ * to be handed over again, so handlers should be idempotent; no event is ever skipped.  Pages are requested one after another, each only once the previous one has been checkpointed.
+ */
+public final class UsageEventUtils {
+
+    /**
+     * The checkpoint key for application usage events
+     */
+    public static final String APPLICATION_USAGE_EVENTS = "app_usage_events";
+
+    /**
+     * The checkpoint key for service usage events
+     */
+    public static final String SERVICE_USAGE_EVENTS = "service_usage_events";
+
+    private static final int RESULTS_PER_PAGE = 100;
+
+    private UsageEventUtils() {
+    }
+
+    /**
+     * Synchronize the application usage events created since the last checkpoint
+     *
+     * @param cloudFoundryClient the client to use
+     * @param checkpointStore    the store to load and save the checkpoint in
+     * @param handler            a function that processes a batch of events, completing once they are durable
+     * @return the number of events synchronized
+     */
+    public static Mono<Long> synchronizeApplicationUsageEvents(CloudFoundryClient cloudFoundryClient, CheckpointStore checkpointStore,
+                                                               Function<List<ApplicationUsageEventResource>, Mono<Void>> handler) {
+
+        return synchronize(checkpointStore, APPLICATION_USAGE_EVENTS, afterId -> cloudFoundryClient.applicationUsageEvents()
+            .list(ListApplicationUsageEventsRequest.builder()
+                .afterApplicationUsageEventId(afterId)
+                .page(1)
+                .resultsPerPage(RESULTS_PER_PAGE)
+                .build()), handler);
+    }
+
+    /**
+     * Synchronize the service usage events created since the last checkpoint
+     *
+     * @param cloudFoundryClient the client to use
+     * @param checkpointStore    the store to load and save the checkpoint in
+     * @param handler            a function that processes a batch of events, completing once they are durable
+     * @return the number of events synchronized
+     */
+    public static Mono<Long> synchronizeServiceUsageEvents(CloudFoundryClient cloudFoundryClient, CheckpointStore checkpointStore,
+                                                           Function<List<ServiceUsageEventResource>, Mono<Void>> handler) {
+
+        return synchronize(checkpointStore, SERVICE_USAGE_EVENTS, afterId -> cloudFoundryClient.serviceUsageEvents()
+            .list(ListServiceUsageEventsRequest.builder()
+                .afterServiceUsageEventId(afterId)
+                .page(1)
+                .resultsPerPage(RESULTS_PER_PAGE)
+                .build()), handler);
+    }
+
+    static <R extends Resource<?>, U extends PaginatedResponse<R>> Mono<Long> synchronize(CheckpointStore checkpointStore, String key, Function<String, Mono<U>> pageSupplier,
+                                                                                          Function<List<R>, Mono<Void>> handler) {
+        return checkpointStore.load(key)
+            .map(Optional::of)
+            .otherwiseIfEmpty(Mono.just(Optional.empty()))
+            .flatMap(checkpoint -> {
+                AtomicReference<String> afterId = new AtomicReference<>(checkpoint.orElse(null));
+
+                return Mono.defer(() -> synchronizePage(checkpointStore, key, pageSupplier, handler, afterId))
+                    .repeat()
+                    .takeWhile(size -> size > 0);
+            })
+            .reduce(0L, (count, size) -> count + size);
+    }
+
+    private static <R extends Resource<?>, U extends PaginatedResponse<R>> Mono<Integer> synchronizePage(CheckpointStore checkpointStore, String key, Function<String, Mono<U>> pageSupplier,
+                                                                                                         Function<List<R>, Mono<Void>> handler, AtomicReference<String> afterId) {
+        return pageSupplier
+            .apply(afterId.get())
+            .then(response -> {
+                List<R> resources = response.getResources();
+                if (resources.isEmpty()) {
+                    return Mono.just(0);
+                }
+
+                String lastId = ResourceUtils.getId(resources.get(resources.size() - 1));
+
+                return handler.apply(resources)
+                    .then(Mono.defer(() -> checkpointStore.save(key, lastId)))
+                    .then(Mono.defer(() -> {
+                        afterId.set(lastId);
+                        return Mono.just(resources.size());
+                    }));
+            });
+    }
+
+}
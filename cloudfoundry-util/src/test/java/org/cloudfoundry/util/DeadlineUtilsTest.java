@@ -0,0 +1,99 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class DeadlineUtilsTest {
+
+    @Test
+    public void deadline() {
+        assertEquals("test-value", Mono.just("test-value")
+            .as(DeadlineUtils.deadline(Instant.now().plusSeconds(5)))
+            .block());
+    }
+
+    @Test(expected = DeadlineExceededException.class)
+    public void deadlineExceeded() {
+        Mono.delay(Duration.ofSeconds(5))
+            .as(DeadlineUtils.deadline(Instant.now().plusMillis(10)))
+            .block();
+    }
+
+    @Test
+    public void deadlineNull() {
+        assertEquals("test-value", Mono.just("test-value")
+            .as(DeadlineUtils.<String>deadline(null))
+            .block());
+    }
+
+    @Test
+    public void deadlinePassed() {
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        String result = Mono.just("test-value")
+            .doOnSubscribe(s -> subscriptions.incrementAndGet())
+            .as(DeadlineUtils.deadline(Instant.now().minusSeconds(1)))
+            .otherwise(DeadlineExceededException.class, t -> Mono.just("test-exceeded"))
+            .block();
+
+        assertEquals("test-exceeded", result);
+        assertEquals(0, subscriptions.get());
+    }
+
+    @Test
+    public void shrink() {
+        assertEquals(Duration.ofMinutes(5), DeadlineUtils.shrink(Duration.ofMinutes(5), null));
+        assertEquals(Duration.ofMinutes(5), DeadlineUtils.shrink(Duration.ofMinutes(5), Instant.now().plus(Duration.ofHours(1))));
+        assertTrue(DeadlineUtils.shrink(Duration.ofMinutes(5), Instant.now().plus(Duration.ofMinutes(1))).compareTo(Duration.ofMinutes(1)) <= 0);
+        assertEquals(Duration.ZERO, DeadlineUtils.shrink(Duration.ofMinutes(5), Instant.now().minusSeconds(1)));
+    }
+
+    @Test
+    public void timeoutCancels() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        String result = Mono.delay(Duration.ofSeconds(5))
+            .map(i -> "test-value")
+            .doOnCancel(() -> cancelled.set(true))
+            .as(DeadlineUtils.timeout(Duration.ofMillis(10), TimeoutException::new))
+            .otherwise(TimeoutException.class, t -> Mono.just("test-timeout"))
+            .block();
+
+        assertEquals("test-timeout", result);
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void timeoutEmpty() {
+        assertNull(Mono.<String>empty()
+            .as(DeadlineUtils.timeout(Duration.ofSeconds(5), TimeoutException::new))
+            .block());
+    }
+
+}
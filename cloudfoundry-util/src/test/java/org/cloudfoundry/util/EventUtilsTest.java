@@ -0,0 +1,122 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.events.EventEntity;
+import org.cloudfoundry.client.v2.events.EventResource;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.cloudfoundry.util.test.TestObjects.fill;
+import static org.junit.Assert.assertEquals;
+
+public final class EventUtilsTest {
+
+    private final List<EventResource> events = new CopyOnWriteArrayList<>();
+
+    private final List<String> requested = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void followEvents() {
+        this.events.add(testEventResource("test-id-1", "2016-06-08T16:41:26Z"));
+        this.events.add(testEventResource("test-id-2", "2016-06-08T16:41:27Z"));
+        this.events.add(testEventResource("test-id-3", "2016-06-08T16:41:27Z"));
+
+        List<String> actual = EventUtils
+            .followEvents(timestamp -> {
+                if (this.requested.size() == 1) {
+                    this.events.add(testEventResource("test-id-4", "2016-06-08T16:41:27Z"));
+                    this.events.add(testEventResource("test-id-5", "2016-06-08T16:41:28Z"));
+                }
+
+                return eventsSince(timestamp);
+            }, "2016-06-08T16:41:26Z", Duration.ofMillis(10), EventUtils.DEFAULT_MAX_SEEN_IDS)
+            .map(ResourceUtils::getId)
+            .take(5)
+            .collectList()
+            .block();
+
+        assertEquals(Arrays.asList("test-id-1", "test-id-2", "test-id-3", "test-id-4", "test-id-5"), actual);
+        assertEquals(Arrays.asList("2016-06-08T16:41:26Z", "2016-06-08T16:41:27Z"), this.requested.subList(0, 2));
+    }
+
+    @Test
+    public void followEventsBeforeStart() {
+        this.events.add(testEventResource("test-id-1", "2016-06-08T16:41:25Z"));
+        this.events.add(testEventResource("test-id-2", "2016-06-08T16:41:26Z"));
+        this.events.add(testEventResource("test-id-3", "2016-06-08T16:41:27Z"));
+
+        List<String> actual = EventUtils
+            .followEvents(timestamp -> Flux.fromIterable(new ArrayList<>(this.events)), "2016-06-08T16:41:26Z", Duration.ofMillis(10), EventUtils.DEFAULT_MAX_SEEN_IDS)
+            .map(ResourceUtils::getId)
+            .take(2)
+            .collectList()
+            .block();
+
+        assertEquals(Arrays.asList("test-id-2", "test-id-3"), actual);
+    }
+
+    @Test
+    public void followEventsOutOfOrder() {
+        this.events.add(testEventResource("test-id-1", "2016-06-08T16:41:28Z"));
+        this.events.add(testEventResource("test-id-2", "2016-06-08T16:41:27Z"));
+
+        List<String> actual = EventUtils
+            .followEvents(timestamp -> {
+                if (this.requested.size() == 1) {
+                    this.events.add(testEventResource("test-id-3", "2016-06-08T16:41:28Z"));
+                }
+
+                return eventsSince(timestamp);
+            }, "2016-06-08T16:41:26Z", Duration.ofMillis(10), EventUtils.DEFAULT_MAX_SEEN_IDS)
+            .map(ResourceUtils::getId)
+            .take(3)
+            .collectList()
+            .block();
+
+        assertEquals(Arrays.asList("test-id-1", "test-id-2", "test-id-3"), actual);
+        assertEquals(Arrays.asList("2016-06-08T16:41:26Z", "2016-06-08T16:41:28Z"), this.requested.subList(0, 2));
+    }
+
+    private static EventResource testEventResource(String id, String timestamp) {
+        return EventResource.builder()
+            .metadata(fill(Metadata.builder())
+                .id(id)
+                .build())
+            .entity(fill(EventEntity.builder(), "event-")
+                .timestamp(timestamp)
+                .build())
+            .build();
+    }
+
+    private Flux<EventResource> eventsSince(String timestamp) {
+        this.requested.add(timestamp);
+
+        return Flux.fromIterable(this.events.stream()
+            .filter(event -> event.getEntity().getTimestamp().compareTo(timestamp) >= 0)
+            .collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public final class FileCheckpointStoreTest {
+
+    private final Path directory;
+
+    private final FileCheckpointStore checkpointStore;
+
+    public FileCheckpointStoreTest() throws IOException {
+        this.directory = Files.createTempDirectory("checkpoints");
+        this.checkpointStore = new FileCheckpointStore(this.directory.resolve("nested"));
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        Files.walk(this.directory)
+            .sorted((a, b) -> b.compareTo(a))
+            .forEach(path -> path.toFile().delete());
+    }
+
+    @Test
+    public void loadMissing() {
+        assertNull(this.checkpointStore.load("test-key").block());
+    }
+
+    @Test
+    public void saveAndLoad() throws IOException {
+        this.checkpointStore.save("test-key", "test-checkpoint-1").block();
+        this.checkpointStore.save("test-key", "test-checkpoint-2").block();
+
+        assertEquals("test-checkpoint-2", this.checkpointStore.load("test-key").block());
+        assertEquals("test-checkpoint-2", new FileCheckpointStore(this.directory.resolve("nested")).load("test-key").block());
+        assertFalse(Files.list(this.directory.resolve("nested")).anyMatch(path -> path.toString().endsWith(".tmp")));
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+
+public final class OrderedPagePublisherTest {
+
+    @Test
+    public void backpressure() {
+        List<Integer> fetched = new ArrayList<>();
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        new OrderedPagePublisher<>(page -> {
+            fetched.add(page);
+            return Mono.just(page);
+        }, 1, 100, 3)
+            .subscribe(new Subscriber<Integer>() {
+
+                @Override
+                public void onComplete() {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onNext(Integer page) {
+                    received.add(page);
+                }
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription.set(s);
+                }
+
+            });
+
+        assertEquals(Arrays.asList(1, 2, 3), fetched);
+        assertEquals(Collections.emptyList(), received);
+
+        subscription.get().request(5);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), received);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), fetched);
+
+        subscription.get().request(1);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), received);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), fetched);
+    }
+
+}
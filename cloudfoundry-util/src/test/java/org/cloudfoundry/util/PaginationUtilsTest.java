@@ -20,18 +20,67 @@ import org.cloudfoundry.client.v2.Metadata;
 import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
 import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.Pagination;
+import org.cloudfoundry.client.v3.tasks.ListTasksResponse;
+import org.cloudfoundry.client.v3.tasks.TaskResource;
+import org.cloudfoundry.uaa.users.ListUsersResponse;
+import org.cloudfoundry.uaa.users.User;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.cloudfoundry.util.test.TestObjects.fill;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public final class PaginationUtilsTest {
 
+    @Test
+    public void clientV3PageStreamManyNextLinks() {
+        long count = PaginationUtils
+            .requestClientV3Pages(page -> Mono.just(testListTasksResponse(page, null, page < 10_000)))
+            .count()
+            .block();
+
+        assertEquals(10_000, count);
+    }
+
+    @Test
+    public void clientV3PageStreamNextLinks() {
+        List<String> expected = Arrays.asList("test-id-1", "test-id-2", "test-id-3");
+
+        List<String> actual = PaginationUtils
+            .requestClientV3Resources(page -> Mono.just(testListTasksResponse(page, null, page < 3)))
+            .map(TaskResource::getId)
+            .collectList()
+            .block();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void clientV3PageStreamTotalPages() {
+        List<String> expected = Arrays.asList("test-id-1", "test-id-2", "test-id-3");
+
+        List<String> actual = PaginationUtils
+            .requestClientV3Resources(page -> Mono.just(testListTasksResponse(page, 3, page < 3)), 2)
+            .map(TaskResource::getId)
+            .collectList()
+            .block();
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void pageStream() {
         List<SpaceResource> expected = Arrays.asList(testSpaceResource(1), testSpaceResource(2), testSpaceResource(3));
@@ -45,6 +94,63 @@ public final class PaginationUtilsTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void pageStreamBoundedConcurrency() {
+        Map<Integer, MonoProcessor<ListSpacesResponse>> pages = new TreeMap<>();
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger maxOutstanding = new AtomicInteger();
+
+        List<String> actual = new ArrayList<>();
+        PaginationUtils
+            .requestPages(i -> {
+                if (i == 1) {
+                    return testPaginatedResponsePublisher(i, 10);
+                }
+
+                maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+                MonoProcessor<ListSpacesResponse> page = MonoProcessor.create();
+                pages.put(i, page);
+                return page.doOnSuccess(r -> outstanding.decrementAndGet());
+            }, 3)
+            .subscribe(response -> actual.add(response.getResources().get(0).getMetadata().getId()));
+
+        assertEquals(Arrays.asList(2, 3, 4), new ArrayList<>(pages.keySet()));
+
+        pages.get(4).onNext(testPaginatedResponse(4, 10));
+        pages.get(3).onNext(testPaginatedResponse(3, 10));
+        assertEquals(Collections.singletonList("test-id-1"), actual);
+        assertEquals(3, pages.size());
+
+        for (int i = 2; i <= 10; i++) {
+            if (i != 3 && i != 4) {
+                pages.get(i).onNext(testPaginatedResponse(i, 10));
+            }
+        }
+
+        assertEquals(Arrays.asList("test-id-1", "test-id-2", "test-id-3", "test-id-4", "test-id-5", "test-id-6", "test-id-7", "test-id-8", "test-id-9", "test-id-10"), actual);
+        assertEquals(3, maxOutstanding.get());
+    }
+
+    @Test
+    public void pageStreamError() {
+        AtomicInteger requested = new AtomicInteger();
+
+        try {
+            PaginationUtils
+                .requestPages(i -> {
+                    requested.incrementAndGet();
+                    return i == 2 ? Mono.<ListSpacesResponse>error(new IllegalArgumentException("test-message")) : testPaginatedResponsePublisher(i, 10);
+                }, 1)
+                .collectList()
+                .block();
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("test-message", e.getMessage());
+        }
+
+        assertEquals(2, requested.get());
+    }
+
     @Test(expected = IllegalStateException.class)
     public void pageStreamNoTotalPages() {
         PaginationUtils
@@ -68,14 +174,67 @@ public final class PaginationUtilsTest {
         assertEquals(expected, actual);
     }
 
-    private static Mono<ListSpacesResponse> testPaginatedResponsePublisher(int i, int totalNumber) {
-        ListSpacesResponse response = ListSpacesResponse.builder()
+    @Test
+    public void uaaPageStream() {
+        List<Integer> startIndexes = new ArrayList<>();
+
+        List<String> actual = PaginationUtils
+            .requestUaaResources(startIndex -> {
+                startIndexes.add(startIndex);
+                return Mono.just(testListUsersResponse(startIndex, 2, 5));
+            })
+            .map(User::getId)
+            .collectList()
+            .block();
+
+        assertEquals(Arrays.asList(1, 3, 5), startIndexes);
+        assertEquals(Arrays.asList("test-id-1", "test-id-2", "test-id-3", "test-id-4", "test-id-5"), actual);
+    }
+
+    private static ListTasksResponse testListTasksResponse(int page, Integer totalPages, boolean hasNext) {
+        return ListTasksResponse.builder()
+            .pagination(Pagination.builder()
+                .first(Link.builder()
+                    .href("https://api.run.pivotal.io/v3/tasks?page=1")
+                    .build())
+                .next(hasNext ? Link.builder()
+                    .href(String.format("https://api.run.pivotal.io/v3/tasks?page=%d", page + 1))
+                    .build() : null)
+                .totalPages(totalPages)
+                .totalResults(3)
+                .build())
+            .resource(fill(TaskResource.builder())
+                .id("test-id-" + page)
+                .build())
+            .build();
+    }
+
+    private static ListUsersResponse testListUsersResponse(int startIndex, int itemsPerPage, int totalResults) {
+        ListUsersResponse.Builder builder = ListUsersResponse.builder()
+            .itemsPerPage(itemsPerPage)
+            .schema("urn:scim:schemas:core:1.0")
+            .startIndex(startIndex)
+            .totalResults(totalResults);
+
+        for (int i = startIndex; i < startIndex + itemsPerPage && i <= totalResults; i++) {
+            builder.resource(fill(User.builder())
+                .id("test-id-" + i)
+                .build());
+        }
+
+        return builder.build();
+    }
+
+    private static ListSpacesResponse testPaginatedResponse(int i, int totalNumber) {
+        return ListSpacesResponse.builder()
             .totalPages(totalNumber)
             .totalResults(1)
             .resource(testSpaceResource(i))
             .build();
+    }
 
-        return Mono.just(response);
+    private static Mono<ListSpacesResponse> testPaginatedResponsePublisher(int i, int totalNumber) {
+        return Mono.just(testPaginatedResponse(i, totalNumber));
     }
 
     private static SpaceResource testSpaceResource(int i) {
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2013-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.cloudfoundry.util.test.TestObjects.fill;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class UsageEventUtilsTest {
+
+    private static final List<String> EVENTS = Arrays.asList("test-id-1", "test-id-2", "test-id-3", "test-id-4", "test-id-5");
+
+    private final TestCheckpointStore checkpointStore = new TestCheckpointStore();
+
+    private final List<String> handled = new ArrayList<>();
+
+    private final List<String> requested = new ArrayList<>();
+
+    @Test
+    public void handlerFailure() {
+        try {
+            UsageEventUtils
+                .synchronize(this.checkpointStore, "test-key", this::page, resources -> {
+                    if (this.handled.size() >= 2) {
+                        return Mono.error(new IllegalStateException("test-message"));
+                    }
+
+                    return handle(resources);
+                })
+                .block();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("test-message", e.getMessage());
+        }
+
+        assertEquals("test-id-2", this.checkpointStore.checkpoints.get("test-key"));
+
+        long count = UsageEventUtils
+            .synchronize(this.checkpointStore, "test-key", this::page, this::handle)
+            .block();
+
+        assertEquals(3, count);
+        assertEquals(EVENTS, this.handled);
+    }
+
+    @Test
+    public void manyPages() {
+        long count = UsageEventUtils
+            .synchronize(this.checkpointStore, "test-key", afterId -> {
+                int next = afterId == null ? 0 : Integer.parseInt(afterId) + 1;
+
+                return Mono.just(ListSpacesResponse.builder()
+                    .resources(next < 10_000 ? Collections.singletonList(testSpaceResource(String.valueOf(next))) : Collections.emptyList())
+                    .build());
+            }, resources -> Mono.empty())
+            .block();
+
+        assertEquals(10_000, count);
+        assertEquals("9999", this.checkpointStore.checkpoints.get("test-key"));
+    }
+
+    @Test
+    public void resume() {
+        this.checkpointStore.checkpoints.put("test-key", "test-id-3");
+
+        long count = UsageEventUtils
+            .synchronize(this.checkpointStore, "test-key", this::page, this::handle)
+            .block();
+
+        assertEquals(2, count);
+        assertEquals(Arrays.asList("test-id-4", "test-id-5"), this.handled);
+        assertEquals("test-id-5", this.checkpointStore.checkpoints.get("test-key"));
+    }
+
+    @Test
+    public void synchronize() {
+        long count = UsageEventUtils
+            .synchronize(this.checkpointStore, "test-key", this::page, this::handle)
+            .block();
+
+        assertEquals(5, count);
+        assertEquals(EVENTS, this.handled);
+        assertEquals(Arrays.asList(null, "test-id-2", "test-id-4", "test-id-5"), this.requested);
+        assertEquals("test-id-5", this.checkpointStore.checkpoints.get("test-key"));
+    }
+
+    @Test
+    public void upToDate() {
+        this.checkpointStore.checkpoints.put("test-key", "test-id-5");
+
+        long count = UsageEventUtils
+            .synchronize(this.checkpointStore, "test-key", this::page, this::handle)
+            .block();
+
+        assertEquals(0, count);
+        assertEquals(Collections.emptyList(), this.handled);
+    }
+
+    private static SpaceResource testSpaceResource(String id) {
+        return SpaceResource.builder()
+            .metadata(fill(Metadata.builder())
+                .id(id)
+                .build())
+            .entity(fill(SpaceEntity.builder())
+                .build())
+            .build();
+    }
+
+    private Mono<Void> handle(List<SpaceResource> resources) {
+        resources.stream()
+            .map(ResourceUtils::getId)
+            .forEach(this.handled::add);
+
+        return Mono.empty();
+    }
+
+    private Mono<ListSpacesResponse> page(String afterId) {
+        this.requested.add(afterId);
+
+        int start = afterId == null ? 0 : EVENTS.indexOf(afterId) + 1;
+
+        return Mono.just(ListSpacesResponse.builder()
+            .resources(EVENTS.subList(start, Math.min(start + 2, EVENTS.size())).stream()
+                .map(UsageEventUtilsTest::testSpaceResource)
+                .collect(Collectors.toList()))
+            .totalPages(1)
+            .totalResults(2)
+            .build());
+    }
+
+    private static final class TestCheckpointStore implements CheckpointStore {
+
+        private final Map<String, String> checkpoints = new HashMap<>();
+
+        @Override
+        public Mono<String> load(String key) {
+            return Mono.defer(() -> this.checkpoints.containsKey(key) ? Mono.just(this.checkpoints.get(key)) : Mono.<String>empty());
+        }
+
+        @Override
+        public Mono<Void> save(String key, String checkpoint) {
+            return Mono.defer(() -> {
+                this.checkpoints.put(key, checkpoint);
+                return Mono.<Void>empty();
+            });
+        }
+
+    }
+
+}